@@ -0,0 +1,75 @@
+package com.yoganavi.lecture.common.config;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * id 시퀀스 테이블(*_seq) 준비
+ * <p>
+ * live_lectures, lecture_schedules, my_live_lectures는 AUTO_INCREMENT 대신 Hibernate pooled 시퀀스(MySQL에서는
+ * *_seq 테이블)로 id를 할당한다. 이미 행이 있는 테이블에서 시퀀스가 1부터 시작하면 기존 id와 겹치므로, 기동 시 배치 작업과
+ * 요청 처리가 시작되기 전에 시퀀스 테이블을 만들고 next_val을 MAX(id) + allocationSize 이상으로 올린다. pooled 최적화는
+ * 읽은 값에서 allocationSize - 1을 뺀 값부터 id를 쓰므로 첫 id는 MAX(id) + 1이 된다. 이미 충분히 큰 값은 그대로 둔다.
+ * <p>
+ * 아래와 같은 일회성 SQL과 같은 작업이다.
+ * <pre>
+ * UPDATE lecture_schedules_seq
+ * SET next_val = (SELECT COALESCE(MAX(schedule_id), 0) + 100 FROM lecture_schedules);
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+        new IdSequence("live_lectures_seq", "live_lectures", "live_id",
+            LiveLectures.ID_ALLOCATION_SIZE),
+        new IdSequence("lecture_schedules_seq", "lecture_schedules", "schedule_id",
+            LectureSchedule.ID_ALLOCATION_SIZE),
+        new IdSequence("my_live_lectures_seq", "my_live_lectures", "my_list_id",
+            MyLiveLecture.ID_ALLOCATION_SIZE)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록 의존한다
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        for (IdSequence sequence : SEQUENCES) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + sequence.getSequenceTable()
+                + " (next_val BIGINT)");
+            jdbcTemplate.update("INSERT INTO " + sequence.getSequenceTable() + " (next_val) "
+                + "SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM "
+                + sequence.getSequenceTable() + ")");
+
+            String seed = "(SELECT COALESCE(MAX(" + sequence.getIdColumn() + "), 0) + "
+                + sequence.getAllocationSize() + " FROM " + sequence.getTable() + ")";
+            int updated = jdbcTemplate.update("UPDATE " + sequence.getSequenceTable()
+                + " SET next_val = " + seed + " WHERE next_val < " + seed);
+            if (updated > 0) {
+                log.info("id 시퀀스 초기화: {}, 기존 최대 id 이후부터 할당", sequence.getSequenceTable());
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class IdSequence {
+
+        private final String sequenceTable;     // Hibernate 시퀀스 테이블
+        private final String table;             // id를 쓰는 테이블
+        private final String idColumn;
+        private final int allocationSize;       // @SequenceGenerator의 allocationSize
+    }
+}
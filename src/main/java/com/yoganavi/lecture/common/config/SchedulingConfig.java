@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치 작업 스케줄링 (scheduling.enabled=false로 끌 수 있음)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduling", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,88 @@
+package com.yoganavi.lecture.common.config;
+
+import java.security.Principal;
+import java.util.Map;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * 강의 상태 알림용 STOMP over WebSocket 설정
+ * <p>
+ * 구독 경로: /topic/lectures/{liveId} (방송 상태, 일정 변경), /user/queue/home (내 강의 일정 변경)
+ * <p>
+ * 연결마다 전송 버퍼 한도(SEND_BUFFER_SIZE_LIMIT)와 전송 시간 한도(SEND_TIME_LIMIT_MS)를 두어, 메시지를 받지
+ * 못하는 연결은 끊고 다른 연결의 전송이 밀리지 않도록 한다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private static final String ENDPOINT = "/live-lecture/ws";
+    private static final int MESSAGE_SIZE_LIMIT = 16 * 1024;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 256 * 1024;
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final long[] HEARTBEAT_MS = {25_000, 25_000};
+    private static final int OUTBOUND_THREADS = 8;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint(ENDPOINT)
+            .setHandshakeHandler(new UserIdHandshakeHandler())
+            .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        registry.enableSimpleBroker("/topic", "/queue")
+            .setHeartbeatValue(HEARTBEAT_MS)
+            .setTaskScheduler(heartbeatScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+        // 연결마다 보낸 순서대로 전달 (전송 스레드가 여러 개라도 방송 상태 순서가 뒤바뀌지 않도록)
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(MESSAGE_SIZE_LIMIT)
+            .setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT)
+            .setSendTimeLimit(SEND_TIME_LIMIT_MS);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(OUTBOUND_THREADS)
+            .maxPoolSize(OUTBOUND_THREADS);
+    }
+
+    /**
+     * 게이트웨이가 넣어 주는 X-User-Id 헤더로 연결 사용자를 정한다. (/user/queue/home 구독에 사용)
+     */
+    private static class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+
+        @Override
+        protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+            String userId = request.getHeaders().getFirst("X-User-Id");
+            if (userId == null || userId.isBlank()) {
+                return super.determineUser(request, wsHandler, attributes);
+            }
+            return () -> userId;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.yoganavi.lecture.common.document;
 
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.RecordedLectureChapter;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.elasticsearch.annotations.*;
 
+/**
+ * 녹화 강의 검색 문서
+ * <p>
+ * 검색 결과 카드에 필요한 값(강사 닉네임, 썸네일, 좋아요 수)을 모두 담아 검색 결과를 DB 조회 없이 만든다.
+ * likeCount는 마지막으로 색인한 시점의 값이다. version은 색인을 요청한 검색 아웃박스 id로, 외부 버전으로 색인해 늦게
+ * 도착한 이전 변경이 최신 문서를 덮어쓰지 않게 한다.
+ */
 @Getter
 @Setter
 @Document(indexName = "recorded_lectures")
@@ -15,6 +27,9 @@ public class RecordedLectureDocument {
     @Id
     private Long id;
 
+    @Version
+    private Long version;
+
     @Field(type = FieldType.Nested)
     private InstructorInfo instructor;
 
@@ -27,9 +42,75 @@ public class RecordedLectureDocument {
     @Field(type = FieldType.Nested)
     private List<ChapterInfo> chapters;
 
+    @Field(type = FieldType.Keyword, index = false)
+    private String thumbnail;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private String thumbnailSmall;
+
+    @Field(type = FieldType.Long)
+    private Long likeCount;
+
     @Field(type = FieldType.Date)
     private LocalDateTime createdDate;
 
+    @Field(type = FieldType.Date)
+    private LocalDateTime lastModifiedDate;
+
+    /**
+     * 강의 엔티티로 검색 문서 생성 (강사와 챕터를 읽으므로 트랜잭션 안에서 호출)
+     */
+    public static RecordedLectureDocument from(RecordedLecture lecture) {
+        RecordedLectureDocument document = new RecordedLectureDocument();
+        document.setId(lecture.getId());
+
+        InstructorInfo instructor = new InstructorInfo();
+        instructor.setUserId(lecture.getUser().getUserId());
+        instructor.setNickname(lecture.getUser().getNickname());
+        document.setInstructor(instructor);
+
+        document.setTitle(lecture.getTitle());
+        document.setContent(lecture.getContent());
+
+        List<ChapterInfo> chapters = new ArrayList<>();
+        if (lecture.getChapters() != null) {
+            for (RecordedLectureChapter chapter : lecture.getChapters()) {
+                ChapterInfo chapterInfo = new ChapterInfo();
+                chapterInfo.setId(chapter.getId());
+                chapterInfo.setTitle(chapter.getTitle());
+                chapterInfo.setDescription(chapter.getDescription());
+                chapters.add(chapterInfo);
+            }
+        }
+        document.setChapters(chapters);
+
+        document.setThumbnail(lecture.getThumbnail());
+        document.setThumbnailSmall(lecture.getThumbnailSmall());
+        document.setLikeCount(lecture.getLikeCount());
+        document.setCreatedDate(lecture.getCreatedDate());
+        document.setLastModifiedDate(lecture.getLastModifiedDate());
+        return document;
+    }
+
+    /**
+     * 검색 결과 카드용 DTO (myLike는 false, 호출하는 쪽에서 채운다)
+     */
+    public LectureDto toLectureDto() {
+        return new LectureDto(
+            id,
+            instructor != null ? instructor.getUserId() : null,
+            instructor != null ? instructor.getNickname() : null,
+            title,
+            content,
+            thumbnail,
+            thumbnailSmall,
+            likeCount != null ? likeCount : 0L,
+            createdDate,
+            lastModifiedDate,
+            false
+        );
+    }
+
 }
 
 @Setter
@@ -0,0 +1,63 @@
+package com.yoganavi.lecture.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 수강 내역 (일정 종료 시 한 번 기록되는 추가 전용 테이블)
+ * <p>
+ * 수강 내역 조회 시 강의/사용자/일정/수강 정보를 조인하지 않도록 필요한 값을 복사해 둔다.
+ * 강사 본인의 강의 일정과 수강생이 신청한 일정이 각각 한 행으로 기록된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "attendance_history",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_attendance_user_schedule",
+            columnNames = {"user_id", "schedule_id"})
+    },
+    indexes = {
+        @Index(name = "idx_attendance_user_start_time",
+            columnList = "user_id, start_time, schedule_id")
+    })
+public class AttendanceHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long scheduleId;
+
+    @Column(nullable = false)
+    private Long liveId;
+
+    @Column(length = 30, nullable = false)
+    private String liveTitle;
+
+    private String nickname;    // 강사 닉네임
+
+    private String profileImageUrlSmall;    // 강사 프로필 이미지
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
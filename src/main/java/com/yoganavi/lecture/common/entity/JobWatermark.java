@@ -0,0 +1,50 @@
+package com.yoganavi.lecture.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 진행 위치 (마지막으로 처리한 일정의 종료 시간, id)
+ * <p>
+ * 작업은 (endTime, scheduleId)가 워터마크보다 큰 일정만 읽으므로 실행마다 처리량이 일정하다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "job_watermarks")
+public class JobWatermark {
+
+    // 최초 실행 시 전체 일정을 처음부터 처리
+    public static final LocalDateTime INITIAL_END_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    @Column(nullable = false)
+    private LocalDateTime lastEndTime;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    private LocalDateTime updatedAt;
+
+    public static JobWatermark initial(String jobName) {
+        JobWatermark watermark = new JobWatermark();
+        watermark.jobName = jobName;
+        watermark.lastEndTime = INITIAL_END_TIME;
+        watermark.lastId = 0L;
+        return watermark;
+    }
+
+    public void advance(LocalDateTime endTime, Long id) {
+        this.lastEndTime = endTime;
+        this.lastId = id;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,184 @@
+package com.yoganavi.lecture.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 강의 반복 규칙 (요일, 시간대, 기간)
+ * <p>
+ * 일정은 이 규칙을 펼쳐서 만든다. lecture_schedules에는 materializedUntil까지의 일정만 저장하고, 그 이후 일정은
+ * 조회 구간에 맞춰 그때그때 계산한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureRecurrence {
+
+    // lecture_schedules에 미리 만들어 두는 기간
+    public static final Period MATERIALIZE_HORIZON = Period.ofWeeks(8);
+
+    @Column(name = "recurrence_start_date")
+    private LocalDate startDate;    // 강의 시작일
+
+    @Column(name = "recurrence_end_date")
+    private LocalDate endDate;      // 강의 종료일
+
+    @Column(name = "recurrence_start_time")
+    private LocalTime startTime;    // 매회 시작 시간
+
+    @Column(name = "recurrence_end_time")
+    private LocalTime endTime;      // 매회 종료 시간
+
+    @Column(name = "recurrence_days")
+    private Integer dayMask;        // 강의 요일 비트마스크 (월요일 = 1, 일요일 = 64)
+
+    @Column(name = "materialized_until")
+    private LocalDate materializedUntil;    // lecture_schedules에 일정이 만들어진 마지막 날짜
+
+    public static LectureRecurrence of(LocalDate startDate, LocalDate endDate,
+        LocalTime startTime, LocalTime endTime, Collection<DayOfWeek> days) {
+        LectureRecurrence recurrence = new LectureRecurrence();
+        recurrence.startDate = startDate;
+        recurrence.endDate = endDate;
+        recurrence.startTime = startTime;
+        recurrence.endTime = endTime;
+        recurrence.dayMask = toMask(days);
+        recurrence.materializedUntil = startDate.minusDays(1);
+        return recurrence;
+    }
+
+    public static int toMask(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    public static Set<DayOfWeek> toDays(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * 요일 비트마스크를 요일 코드로 변환 (예: MON,WED,FRI)
+     */
+    public static String toDayCodes(int mask) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (DayOfWeek day : toDays(mask)) {
+            joiner.add(day.name().substring(0, 3));
+        }
+        return joiner.toString();
+    }
+
+    public Set<DayOfWeek> getDays() {
+        return toDays(dayMask);
+    }
+
+    /**
+     * 강의 요일 코드 (예: MON,WED,FRI)
+     */
+    public String getAvailableDay() {
+        return toDayCodes(dayMask);
+    }
+
+    /**
+     * 해당 날짜가 반복 규칙에 포함되는지 확인 (취소 여부는 보지 않는다)
+     */
+    public boolean occursOn(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate)
+            && (dayMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+    }
+
+    /**
+     * [from, to] 구간의 일정 날짜를 순서대로 반환
+     */
+    public List<LocalDate> occurrenceDates(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = from.isBefore(startDate) ? startDate : from;
+        LocalDate last = to.isAfter(endDate) ? endDate : to;
+        while (!date.isAfter(last)) {
+            if (occursOn(date)) {
+                dates.add(date);
+            }
+            date = date.plusDays(1);
+        }
+        return dates;
+    }
+
+    /**
+     * 취소된 날짜를 제외한 첫 일정 날짜 (일정이 없으면 null)
+     */
+    public LocalDate firstOccurrence(Set<LocalDate> excluded) {
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (occursOn(date) && !excluded.contains(date)) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * from 이후(당일 포함) 취소된 날짜를 제외한 첫 일정 날짜 (일정이 없으면 null)
+     */
+    public LocalDate nextOccurrence(LocalDate from, Set<LocalDate> excluded) {
+        LocalDate date = from.isBefore(startDate) ? startDate : from;
+        for (; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (occursOn(date) && !excluded.contains(date)) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 취소된 날짜를 제외한 마지막 일정 날짜 (일정이 없으면 null)
+     */
+    public LocalDate lastOccurrence(Set<LocalDate> excluded) {
+        for (LocalDate date = endDate; !date.isBefore(startDate); date = date.minusDays(1)) {
+            if (occursOn(date) && !excluded.contains(date)) {
+                return date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 아직 일정이 만들어지지 않은 첫 날짜
+     */
+    public LocalDate nextUnmaterializedDate() {
+        if (materializedUntil == null || materializedUntil.isBefore(startDate)) {
+            return startDate;
+        }
+        return materializedUntil.plusDays(1);
+    }
+
+    public boolean isFullyMaterialized() {
+        return materializedUntil != null && !materializedUntil.isBefore(endDate);
+    }
+
+    void markMaterializedUntil(LocalDate date) {
+        LocalDate capped = date.isAfter(endDate) ? endDate : date;
+        if (materializedUntil == null || capped.isAfter(materializedUntil)) {
+            materializedUntil = capped;
+        }
+    }
+}
@@ -16,11 +16,20 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "lecture_schedules")
+@Table(name = "lecture_schedules",
+    indexes = {
+        @Index(name = "idx_schedule_start_time", columnList = "start_time, schedule_id"),
+        @Index(name = "idx_schedule_lecture_start_time", columnList = "live_id, start_time"),
+        @Index(name = "idx_schedule_end_time", columnList = "end_time, schedule_id")
+    })
 public class LectureSchedule {
 
+    public static final int ID_ALLOCATION_SIZE = 100;   // 시퀀스 테이블에서 한 번에 할당받는 id 수
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecture_schedule_seq")
+    @SequenceGenerator(name = "lecture_schedule_seq", sequenceName = "lecture_schedules_seq",
+        allocationSize = ID_ALLOCATION_SIZE)
     private Long scheduleId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +42,10 @@ public class LectureSchedule {
     @Column(nullable = false)
     private LocalDateTime endTime;   // 강의 종료 시간
 
+    // 수강 신청된 좌석 수, 좌석 예약/반환 UPDATE로만 변경한다 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
+    private int reservedSeats = 0;
+
     public LocalDate getLectureDate() {
         return startTime.toLocalDate();
     }
@@ -2,6 +2,7 @@ package com.yoganavi.lecture.common.entity;
 
 import jakarta.persistence.*;
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -22,8 +23,12 @@ import lombok.Setter;
 @Table(name = "live_lectures")
 public class LiveLectures {
 
+    public static final int ID_ALLOCATION_SIZE = 50;    // 시퀀스 테이블에서 한 번에 할당받는 id 수
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "live_lecture_seq")
+    @SequenceGenerator(name = "live_lecture_seq", sequenceName = "live_lectures_seq",
+        allocationSize = ID_ALLOCATION_SIZE)
     private Long liveId;    // 강의 고유 식별자
 
     @Column(length = 30, nullable = false)
@@ -54,6 +59,32 @@ public class LiveLectures {
     @Column
     private LocalDateTime deletedAt;
 
+    @Column
+    private LocalDateTime firstStartTime;   // 첫 일정 시작 시간 (요약)
+
+    @Column
+    private LocalDateTime lastEndTime;      // 마지막 일정 종료 시간 (요약)
+
+    @Column
+    private LocalTime dailyStartTime;       // 강의 시작 시간 (요약)
+
+    @Column
+    private LocalTime dailyEndTime;         // 강의 종료 시간 (요약)
+
+    @Column
+    private Integer availableDayMask;       // 강의 요일 비트마스크 (요약, 월요일 = 1, 일요일 = 64)
+
+    @Embedded
+    private LectureRecurrence recurrence;   // 반복 규칙 (일정은 materializedUntil까지만 저장)
+
+    @ElementCollection
+    @CollectionTable(name = "lecture_schedule_exceptions",
+        joinColumns = @JoinColumn(name = "live_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_schedule_exception_date",
+            columnNames = {"live_id", "cancelled_date"}))
+    @Column(name = "cancelled_date", nullable = false)
+    private Set<LocalDate> cancelledDates = new HashSet<>();    // 취소된 일정 날짜 (반복 규칙의 예외)
+
     public void validateModifiable() {
         if (Boolean.TRUE.equals(this.isDeleted)) {
             throw new IllegalStateException("삭제된 강의는 수정할 수 없습니다.");
@@ -96,106 +127,71 @@ public class LiveLectures {
         return false;
     }
 
-    /**
-     * 첫 시작 시간 반환
-     */
-    public LocalDateTime getFirstStartTime() {
-        if (schedules.isEmpty()) {
-            return null;
-        }
-
-        LocalDateTime firstStart = null;
-        for (LectureSchedule schedule : schedules) {
-            if (firstStart == null || schedule.getStartTime().isBefore(firstStart)) {
-                firstStart = schedule.getStartTime();
-            }
-        }
-        return firstStart;
-    }
-
-    /**
-     * 마지막 종료 시간 반환
-     */
-    public LocalDateTime getLastEndTime() {
-        if (schedules.isEmpty()) {
-            return null;
-        }
-
-        LocalDateTime lastEnd = null;
-        for (LectureSchedule schedule : schedules) {
-            if (lastEnd == null || schedule.getEndTime().isAfter(lastEnd)) {
-                lastEnd = schedule.getEndTime();
-            }
-        }
-        return lastEnd;
-    }
-
     /**
      * 강의 시작 시간
      */
     public LocalTime getLectureStartTime() {
-        LocalDateTime startTime = getFirstStartTime();
-        if (startTime == null) {
-            return null;
-        }
-        return startTime.toLocalTime();
+        return dailyStartTime;
     }
 
     /**
      * 강의 종료 시간
      */
     public LocalTime getLectureEndTime() {
-        LocalDateTime endTime = getLastEndTime();
-        if (endTime == null) {
-            return null;
-        }
-        return endTime.toLocalTime();
+        return dailyEndTime;
     }
 
     /**
      * 스케줄 요일 정보 반환
      */
     public String getAvailableDay() {
-        if (schedules.isEmpty()) {
+        if (availableDayMask == null) {
             return "";
         }
+        return LectureRecurrence.toDayCodes(availableDayMask);
+    }
 
-        Set<String> uniqueDays = new HashSet<>();
-        StringBuilder days = new StringBuilder();
+    /**
+     * 강의 요약 정보(첫 일정, 마지막 일정, 강의 시간, 요일) 갱신
+     * <p>
+     * 저장된 일정과 반복 규칙(취소된 날짜 제외)을 합쳐 계산한다. 일정이 바뀔 때마다 호출해서 목록 조회가
+     * lecture_schedules를 읽지 않도록 한다.
+     */
+    public void refreshSummary() {
+        LocalDateTime first = null;
+        LocalDateTime last = null;
+        Set<DayOfWeek> days = new HashSet<>();
 
         for (LectureSchedule schedule : schedules) {
-            String dayCode = convertDayOfWeekToCode(schedule.getDayOfWeek());
-            if (!uniqueDays.contains(dayCode)) {
-                if (days.length() > 0) {
-                    days.append(",");
-                }
-                days.append(dayCode);
-                uniqueDays.add(dayCode);
+            if (first == null || schedule.getStartTime().isBefore(first)) {
+                first = schedule.getStartTime();
+            }
+            if (last == null || schedule.getEndTime().isAfter(last)) {
+                last = schedule.getEndTime();
             }
+            days.add(schedule.getDayOfWeek());
         }
 
-        return days.toString();
-    }
-
-    private String convertDayOfWeekToCode(DayOfWeek dayOfWeek) {
-        switch (dayOfWeek) {
-            case MONDAY:
-                return "MON";
-            case TUESDAY:
-                return "TUE";
-            case WEDNESDAY:
-                return "WED";
-            case THURSDAY:
-                return "THU";
-            case FRIDAY:
-                return "FRI";
-            case SATURDAY:
-                return "SAT";
-            case SUNDAY:
-                return "SUN";
-            default:
-                throw new IllegalArgumentException("유효하지 않은 요일: " + dayOfWeek);
+        if (recurrence != null) {
+            LocalDate firstDate = recurrence.firstOccurrence(cancelledDates);
+            if (firstDate != null) {
+                LocalDateTime ruleFirst = firstDate.atTime(recurrence.getStartTime());
+                LocalDateTime ruleLast = recurrence.lastOccurrence(cancelledDates)
+                    .atTime(recurrence.getEndTime());
+                first = first == null || ruleFirst.isBefore(first) ? ruleFirst : first;
+                last = last == null || ruleLast.isAfter(last) ? ruleLast : last;
+            }
+            days.addAll(recurrence.getDays());
+            this.dailyStartTime = recurrence.getStartTime();
+            this.dailyEndTime = recurrence.getEndTime();
+        } else {
+            this.dailyStartTime = first == null ? null : first.toLocalTime();
+            this.dailyEndTime = last == null ? null : last.toLocalTime();
         }
+
+        this.firstStartTime = first;
+        this.lastEndTime = last;
+        this.availableDayMask = LectureRecurrence.toMask(days);
     }
 
     /**
@@ -225,4 +221,134 @@ public class LiveLectures {
     public void clearFutureSchedules() {
         this.schedules.removeIf(schedule -> !schedule.isCompleted());
     }
+
+    /**
+     * 반복 규칙을 until까지 펼쳐 일정 추가
+     * <p>
+     * 이미 일정이 있는 날짜, 취소된 날짜, notBefore 이전에 시작하는 일정은 건너뛴다.
+     *
+     * @return 새로 추가된 일정
+     */
+    public List<LectureSchedule> materializeUntil(LocalDate until, LocalDateTime notBefore) {
+        Set<LocalDate> scheduledDates = new HashSet<>();
+        for (LectureSchedule schedule : schedules) {
+            scheduledDates.add(schedule.getLectureDate());
+        }
+        return materialize(until, notBefore, scheduledDates);
+    }
+
+    /**
+     * 반복 규칙 변경
+     * <p>
+     * 새 규칙과 날짜, 시간이 같은 일정은 그대로 두고, 새 규칙에 없는 진행 예정 일정을 삭제 대상으로 고른 뒤 빠진 날짜의 일정만
+     * until까지 추가한다. 삭제 대상 일정은 수강생을 옮길 수 있도록 강의에서 바로 제거하지 않는다.
+     */
+    public ScheduleChanges changeRecurrence(LectureRecurrence newRecurrence, LocalDate until,
+        LocalDateTime notBefore) {
+        List<LectureSchedule> removed = new ArrayList<>();
+        Set<LocalDate> keptDates = new HashSet<>();
+        for (LectureSchedule schedule : schedules) {
+            if (schedule.isUpcoming() && !matches(newRecurrence, schedule)) {
+                removed.add(schedule);
+            } else {
+                keptDates.add(schedule.getLectureDate());
+            }
+        }
+
+        this.recurrence = newRecurrence;
+        return new ScheduleChanges(removed, materialize(until, notBefore, keptDates));
+    }
+
+    private boolean matches(LectureRecurrence rule, LectureSchedule schedule) {
+        LocalDate date = schedule.getLectureDate();
+        return rule.occursOn(date)
+            && !cancelledDates.contains(date)
+            && schedule.getStartTime().equals(date.atTime(rule.getStartTime()))
+            && schedule.getEndTime().equals(date.atTime(rule.getEndTime()));
+    }
+
+    private List<LectureSchedule> materialize(LocalDate until, LocalDateTime notBefore,
+        Set<LocalDate> scheduledDates) {
+        List<LectureSchedule> created = new ArrayList<>();
+        if (recurrence == null || recurrence.isFullyMaterialized()) {
+            return created;
+        }
+
+        LocalDate from = recurrence.nextUnmaterializedDate();
+        if (from.isAfter(until)) {
+            return created;
+        }
+
+        for (LocalDate date : recurrence.occurrenceDates(from, until)) {
+            if (cancelledDates.contains(date) || scheduledDates.contains(date)) {
+                continue;
+            }
+            LectureSchedule schedule = LectureSchedule.createSchedule(date,
+                recurrence.getStartTime(), recurrence.getEndTime());
+            if (schedule.getStartTime().isBefore(notBefore)) {
+                continue;
+            }
+            schedule.setLecture(this);
+            schedules.add(schedule);
+            created.add(schedule);
+        }
+        recurrence.markMaterializedUntil(until);
+        refreshSummary();
+        return created;
+    }
+
+    /**
+     * 해당 날짜의 일정 반환 (아직 만들어지지 않았다면 새로 추가)
+     */
+    public LectureSchedule materializeOccurrence(LocalDate date) {
+        LectureSchedule existing = findScheduleOn(date);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (recurrence == null || !recurrence.occursOn(date) || cancelledDates.contains(date)) {
+            throw new IllegalArgumentException("강의 일정이 없는 날짜입니다: " + date);
+        }
+
+        LectureSchedule schedule = LectureSchedule.createSchedule(date,
+            recurrence.getStartTime(), recurrence.getEndTime());
+        schedule.setLecture(this);
+        schedules.add(schedule);
+        return schedule;
+    }
+
+    /**
+     * 해당 날짜의 일정을 취소하고 예외로 기록
+     *
+     * @return 제거된 일정 (만들어지지 않은 일정이었다면 null)
+     */
+    public LectureSchedule cancelOccurrence(LocalDate date) {
+        if (recurrence == null || !recurrence.occursOn(date) || cancelledDates.contains(date)) {
+            throw new IllegalArgumentException("취소할 수 있는 강의 일정이 아닙니다: " + date);
+        }
+
+        LectureSchedule schedule = findScheduleOn(date);
+        LocalDateTime startTime = schedule != null
+            ? schedule.getStartTime()
+            : date.atTime(recurrence.getStartTime());
+        if (!LocalDateTime.now().isBefore(startTime)) {
+            throw new IllegalStateException("이미 시작된 일정은 취소할 수 없습니다.");
+        }
+
+        if (schedule != null) {
+            schedules.remove(schedule);
+        }
+        cancelledDates.add(date);
+        refreshSummary();
+        return schedule;
+    }
+
+    private LectureSchedule findScheduleOn(LocalDate date) {
+        for (LectureSchedule schedule : schedules) {
+            if (schedule.getLectureDate().equals(date)) {
+                return schedule;
+            }
+        }
+        return null;
+    }
 }
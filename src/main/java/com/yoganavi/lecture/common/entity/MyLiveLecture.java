@@ -16,8 +16,12 @@ import lombok.Setter;
     })
 public class MyLiveLecture {
 
+    public static final int ID_ALLOCATION_SIZE = 100;   // 시퀀스 테이블에서 한 번에 할당받는 id 수
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "my_live_lecture_seq")
+    @SequenceGenerator(name = "my_live_lecture_seq", sequenceName = "my_live_lectures_seq",
+        allocationSize = ID_ALLOCATION_SIZE)
     private Long myListId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -8,11 +8,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +28,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Setter
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+    @Index(name = "idx_recorded_lecture_fame",
+        columnList = "like_count DESC, created_at DESC, id DESC")
+})
 public class RecordedLecture {
 
     @Id
@@ -50,6 +56,10 @@ public class RecordedLecture {
     @Column(length = 512)
     private String thumbnailSmall;
 
+    // 좋아요 수 (LikeEventWriteBehind가 모아서 반영, 엔티티 저장으로는 덮어쓰지 않음)
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Long likeCount = 0L;
+
     @OneToMany(mappedBy = "lecture", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<RecordedLectureChapter> chapters;
 
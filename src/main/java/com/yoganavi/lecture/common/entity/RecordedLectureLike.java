@@ -8,13 +8,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "RecordedLectureLike")
+@Table(name = "RecordedLectureLike", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_recorded_lecture_like_lecture_user",
+        columnNames = {"lecture_id", "user_id"})
+})
 public class RecordedLectureLike {
 
     @Id
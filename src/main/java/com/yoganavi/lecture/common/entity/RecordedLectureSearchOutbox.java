@@ -0,0 +1,53 @@
+package com.yoganavi.lecture.common.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 색인에 반영할 녹화 강의 변경 (강의 변경과 같은 트랜잭션에서 기록)
+ * <p>
+ * 변경 내용은 담지 않고 강의 id만 남긴다. 색인할 때 강의의 현재 상태를 읽어 있으면 색인하고 없으면 지운다.
+ * id는 강의별 변경 순서로도 쓰인다. (검색 문서의 버전)
+ * <p>
+ * 반영하는 인스턴스는 행을 claimedUntil까지 선점(claimedBy)하고, 선점 시간이 지난 행은 다른 인스턴스가 다시 가져간다.
+ * 반영에 실패한 행은 attempts를 늘려 강의별로 따로 재시도하고, 너무 많이 실패한 행은 parkedAt을 기록해 더 읽지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "recorded_lecture_search_outbox")
+public class RecordedLectureSearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long lectureId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private String claimedBy;               // 반영 중인 인스턴스
+
+    private LocalDateTime claimedUntil;     // 선점 만료 시각 (재시도 대기 중이면 다음 재시도 시각)
+
+    @Column(nullable = false)
+    private int attempts;                   // 반영에 실패한 횟수
+
+    private LocalDateTime parkedAt;         // 재시도를 멈춘 시각, 비우면 다시 반영한다
+
+    public static RecordedLectureSearchOutbox of(Long lectureId) {
+        RecordedLectureSearchOutbox outbox = new RecordedLectureSearchOutbox();
+        outbox.lectureId = lectureId;
+        outbox.createdAt = LocalDateTime.now();
+        return outbox;
+    }
+}
@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.common.entity;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 반복 규칙 변경으로 바뀌는 일정
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScheduleChanges {
+
+    private final List<LectureSchedule> removed;    // 새 규칙에 없어 삭제할 진행 예정 일정 (아직 강의에 남아있다)
+    private final List<LectureSchedule> created;    // 새 규칙으로 추가된 일정
+}
@@ -1,18 +1,18 @@
 package com.yoganavi.lecture.common.repository;
 
-import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yoganavi.lecture.common.entity.QRecordedLecture;
-import com.yoganavi.lecture.common.entity.QRecordedLectureLike;
-import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.util.FameCursor;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -20,16 +20,63 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class AllRecordedLecturesRepository {
 
+    private static final QRecordedLecture lecture = QRecordedLecture.recordedLecture;
+
     private final JPAQueryFactory queryFactory;
 
-    public List<LectureDto> findAllLectures(Users user, int page, int size, String sort) {
-        QRecordedLecture lecture = QRecordedLecture.recordedLecture;
-        QRecordedLectureLike like = QRecordedLectureLike.recordedLectureLike;
-        NumberPath<Long> likeCount = Expressions.numberPath(Long.class, "likeCount");
+    public List<LectureDto> findAllLectures(int page, int size, String sort) {
+        JPQLQuery<LectureDto> query = selectLectures();
+
+        // 정렬
+        if ("fame".equals(sort)) {
+            query.orderBy(lecture.likeCount.desc(), lecture.createdDate.desc(), lecture.id.desc());
+        } else {
+            query.orderBy(lecture.createdDate.desc());
+        }
+
+        // 페이지네이션
+        query.offset((long) page * size)
+            .limit(size);
+
+        return query.fetch();
+    }
+
+    /**
+     * 인기순 강의 목록 커서 조회
+     * <p>
+     * idx_recorded_lecture_fame (like_count, created_at, id) 인덱스를 커서 위치부터 limit건만 범위로 읽는다.
+     * 조회 사이에 좋아요 수가 바뀐 강의는 다음 페이지에서 빠지거나 다시 나올 수 있다.
+     */
+    public List<LectureDto> findFameLectures(FameCursor after, int limit) {
+        return selectLectures()
+            .where(after(after))
+            .orderBy(lecture.likeCount.desc(), lecture.createdDate.desc(), lecture.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * 주어진 id 순서대로 강의 조회 (인기 급상승 순위 등 외부에서 정한 순서의 페이지를 한 번에 채움)
+     * <p>
+     * 삭제되었거나 강사가 탈퇴한 강의는 결과에서 빠진다.
+     */
+    public List<LectureDto> findLecturesInOrder(List<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return List.of();
+        }
 
-        NumberExpression<Long> likeCountExpression = like.count();
+        Map<Long, LectureDto> lectureById = selectLectures()
+            .where(lecture.id.in(lectureIds))
+            .fetch().stream()
+            .collect(Collectors.toMap(LectureDto::getRecordedId, Function.identity()));
+        return lectureIds.stream()
+            .map(lectureById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
 
-        JPQLQuery<LectureDto> query = queryFactory
+    private JPQLQuery<LectureDto> selectLectures() {
+        return queryFactory
             .select(Projections.constructor(LectureDto.class,
                 lecture.id.as("recordedId"),
                 lecture.user.userId.as("userId"),
@@ -38,34 +85,24 @@ public class AllRecordedLecturesRepository {
                 lecture.content.as("recordContent"),
                 lecture.thumbnail.as("recordThumbnail"),
                 lecture.thumbnailSmall.as("recordThumbnailSmall"),
-                ExpressionUtils.as(
-                    JPAExpressions
-                        .select(likeCountExpression)
-                        .from(like)
-                        .where(like.lecture.eq(lecture)),
-                    likeCount),
+                lecture.likeCount,
                 lecture.createdDate,
                 lecture.lastModifiedDate,
-                JPAExpressions
-                    .selectOne()
-                    .from(like)
-                    .where(like.lecture.eq(lecture).and(like.user.userId.eq(user.getUserId())))
-                    .exists()
+                // myLike는 서비스에서 사용자의 좋아요 강의 집합으로 채운다
+                Expressions.asBoolean(false).as("myLike")
             ))
             .from(lecture)
             .where(lecture.user.isDeleted.eq(false));
+    }
 
-        // 정렬
-        if ("fame".equals(sort)) {
-            query.orderBy(likeCountExpression.desc(), lecture.createdDate.desc());
-        } else {
-            query.orderBy(lecture.createdDate.desc());
+    private BooleanExpression after(FameCursor cursor) {
+        if (cursor == null) {
+            return null;
         }
-
-        // 페이지네이션
-        query.offset((long) page * size)
-            .limit(size);
-
-        return query.fetch();
+        return lecture.likeCount.lt(cursor.getLikeCount())
+            .or(lecture.likeCount.eq(cursor.getLikeCount())
+                .and(lecture.createdDate.lt(cursor.getCreatedDate())
+                    .or(lecture.createdDate.eq(cursor.getCreatedDate())
+                        .and(lecture.id.lt(cursor.getRecordedId())))));
     }
 }
\ No newline at end of file
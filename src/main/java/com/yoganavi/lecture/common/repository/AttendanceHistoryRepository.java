@@ -0,0 +1,68 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.yoganavi.lecture.common.entity.AttendanceHistory;
+import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AttendanceHistoryRepository extends JpaRepository<AttendanceHistory, Long> {
+
+    // 수강 내역 조회 (user_id, start_time 인덱스 범위 조회)
+    @Query("""
+        SELECT new com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto(
+            h.scheduleId,
+            h.liveId,
+            h.nickname,
+            h.profileImageUrlSmall,
+            h.liveTitle,
+            h.startTime,
+            h.endTime,
+            cast(function('date_format', h.startTime, '%a') as string)
+        )
+        FROM AttendanceHistory h
+        WHERE h.userId = :userId
+        ORDER BY h.startTime DESC, h.scheduleId DESC
+        """)
+    List<LectureHistoryDto> findCompletedLectures(
+        @Param("userId") Long userId,
+        Pageable pageable
+    );
+
+    // 종료된 일정의 강사 수강 내역 기록 (이미 기록된 일정은 무시)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO attendance_history
+            (user_id, schedule_id, live_id, live_title, nickname, profile_image_url_small,
+             start_time, end_time, created_at)
+        SELECT l.user_id, s.schedule_id, l.live_id, l.live_title, t.nickname,
+               t.profile_image_url_small, s.start_time, s.end_time, NOW()
+        FROM lecture_schedules s
+        JOIN live_lectures l ON l.live_id = s.live_id
+        JOIN users t ON t.user_id = l.user_id
+        WHERE s.schedule_id IN (:scheduleIds)
+        """, nativeQuery = true)
+    int insertTeacherHistory(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 종료된 일정의 수강생 수강 내역 기록 (이미 기록된 일정은 무시)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO attendance_history
+            (user_id, schedule_id, live_id, live_title, nickname, profile_image_url_small,
+             start_time, end_time, created_at)
+        SELECT ml.user_id, s.schedule_id, l.live_id, l.live_title, t.nickname,
+               t.profile_image_url_small, s.start_time, s.end_time, NOW()
+        FROM my_live_lectures ml
+        JOIN lecture_schedules s ON s.schedule_id = ml.schedule_id
+        JOIN live_lectures l ON l.live_id = s.live_id
+        JOIN users t ON t.user_id = l.user_id
+        WHERE ml.schedule_id IN (:scheduleIds)
+        """, nativeQuery = true)
+    int insertStudentHistory(@Param("scheduleIds") Collection<Long> scheduleIds);
+}
@@ -0,0 +1,146 @@
+package com.yoganavi.lecture.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 수강 정보(my_live_lectures) 일괄 변경
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentBulkRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 수강 정보를 기존 일정에서 새 일정으로 UPDATE 한 번에 이동
+     * <p>
+     * 대상 일정 행을 먼저 잠가 좌석 예약(reserveSeat)과 겹치지 않게 한 뒤 옮길 수강 정보를 고른다. 같은 수강생이 대상 일정을
+     * 이미 수강 중이면 옮기지 않는다(기존 일정에 남는다). 옮길 수강생이 대상 일정의 남은 좌석(max_live_num - reserved_seats)보다
+     * 많으면 아무 행도 바꾸지 않고 IllegalStateException을 던진다. 이동 후 대상 일정의 예약 좌석 수를 실제 수강 정보 수로 다시
+     * 계산한다.
+     *
+     * @param targetBySource 기존 일정 id → 이동할 일정 id
+     */
+    public EnrollmentMoveResult moveEnrollments(Map<Long, Long> targetBySource) {
+        if (targetBySource.isEmpty()) {
+            return new EnrollmentMoveResult(0, 0);
+        }
+        Set<Long> targetIds = new HashSet<>(targetBySource.values());
+
+        Map<Long, Integer> remainingSeats = lockRemainingSeats(targetIds);
+        Set<String> targetEnrollments = new HashSet<>();
+        for (Object[] row : findEnrollments(targetIds)) {
+            targetEnrollments.add(enrollmentKey(toLong(row[1]), toLong(row[2])));
+        }
+
+        List<Long> movedIds = new ArrayList<>();
+        Map<Long, Integer> movingByTarget = new HashMap<>();
+        int duplicated = 0;
+        for (Object[] row : findEnrollments(targetBySource.keySet())) {
+            Long targetId = targetBySource.get(toLong(row[2]));
+            if (!targetEnrollments.add(enrollmentKey(toLong(row[1]), targetId))) {
+                duplicated++;
+                continue;
+            }
+            movingByTarget.merge(targetId, 1, Integer::sum);
+            movedIds.add(toLong(row[0]));
+        }
+
+        for (Entry<Long, Integer> entry : movingByTarget.entrySet()) {
+            int remaining = remainingSeats.getOrDefault(entry.getKey(), 0);
+            if (entry.getValue() > remaining) {
+                throw new IllegalStateException("새 일정에 수강생을 옮길 좌석이 부족합니다: 일정 ID "
+                    + entry.getKey() + ", 남은 좌석 " + remaining + ", 옮길 수강생 " + entry.getValue());
+            }
+        }
+
+        if (!movedIds.isEmpty()) {
+            updateSchedules(targetBySource, movedIds);
+        }
+
+        entityManager.createNativeQuery("""
+                UPDATE lecture_schedules s
+                SET s.reserved_seats = (
+                    SELECT COUNT(*) FROM my_live_lectures m WHERE m.schedule_id = s.schedule_id
+                )
+                WHERE s.schedule_id IN (?1)
+                """)
+            .setParameter(1, targetIds)
+            .executeUpdate();
+        return new EnrollmentMoveResult(movedIds.size(), duplicated);
+    }
+
+    /**
+     * 대상 일정 행을 잠그고 일정별 남은 좌석 수 조회
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> lockRemainingSeats(Set<Long> scheduleIds) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT s.schedule_id, l.max_live_num - s.reserved_seats
+                FROM lecture_schedules s
+                JOIN live_lectures l ON l.live_id = s.live_id
+                WHERE s.schedule_id IN (?1)
+                FOR UPDATE
+                """)
+            .setParameter(1, scheduleIds)
+            .getResultList();
+
+        Map<Long, Integer> remainingSeats = new HashMap<>();
+        for (Object[] row : rows) {
+            remainingSeats.put(toLong(row[0]), ((Number) row[1]).intValue());
+        }
+        return remainingSeats;
+    }
+
+    /**
+     * 일정들의 수강 정보 (id, 수강생 id, 일정 id)를 신청 순서대로 조회
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> findEnrollments(Set<Long> scheduleIds) {
+        return entityManager.createNativeQuery("""
+                SELECT m.my_list_id, m.user_id, m.schedule_id
+                FROM my_live_lectures m
+                WHERE m.schedule_id IN (?1)
+                ORDER BY m.my_list_id
+                """)
+            .setParameter(1, scheduleIds)
+            .getResultList();
+    }
+
+    private void updateSchedules(Map<Long, Long> targetBySource, List<Long> enrollmentIds) {
+        StringBuilder sql = new StringBuilder(
+            "UPDATE my_live_lectures SET completed = false, schedule_id = CASE schedule_id");
+        int position = 1;
+        for (int i = 0; i < targetBySource.size(); i++) {
+            sql.append(" WHEN ?").append(position++).append(" THEN ?").append(position++);
+        }
+        sql.append(" END WHERE my_list_id IN (?").append(position).append(")");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        position = 1;
+        for (Entry<Long, Long> entry : targetBySource.entrySet()) {
+            query.setParameter(position++, entry.getKey());
+            query.setParameter(position++, entry.getValue());
+        }
+        query.setParameter(position, enrollmentIds);
+        query.executeUpdate();
+    }
+
+    private static String enrollmentKey(Long userId, Long scheduleId) {
+        return userId + ":" + scheduleId;
+    }
+
+    private static Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+}
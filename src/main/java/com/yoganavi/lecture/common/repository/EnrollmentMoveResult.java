@@ -0,0 +1,15 @@
+package com.yoganavi.lecture.common.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수강 정보 일괄 이동 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentMoveResult {
+
+    private final int moved;        // 새 일정으로 옮긴 수강 정보 수
+    private final int duplicated;   // 대상 일정을 이미 수강 중이라 옮기지 않은 수강 정보 수
+}
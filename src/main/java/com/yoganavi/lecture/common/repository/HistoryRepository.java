@@ -0,0 +1,58 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.yoganavi.lecture.common.entity.QAttendanceHistory;
+import com.yoganavi.lecture.common.util.ScheduleCursor;
+import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 수강 내역 커서 조회
+ * <p>
+ * attendance_history의 (user_id, start_time, schedule_id) 인덱스를 커서 위치부터 역순으로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HistoryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QAttendanceHistory history = QAttendanceHistory.attendanceHistory;
+
+    public List<LectureHistoryDto> findHistory(Long userId, ScheduleCursor before, int limit) {
+        return queryFactory
+            .select(Projections.constructor(LectureHistoryDto.class,
+                history.scheduleId,
+                history.liveId,
+                history.nickname,
+                history.profileImageUrlSmall,
+                history.liveTitle,
+                history.startTime,
+                history.endTime,
+                Expressions.stringTemplate("cast(function('date_format', {0}, '%a') as string)",
+                    history.startTime)
+            ))
+            .from(history)
+            .where(
+                history.userId.eq(userId),
+                before(before)
+            )
+            .orderBy(history.startTime.desc(), history.scheduleId.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    private BooleanExpression before(ScheduleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return history.startTime.lt(cursor.getStartTime())
+            .or(history.startTime.eq(cursor.getStartTime())
+                .and(history.scheduleId.lt(cursor.getScheduleId())));
+    }
+}
@@ -0,0 +1,202 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.yoganavi.lecture.common.entity.QLectureSchedule;
+import com.yoganavi.lecture.common.entity.QLiveLectures;
+import com.yoganavi.lecture.common.entity.QMyLiveLecture;
+import com.yoganavi.lecture.common.entity.QUsers;
+import com.yoganavi.lecture.common.util.ScheduleCursor;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 홈 화면 강의 일정 조회
+ * <p>
+ * "내가 가르치는 강의"와 "내가 수강하는 강의"를 각각 인덱스를 타는 쿼리로 나누어 조회한다.
+ * 두 결과는 모두 (startTime, scheduleId) 오름차순이며 서비스에서 병합한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HomeFeedRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QLectureSchedule schedule = QLectureSchedule.lectureSchedule;
+    private static final QLiveLectures lecture = QLiveLectures.liveLectures;
+    private static final QUsers teacher = QUsers.users;
+
+    /**
+     * 내가 강사인 강의 일정 (live_lectures.user_id + lecture_schedules.end_time)
+     */
+    public List<HomeResponseDto> findTeachingSchedules(Long userId, LocalDateTime now,
+        ScheduleCursor after, int limit) {
+        return queryFactory
+            .select(homeResponse(userId))
+            .from(schedule)
+            .join(schedule.lecture, lecture)
+            .join(lecture.user, teacher)
+            .where(
+                lecture.user.userId.eq(userId),
+                schedule.endTime.gt(now),
+                after(after)
+            )
+            .orderBy(schedule.startTime.asc(), schedule.scheduleId.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * 내가 수강 중인 강의 일정 (my_live_lectures.userId로 강의를 찾은 뒤 해당 강의의 일정)
+     */
+    public List<HomeResponseDto> findEnrolledSchedules(Long userId, LocalDateTime now,
+        ScheduleCursor after, int limit) {
+        QMyLiveLecture myLecture = QMyLiveLecture.myLiveLecture;
+        QLectureSchedule enrolledSchedule = new QLectureSchedule("enrolledSchedule");
+
+        return queryFactory
+            .select(homeResponse(userId))
+            .from(schedule)
+            .join(schedule.lecture, lecture)
+            .join(lecture.user, teacher)
+            .where(
+                lecture.liveId.in(
+                    JPAExpressions
+                        .select(enrolledSchedule.lecture.liveId)
+                        .from(myLecture)
+                        .join(myLecture.lectureSchedule, enrolledSchedule)
+                        .where(
+                            myLecture.user.userId.eq(userId),
+                            myLecture.completed.isFalse()
+                        )
+                ),
+                schedule.endTime.gt(now),
+                after(after)
+            )
+            .orderBy(schedule.startTime.asc(), schedule.scheduleId.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * scheduleId 목록으로 홈 화면 일정 일괄 조회 (타임라인 조회 결과 채우기용)
+     * <p>
+     * 이미 끝난 일정과 삭제되어 없어진 일정은 결과에서 빠진다.
+     */
+    public List<HomeResponseDto> findByScheduleIds(Long userId, Collection<Long> scheduleIds,
+        LocalDateTime now) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+            .select(homeResponse(userId))
+            .from(schedule)
+            .join(schedule.lecture, lecture)
+            .join(lecture.user, teacher)
+            .where(
+                schedule.scheduleId.in(scheduleIds),
+                schedule.endTime.gt(now)
+            )
+            .fetch();
+    }
+
+    /**
+     * 사용자 타임라인 재구성용 (scheduleId -> startTime), 강의하는 일정과 수강하는 일정 전체
+     */
+    public Map<Long, LocalDateTime> findUpcomingScheduleStarts(Long userId, LocalDateTime now) {
+        QMyLiveLecture myLecture = QMyLiveLecture.myLiveLecture;
+        QLectureSchedule enrolledSchedule = new QLectureSchedule("enrolledSchedule");
+
+        Map<Long, LocalDateTime> starts = new HashMap<>();
+        putStarts(starts, queryFactory
+            .select(schedule.scheduleId, schedule.startTime)
+            .from(schedule)
+            .where(
+                schedule.lecture.user.userId.eq(userId),
+                schedule.endTime.gt(now)
+            )
+            .fetch());
+        putStarts(starts, queryFactory
+            .select(schedule.scheduleId, schedule.startTime)
+            .from(schedule)
+            .where(
+                schedule.lecture.liveId.in(
+                    JPAExpressions
+                        .select(enrolledSchedule.lecture.liveId)
+                        .from(myLecture)
+                        .join(myLecture.lectureSchedule, enrolledSchedule)
+                        .where(
+                            myLecture.user.userId.eq(userId),
+                            myLecture.completed.isFalse()
+                        )
+                ),
+                schedule.endTime.gt(now)
+            )
+            .fetch());
+        return starts;
+    }
+
+    /**
+     * 강의 하나의 남은 일정 (scheduleId -> startTime), 수강 신청 시 타임라인 반영용
+     */
+    public Map<Long, LocalDateTime> findUpcomingScheduleStartsByLiveId(Long liveId,
+        LocalDateTime now) {
+        Map<Long, LocalDateTime> starts = new HashMap<>();
+        putStarts(starts, queryFactory
+            .select(schedule.scheduleId, schedule.startTime)
+            .from(schedule)
+            .where(
+                schedule.lecture.liveId.eq(liveId),
+                schedule.endTime.gt(now)
+            )
+            .fetch());
+        return starts;
+    }
+
+    private void putStarts(Map<Long, LocalDateTime> starts, List<Tuple> rows) {
+        for (Tuple row : rows) {
+            starts.put(row.get(schedule.scheduleId), row.get(schedule.startTime));
+        }
+    }
+
+    private ConstructorExpression<HomeResponseDto> homeResponse(Long userId) {
+        return Projections.constructor(HomeResponseDto.class,
+            schedule.scheduleId,
+            lecture.liveId,
+            teacher.nickname,
+            teacher.profileImageUrl,
+            teacher.profileImageUrlSmall,
+            lecture.liveTitle,
+            lecture.liveContent,
+            schedule.startTime,
+            schedule.endTime,
+            Expressions.stringTemplate("cast(function('date_format', {0}, '%a') as string)",
+                schedule.startTime),
+            lecture.maxLiveNum,
+            Expressions.booleanTemplate(
+                "cast(CASE WHEN {0} = {1} THEN true ELSE false END as boolean)",
+                lecture.user.userId, userId),
+            lecture.isOnAir
+        );
+    }
+
+    private BooleanExpression after(ScheduleCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return schedule.startTime.gt(cursor.getStartTime())
+            .or(schedule.startTime.eq(cursor.getStartTime())
+                .and(schedule.scheduleId.gt(cursor.getScheduleId())));
+    }
+}
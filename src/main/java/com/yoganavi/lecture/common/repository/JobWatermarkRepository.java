@@ -0,0 +1,32 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.yoganavi.lecture.common.entity.JobWatermark;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+
+    // 여러 인스턴스가 같은 구간을 동시에 처리하지 않도록 잠금 후 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM JobWatermark w WHERE w.jobName = :jobName")
+    Optional<JobWatermark> findForUpdate(@Param("jobName") String jobName);
+
+    // 행이 없으면 findForUpdate가 잠글 대상이 없어 여러 인스턴스가 동시에 첫 행을 저장하므로 먼저 만들어 둔다
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO job_watermarks (job_name, last_end_time, last_id)
+        VALUES (:jobName, :lastEndTime, 0)
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("jobName") String jobName,
+        @Param("lastEndTime") LocalDateTime lastEndTime
+    );
+}
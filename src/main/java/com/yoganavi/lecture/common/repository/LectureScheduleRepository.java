@@ -1,10 +1,90 @@
 package com.yoganavi.lecture.common.repository;
 
 import com.yoganavi.lecture.common.entity.LectureSchedule;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LectureScheduleRepository extends JpaRepository<LectureSchedule, Long> {
 
+    // 워터마크 (lastEndTime, lastScheduleId) 이후에 종료된 일정을 종료 순서대로 조회
+    @Query("""
+        SELECT s FROM LectureSchedule s
+        WHERE s.endTime <= :now
+        AND (s.endTime > :lastEndTime
+             OR (s.endTime = :lastEndTime AND s.scheduleId > :lastScheduleId))
+        ORDER BY s.endTime, s.scheduleId
+        """)
+    List<LectureSchedule> findEndedAfter(
+        @Param("now") LocalDateTime now,
+        @Param("lastEndTime") LocalDateTime lastEndTime,
+        @Param("lastScheduleId") Long lastScheduleId,
+        Pageable pageable
+    );
+
+    // 강의의 [from, to) 구간 일정 조회
+    @Query("""
+        SELECT s FROM LectureSchedule s
+        WHERE s.lecture.liveId = :liveId
+        AND s.startTime >= :from
+        AND s.startTime < :to
+        ORDER BY s.startTime
+        """)
+    List<LectureSchedule> findByLiveIdAndStartTimeBetween(
+        @Param("liveId") Long liveId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    // 남은 좌석이 있을 때만 좌석 하나 예약 (예약된 일정 행은 트랜잭션이 끝날 때까지 잠긴다)
+    @Modifying
+    @Query(value = """
+        UPDATE lecture_schedules s
+        JOIN live_lectures l ON l.live_id = s.live_id
+        SET s.reserved_seats = s.reserved_seats + 1
+        WHERE s.schedule_id = :scheduleId
+        AND s.reserved_seats < l.max_live_num
+        """, nativeQuery = true)
+    int reserveSeat(@Param("scheduleId") Long scheduleId);
+
+    // 좌석 하나 반환
+    @Modifying
+    @Query(value = """
+        UPDATE lecture_schedules
+        SET reserved_seats = reserved_seats - 1
+        WHERE schedule_id = :scheduleId
+        AND reserved_seats > 0
+        """, nativeQuery = true)
+    int releaseSeat(@Param("scheduleId") Long scheduleId);
+
+    // 아직 시작하지 않은 일정 id를 id 순서대로 조회
+    @Query("""
+        SELECT s.scheduleId FROM LectureSchedule s
+        WHERE s.startTime > :now
+        AND s.scheduleId > :lastScheduleId
+        ORDER BY s.scheduleId
+        """)
+    List<Long> findUpcomingIdsAfter(
+        @Param("now") LocalDateTime now,
+        @Param("lastScheduleId") Long lastScheduleId,
+        Pageable pageable
+    );
+
+    // 예약 좌석 수를 실제 수강 정보 수로 다시 계산 (일정 행을 잠그므로 좌석 예약과 겹치지 않는다)
+    @Modifying
+    @Query(value = """
+        UPDATE lecture_schedules s
+        SET s.reserved_seats = (
+            SELECT COUNT(*) FROM my_live_lectures m WHERE m.schedule_id = s.schedule_id
+        )
+        WHERE s.schedule_id IN (:scheduleIds)
+        """, nativeQuery = true)
+    int recountReservedSeats(@Param("scheduleIds") Collection<Long> scheduleIds);
 }
@@ -0,0 +1,128 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.QLiveLectures;
+import com.yoganavi.lecture.common.entity.QUsers;
+import com.yoganavi.lecture.common.util.TimeUtil;
+import com.yoganavi.lecture.live_lecture.dto.LiveLectureResponseDto;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 강사의 강의 목록 조회
+ * <p>
+ * live_lectures의 일정 요약 컬럼과 강사 정보를 쿼리 한 번으로 읽는다. lecture_schedules는 읽지 않는다. 요약 컬럼이
+ * 아직 채워지지 않은 강의(요약 컬럼 추가 전에 만들어진 강의)만 일정을 읽어 요약을 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveLectureListRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final TimeUtil timeUtil;
+
+    private static final QLiveLectures lecture = QLiveLectures.liveLectures;
+    private static final QUsers teacher = QUsers.users;
+
+    public List<LiveLectureResponseDto> findByUserId(Long userId) {
+        List<Tuple> rows = queryFactory
+            .select(
+                lecture.liveId,
+                lecture.liveTitle,
+                lecture.liveContent,
+                lecture.maxLiveNum,
+                lecture.regDate,
+                lecture.firstStartTime,
+                lecture.lastEndTime,
+                lecture.dailyStartTime,
+                lecture.dailyEndTime,
+                lecture.availableDayMask,
+                teacher.userId,
+                teacher.nickname,
+                teacher.profileImageUrl,
+                teacher.profileImageUrlSmall
+            )
+            .from(lecture)
+            .join(lecture.user, teacher)
+            .where(teacher.userId.eq(userId))
+            .orderBy(lecture.liveId.asc())
+            .fetch();
+
+        Map<Long, LiveLectures> unsummarized = findUnsummarized(rows);
+        return rows.stream()
+            .map(row -> toDto(row, unsummarized.get(row.get(lecture.liveId))))
+            .toList();
+    }
+
+    /**
+     * 요약 컬럼이 비어 있는 강의를 일정과 함께 읽어 요약 계산 (컬럼은 LectureSummaryBackfill이 채운다)
+     */
+    private Map<Long, LiveLectures> findUnsummarized(List<Tuple> rows) {
+        List<Long> liveIds = rows.stream()
+            .filter(row -> row.get(lecture.availableDayMask) == null)
+            .map(row -> row.get(lecture.liveId))
+            .toList();
+        if (liveIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<LiveLectures> lectures = liveLecturesRepository.findAllWithSchedules(liveIds);
+        lectures.forEach(LiveLectures::refreshSummary);
+        return lectures.stream()
+            .collect(Collectors.toMap(LiveLectures::getLiveId, Function.identity()));
+    }
+
+    private LiveLectureResponseDto toDto(Tuple row, LiveLectures summary) {
+        LiveLectureResponseDto dto = new LiveLectureResponseDto();
+        dto.setLiveId(row.get(lecture.liveId));
+        dto.setLiveTitle(row.get(lecture.liveTitle));
+        dto.setLiveContent(row.get(lecture.liveContent));
+        dto.setMaxLiveNum(row.get(lecture.maxLiveNum));
+        dto.setRegDate(timeUtil.toEpochMilli(row.get(lecture.regDate)));
+
+        if (summary != null) {
+            setSummary(dto, summary.getFirstStartTime(), summary.getLastEndTime(),
+                summary.getDailyStartTime(), summary.getDailyEndTime(),
+                summary.getAvailableDayMask());
+        } else {
+            setSummary(dto, row.get(lecture.firstStartTime), row.get(lecture.lastEndTime),
+                row.get(lecture.dailyStartTime), row.get(lecture.dailyEndTime),
+                row.get(lecture.availableDayMask));
+        }
+
+        dto.setUserId(row.get(teacher.userId).intValue());
+        dto.setNickname(row.get(teacher.nickname));
+        dto.setProfileImageUrl(row.get(teacher.profileImageUrl));
+        dto.setProfileImageUrlSmall(row.get(teacher.profileImageUrlSmall));
+        return dto;
+    }
+
+    private void setSummary(LiveLectureResponseDto dto, LocalDateTime firstStartTime,
+        LocalDateTime lastEndTime, LocalTime dailyStartTime, LocalTime dailyEndTime,
+        Integer availableDayMask) {
+        if (firstStartTime != null) {
+            dto.setStartDate(timeUtil.toEpochMilli(firstStartTime));
+        }
+        if (lastEndTime != null) {
+            dto.setEndDate(timeUtil.toEpochMilli(lastEndTime));
+        }
+        if (dailyStartTime != null) {
+            dto.setStartTime(timeUtil.timeToEpochMilli(dailyStartTime));
+        }
+        if (dailyEndTime != null) {
+            dto.setEndTime(timeUtil.timeToEpochMilli(dailyEndTime));
+        }
+        dto.setAvailableDay(availableDayMask == null ? ""
+            : LectureRecurrence.toDayCodes(availableDayMask));
+    }
+}
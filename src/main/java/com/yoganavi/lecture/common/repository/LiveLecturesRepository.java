@@ -1,13 +1,16 @@
 package com.yoganavi.lecture.common.repository;
 
 import com.yoganavi.lecture.common.entity.LiveLectures;
-import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
-import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,75 +18,93 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface LiveLecturesRepository extends JpaRepository<LiveLectures, Long> {
 
+    @Query("SELECT l FROM LiveLectures l WHERE l.user.userId = :userId")
+    List<LiveLectures> findByUserId(@Param("userId") Long userId);
+
+    // 강사 ID만 조회 (users 조인 없이 live_lectures.user_id를 읽는다)
+    @Query("SELECT l.user.userId FROM LiveLectures l WHERE l.liveId = :liveId")
+    Optional<Long> findOwnerIdByLiveId(@Param("liveId") Long liveId);
+
+    @Query("SELECT l FROM LiveLectures l " +
+        "JOIN FETCH l.user " +
+        "LEFT JOIN FETCH l.schedules " +
+        "WHERE l.liveId = :liveId AND l.isDeleted = false")
+    Optional<LiveLectures> findByIdWithUserAndSchedules(@Param("liveId") Long liveId);
+
+    @Query("SELECT DISTINCT l FROM LiveLectures l " +
+        "LEFT JOIN FETCH l.schedules " +
+        "WHERE l.liveId IN :liveIds")
+    List<LiveLectures> findAllWithSchedules(@Param("liveIds") Collection<Long> liveIds);
+
+    // 진행 중인 일정이 없는 강의의 방송 상태 해제
+    @Modifying
     @Query("""
-        SELECT new com.yoganavi.lecture.live_lecture.dto.HomeResponseDto(
-            l.liveId,
-            t.nickname,
-            t.profileImageUrl,
-            t.profileImageUrlSmall,
-            l.liveTitle,
-            l.liveContent,
-            s.startTime,
-            s.endTime,
-            cast(function('date_format', s.startTime, '%a') as string),
-            l.maxLiveNum,
-            cast(CASE WHEN l.user.userId = :userId THEN true ELSE false END as boolean),
-            l.isOnAir 
+        UPDATE LiveLectures l SET l.isOnAir = false
+        WHERE l.liveId IN :liveIds
+        AND l.isOnAir = true
+        AND NOT EXISTS (
+            SELECT 1 FROM LectureSchedule s
+            WHERE s.lecture = l
+            AND s.startTime <= :now
+            AND s.endTime > :now
         )
-        FROM LiveLectures l
-        JOIN Users t ON t.userId = l.user.userId
-        JOIN l.schedules s
-        WHERE (l.user.userId = :userId
-              OR EXISTS (
-                  SELECT 1 FROM MyLiveLecture ml 
-                  WHERE ml.lectureSchedule.lecture = l 
-                  AND ml.user.userId = :userId 
-                  AND ml.completed = false
-              ))
-        AND s.endTime > :now
-        ORDER BY s.startTime ASC
         """)
-    List<HomeResponseDto> findAllMyLectures(
-        @Param("userId") Long userId,
-        @Param("now") LocalDateTime now,
-        Pageable pageable
+    int turnOffAirWithoutActiveSchedule(
+        @Param("liveIds") Collection<Long> liveIds,
+        @Param("now") LocalDateTime now
     );
 
+    // 진행 중인 일정이 없는 강의 ID 조회 (방송 상태 저장소 정리용)
     @Query("""
-        SELECT new com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto(
-            l.liveId,
-            t.nickname,
-            t.profileImageUrlSmall,
-            l.liveTitle,
-            s.startTime,
-            s.endTime,
-            cast(function('date_format', s.startTime, '%a') as string)
+        SELECT l.liveId FROM LiveLectures l
+        WHERE l.liveId IN :liveIds
+        AND NOT EXISTS (
+            SELECT 1 FROM LectureSchedule s
+            WHERE s.lecture = l
+            AND s.startTime <= :now
+            AND s.endTime > :now
         )
-        FROM LiveLectures l
-        JOIN Users t ON t.userId = l.user.userId
-        JOIN l.schedules s
-        WHERE (l.user.userId = :userId
-              OR EXISTS (
-                  SELECT 1 FROM MyLiveLecture ml 
-                  WHERE ml.lectureSchedule.lecture = l 
-                  AND ml.user.userId = :userId 
-                  AND ml.completed = true  
-              ))
-        AND s.endTime <= :now
-        ORDER BY s.startTime DESC
         """)
-    List<LectureHistoryDto> findCompletedLectures(
-        @Param("userId") Long userId,
-        @Param("now") LocalDateTime now,
-        Pageable pageable
+    List<Long> findIdsWithoutActiveSchedule(
+        @Param("liveIds") Collection<Long> liveIds,
+        @Param("now") LocalDateTime now
     );
 
-    @Query("SELECT l FROM LiveLectures l WHERE l.user.userId = :userId")
-    List<LiveLectures> findByUserId(@Param("userId") Long userId);
+    // 방송 상태 저장소의 값을 여러 강의에 한 번에 반영
+    @Modifying
+    @Query("UPDATE LiveLectures l SET l.isOnAir = :onAir " +
+        "WHERE l.liveId IN :liveIds AND l.isOnAir <> :onAir")
+    int updateOnAir(@Param("liveIds") Collection<Long> liveIds, @Param("onAir") boolean onAir);
 
-    @Query("SELECT l FROM LiveLectures l " +
-        "JOIN FETCH l.user " +
-        "LEFT JOIN FETCH l.schedules " +
-        "WHERE l.liveId = :liveId AND l.isDeleted = false")
-    Optional<LiveLectures> findByIdWithUserAndSchedules(@Param("liveId") Long liveId);
+    // 일정 추가 전 강의 행 잠금 (같은 날짜의 일정이 중복 생성되지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LiveLectures l WHERE l.liveId = :liveId")
+    Optional<LiveLectures> findForUpdate(@Param("liveId") Long liveId);
+
+    // 일정이 horizon 전까지만 만들어진 강의를 id 순서대로 조회
+    @Query("""
+        SELECT l FROM LiveLectures l
+        WHERE l.isDeleted = false
+        AND l.recurrence.materializedUntil < :horizon
+        AND l.recurrence.materializedUntil < l.recurrence.endDate
+        AND l.liveId > :lastLiveId
+        ORDER BY l.liveId
+        """)
+    List<LiveLectures> findMaterializationTargets(
+        @Param("horizon") LocalDate horizon,
+        @Param("lastLiveId") Long lastLiveId,
+        Pageable pageable
+    );
+
+    // 일정 요약 컬럼이 채워지지 않은 강의를 id 순서대로 조회 (요약 컬럼 추가 전에 만들어진 강의)
+    @Query("""
+        SELECT l FROM LiveLectures l
+        WHERE l.availableDayMask IS NULL
+        AND l.liveId > :lastLiveId
+        ORDER BY l.liveId
+        """)
+    List<LiveLectures> findSummaryTargets(
+        @Param("lastLiveId") Long lastLiveId,
+        Pageable pageable
+    );
 }
@@ -2,10 +2,7 @@ package com.yoganavi.lecture.common.repository;
 
 import static com.querydsl.core.types.Projections.constructor;
 
-import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yoganavi.lecture.common.entity.QRecordedLecture;
 import com.yoganavi.lecture.common.entity.QRecordedLectureLike;
@@ -27,8 +24,6 @@ public class MyLikeLectureListRepository {
         QRecordedLecture lecture = QRecordedLecture.recordedLecture;
         QRecordedLectureLike like = QRecordedLectureLike.recordedLectureLike;
 
-        NumberPath<Long> likeCount = Expressions.numberPath(Long.class, "likeCount");
-
         return queryFactory
             .select(constructor(LectureDto.class,
                 lecture.id.as("recordedId"),
@@ -38,9 +33,7 @@ public class MyLikeLectureListRepository {
                 lecture.content.as("recordContent"),
                 lecture.thumbnail.as("recordThumbnail"),
                 lecture.thumbnailSmall.as("recordThumbnailSmall"),
-                ExpressionUtils.as(JPAExpressions.select(like.id.count())
-                    .from(like)
-                    .where(like.lecture.eq(lecture)), likeCount),
+                lecture.likeCount,
                 lecture.createdDate.as("createdDate"),
                 lecture.lastModifiedDate.as("lastModifiedDate"),
                 Expressions.asBoolean(true).as("myLike")
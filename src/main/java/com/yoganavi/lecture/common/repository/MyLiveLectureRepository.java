@@ -2,8 +2,10 @@ package com.yoganavi.lecture.common.repository;
 
 import com.yoganavi.lecture.common.entity.LectureSchedule;
 import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,11 @@ public interface MyLiveLectureRepository extends JpaRepository<MyLiveLecture, Lo
     List<MyLiveLecture> findAllByLectureSchedule(
         @Param("lectureSchedule") LectureSchedule lectureSchedule);
 
+    // 여러 스케줄의 수강생을 한 번에 조회
+    @Query("SELECT ml FROM MyLiveLecture ml " +
+        "WHERE ml.lectureSchedule.scheduleId IN :scheduleIds")
+    List<MyLiveLecture> findAllByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
     // 수강 완료하지 않은 수강생만
     @Query("SELECT ml FROM MyLiveLecture ml " +
         "WHERE ml.lectureSchedule = :lectureSchedule " +
@@ -44,10 +51,54 @@ public interface MyLiveLectureRepository extends JpaRepository<MyLiveLecture, Lo
         "AND ml.completed = false")
     List<MyLiveLecture> findActiveLecturesByLiveId(@Param("liveId") Long liveId);
 
+    // completed = false인 수강생 id 조회
+    @Query("SELECT DISTINCT ml.user.userId FROM MyLiveLecture ml " +
+        "JOIN ml.lectureSchedule ls " +
+        "JOIN ls.lecture l " +
+        "WHERE l.liveId = :liveId " +
+        "AND ml.completed = false")
+    List<Long> findActiveUserIdsByLiveId(@Param("liveId") Long liveId);
+
     // 강의 id로 수강생 수 카운트
     @Query("SELECT COUNT(ml) FROM MyLiveLecture ml " +
         "JOIN ml.lectureSchedule ls " +
         "JOIN ls.lecture l " +
         "WHERE l.liveId = :liveId")
     long countByLiveLectureId(@Param("liveId") Long liveId);
+
+    // 종료된 일정의 수강 완료 처리
+    @Modifying
+    @Query("UPDATE MyLiveLecture ml SET ml.completed = true " +
+        "WHERE ml.lectureSchedule.scheduleId IN :scheduleIds " +
+        "AND ml.completed = false")
+    int markCompletedByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 삭제되는 일정에 남은 수강 정보 정리
+    @Modifying
+    @Query("DELETE FROM MyLiveLecture ml " +
+        "WHERE ml.lectureSchedule.scheduleId IN :scheduleIds")
+    int deleteByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 수강생의 일정 신청 여부
+    @Query("SELECT COUNT(ml) > 0 FROM MyLiveLecture ml " +
+        "WHERE ml.user.userId = :userId " +
+        "AND ml.lectureSchedule.scheduleId = :scheduleId")
+    boolean existsByUserIdAndScheduleId(@Param("userId") Long userId,
+        @Param("scheduleId") Long scheduleId);
+
+    // 수강생이 강의의 다른 일정을 아직 수강 중인지
+    @Query("SELECT COUNT(ml) > 0 FROM MyLiveLecture ml " +
+        "WHERE ml.user.userId = :userId " +
+        "AND ml.lectureSchedule.lecture.liveId = :liveId " +
+        "AND ml.completed = false")
+    boolean existsActiveByUserIdAndLiveId(@Param("userId") Long userId,
+        @Param("liveId") Long liveId);
+
+    // 수강 취소 (엔티티를 읽지 않고 삭제)
+    @Modifying
+    @Query("DELETE FROM MyLiveLecture ml " +
+        "WHERE ml.user.userId = :userId " +
+        "AND ml.lectureSchedule.scheduleId = :scheduleId")
+    int deleteByUserIdAndScheduleId(@Param("userId") Long userId,
+        @Param("scheduleId") Long scheduleId);
 }
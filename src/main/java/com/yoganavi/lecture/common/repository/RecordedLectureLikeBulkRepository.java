@@ -0,0 +1,130 @@
+package com.yoganavi.lecture.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 녹화 강의 좋아요(recorded_lecture_like) 일괄 변경
+ * <p>
+ * 좋아요는 강의 id → 사용자 id 집합으로 주고받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordedLectureLikeBulkRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 주어진 (강의, 사용자) 중 이미 저장된 좋아요를 잠그고 조회
+     * <p>
+     * 없는 행은 갭 잠금이 걸리므로 같은 트랜잭션에서 INSERT/DELETE 할 때까지 다른 트랜잭션이 끼어들지 못한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Set<Long>> findLikesForUpdate(Map<Long, Set<Long>> userIdsByLectureId) {
+        Map<Long, Set<Long>> likes = new HashMap<>();
+        if (userIdsByLectureId.isEmpty()) {
+            return likes;
+        }
+
+        Query query = entityManager.createNativeQuery(
+            "SELECT lecture_id, user_id FROM recorded_lecture_like WHERE (lecture_id, user_id) IN ("
+                + tuples(userIdsByLectureId) + ") FOR UPDATE");
+        bind(query, userIdsByLectureId);
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            likes.computeIfAbsent(((Number) row[0]).longValue(), id -> new HashSet<>())
+                .add(((Number) row[1]).longValue());
+        }
+        return likes;
+    }
+
+    /**
+     * @return 추가된 좋아요 수
+     */
+    public int insertLikes(Map<Long, Set<Long>> userIdsByLectureId) {
+        if (userIdsByLectureId.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+            "INSERT IGNORE INTO recorded_lecture_like (lecture_id, user_id) VALUES ");
+        sql.append(tuples(userIdsByLectureId));
+        Query query = entityManager.createNativeQuery(sql.toString());
+        bind(query, userIdsByLectureId);
+        return query.executeUpdate();
+    }
+
+    /**
+     * @return 삭제된 좋아요 수
+     */
+    public int deleteLikes(Map<Long, Set<Long>> userIdsByLectureId) {
+        if (userIdsByLectureId.isEmpty()) {
+            return 0;
+        }
+
+        Query query = entityManager.createNativeQuery(
+            "DELETE FROM recorded_lecture_like WHERE (lecture_id, user_id) IN ("
+                + tuples(userIdsByLectureId) + ")");
+        bind(query, userIdsByLectureId);
+        return query.executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<Long> findExistingLectureIds(Collection<Long> lectureIds) {
+        return toIds(entityManager.createNativeQuery(
+                "SELECT id FROM recorded_lecture WHERE id IN (?1)")
+            .setParameter(1, lectureIds)
+            .getResultList());
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        return toIds(entityManager.createNativeQuery(
+                "SELECT user_id FROM users WHERE user_id IN (?1)")
+            .setParameter(1, userIds)
+            .getResultList());
+    }
+
+    /**
+     * (?1, ?2), (?3, ?4), ... 형태의 위치 파라미터 목록
+     */
+    private String tuples(Map<Long, Set<Long>> userIdsByLectureId) {
+        StringBuilder tuples = new StringBuilder();
+        int position = 1;
+        for (Set<Long> userIds : userIdsByLectureId.values()) {
+            for (int i = 0; i < userIds.size(); i++) {
+                if (position > 1) {
+                    tuples.append(", ");
+                }
+                tuples.append("(?").append(position++).append(", ?").append(position++)
+                    .append(")");
+            }
+        }
+        return tuples.toString();
+    }
+
+    private void bind(Query query, Map<Long, Set<Long>> userIdsByLectureId) {
+        int position = 1;
+        for (Map.Entry<Long, Set<Long>> entry : userIdsByLectureId.entrySet()) {
+            for (Long userId : entry.getValue()) {
+                query.setParameter(position++, entry.getKey());
+                query.setParameter(position++, userId);
+            }
+        }
+    }
+
+    private Set<Long> toIds(List<Number> ids) {
+        Set<Long> result = new HashSet<>();
+        for (Number id : ids) {
+            result.add(id.longValue());
+        }
+        return result;
+    }
+}
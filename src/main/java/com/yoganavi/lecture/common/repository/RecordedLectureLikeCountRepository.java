@@ -0,0 +1,107 @@
+package com.yoganavi.lecture.common.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 녹화 강의 좋아요 수(recorded_lecture.like_count) 일괄 변경
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordedLectureLikeCountRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 강의별 좋아요 수 변화량을 UPDATE 한 번으로 반영
+     *
+     * @param deltaByLectureId 강의 id → 좋아요 수 변화량
+     * @return 갱신한 강의 수
+     */
+    public int addLikeCounts(Map<Long, Long> deltaByLectureId) {
+        if (deltaByLectureId.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+            "UPDATE recorded_lecture SET like_count = GREATEST(like_count + CASE id");
+        int position = 1;
+        for (int i = 0; i < deltaByLectureId.size(); i++) {
+            sql.append(" WHEN ?").append(position++).append(" THEN ?").append(position++);
+        }
+        sql.append(" ELSE 0 END, 0) WHERE id IN (?").append(position).append(")");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        position = 1;
+        for (Entry<Long, Long> entry : deltaByLectureId.entrySet()) {
+            query.setParameter(position++, entry.getKey());
+            query.setParameter(position++, entry.getValue());
+        }
+        query.setParameter(position, deltaByLectureId.keySet());
+        return query.executeUpdate();
+    }
+
+    /**
+     * lastId 이후의 강의 id를 오름차순으로 limit개 조회
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> findIdsAfter(long lastId, int limit) {
+        List<Number> ids = entityManager.createNativeQuery(
+                "SELECT id FROM recorded_lecture WHERE id > ?1 ORDER BY id LIMIT ?2")
+            .setParameter(1, lastId)
+            .setParameter(2, limit)
+            .getResultList();
+        return ids.stream()
+            .map(Number::longValue)
+            .toList();
+    }
+
+    /**
+     * [fromId, toId] 구간 강의의 좋아요 수를 RecordedLectureLike 기준으로 다시 계산
+     * <p>
+     * 값이 다른 강의만 잠가서 갱신한다.
+     *
+     * @return 보정한 강의 id
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> reconcileLikeCounts(long fromId, long toId) {
+        List<Number> ids = entityManager.createNativeQuery("""
+                SELECT r.id
+                FROM recorded_lecture r
+                LEFT JOIN (
+                    SELECT l.lecture_id, COUNT(*) AS cnt
+                    FROM recorded_lecture_like l
+                    WHERE l.lecture_id BETWEEN ?1 AND ?2
+                    GROUP BY l.lecture_id
+                ) c ON c.lecture_id = r.id
+                WHERE r.id BETWEEN ?1 AND ?2
+                  AND r.like_count <> COALESCE(c.cnt, 0)
+                FOR UPDATE
+                """)
+            .setParameter(1, fromId)
+            .setParameter(2, toId)
+            .getResultList();
+        List<Long> lectureIds = ids.stream()
+            .map(Number::longValue)
+            .toList();
+        if (lectureIds.isEmpty()) {
+            return lectureIds;
+        }
+
+        entityManager.createNativeQuery("""
+                UPDATE recorded_lecture r
+                SET r.like_count = (
+                    SELECT COUNT(*) FROM recorded_lecture_like l WHERE l.lecture_id = r.id
+                )
+                WHERE r.id IN (?1)
+                """)
+            .setParameter(1, lectureIds)
+            .executeUpdate();
+        return lectureIds;
+    }
+}
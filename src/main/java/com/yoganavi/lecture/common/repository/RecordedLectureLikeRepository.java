@@ -3,7 +3,9 @@ package com.yoganavi.lecture.common.repository;
 import com.yoganavi.lecture.common.entity.RecordedLecture;
 import com.yoganavi.lecture.common.entity.RecordedLectureLike;
 import com.yoganavi.lecture.common.entity.Users;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,7 +16,35 @@ public interface RecordedLectureLikeRepository extends JpaRepository<RecordedLec
     @Query("SELECT COUNT(rl) FROM RecordedLectureLike rl WHERE rl.lecture.id = :lectureId")
     Long countLikesByLectureId(@Param("lectureId") Long lectureId);
 
+    @Query("SELECT rl.lecture.id FROM RecordedLectureLike rl WHERE rl.user.userId = :userId")
+    List<Long> findLectureIdsByUserId(@Param("userId") Long userId);
+
     boolean existsByLectureAndUser(RecordedLecture lecture, Users user);
 
-    void deleteByLectureAndUser(RecordedLecture lecture, Users user);
+    /**
+     * 좋아요 여부, (lecture_id, user_id) 유니크 키로 한 행만 확인한다
+     */
+    @Query("SELECT COUNT(rl) > 0 FROM RecordedLectureLike rl "
+        + "WHERE rl.lecture.id = :lectureId AND rl.user.userId = :userId")
+    boolean existsLike(@Param("lectureId") Long lectureId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 추가, 이미 좋아요한 강의면 (lecture_id, user_id) 유니크 제약으로 무시된다
+     *
+     * @return 추가된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO recorded_lecture_like (lecture_id, user_id) "
+        + "VALUES (:lectureId, :userId)", nativeQuery = true)
+    int insertLike(@Param("lectureId") Long lectureId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 삭제, 엔티티를 읽지 않고 id로만 삭제한다
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RecordedLectureLike rl "
+        + "WHERE rl.lecture.id = :lectureId AND rl.user.userId = :userId")
+    int deleteLike(@Param("lectureId") Long lectureId, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -2,10 +2,8 @@ package com.yoganavi.lecture.common.repository;
 
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.yoganavi.lecture.common.entity.QRecordedLecture;
-import com.yoganavi.lecture.common.entity.QRecordedLectureLike;
 import com.yoganavi.lecture.common.entity.Users;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import java.util.List;
@@ -20,26 +18,21 @@ public class RecordedLectureListRepository {
 
     public List<LectureDto> findAllLectures(Users user) {
         QRecordedLecture lecture = QRecordedLecture.recordedLecture;
-        QRecordedLectureLike like = QRecordedLectureLike.recordedLectureLike;
 
         return queryFactory
             .select(Projections.constructor(LectureDto.class,
                 lecture.id.as("recordedId"),
                 lecture.user.userId.as("userId"),
+                lecture.user.nickname.as("nickname"),
                 lecture.title.as("recordTitle"),
-                lecture.thumbnailSmall.as("recordThumbnailSmall"),
+                lecture.content.as("recordContent"),
                 lecture.thumbnail.as("recordThumbnail"),
-                Expressions.as(
-                    JPAExpressions
-                        .select(like.count())
-                        .from(like)
-                        .where(like.lecture.eq(lecture)),
-                    "likeCount"
-                ),
-                JPAExpressions.selectOne()
-                    .from(like)
-                    .where(like.lecture.eq(lecture).and(like.user.eq(user)))
-                    .exists().as("myLike")
+                lecture.thumbnailSmall.as("recordThumbnailSmall"),
+                lecture.likeCount,
+                lecture.createdDate,
+                lecture.lastModifiedDate,
+                // myLike는 서비스에서 사용자의 좋아요 강의 집합으로 채운다
+                Expressions.asBoolean(false).as("myLike")
             ))
             .from(lecture)
             .where(lecture.user.eq(user))
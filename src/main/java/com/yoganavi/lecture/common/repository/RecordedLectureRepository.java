@@ -1,6 +1,7 @@
 package com.yoganavi.lecture.common.repository;
 
 import com.yoganavi.lecture.common.entity.RecordedLecture;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,4 +13,9 @@ public interface RecordedLectureRepository extends JpaRepository<RecordedLecture
 
     @Query("SELECT r FROM RecordedLecture r WHERE r.id IN :ids")
     List<RecordedLecture> findAllByIdCustom(@Param("ids") List<Long> ids);
+
+    // 검색 문서 생성용 (강사와 챕터를 함께 조회)
+    @Query("SELECT DISTINCT r FROM RecordedLecture r JOIN FETCH r.user "
+        + "LEFT JOIN FETCH r.chapters WHERE r.id IN :ids")
+    List<RecordedLecture> findAllWithUserAndChapters(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
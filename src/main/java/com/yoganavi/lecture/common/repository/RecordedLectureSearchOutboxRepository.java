@@ -0,0 +1,74 @@
+package com.yoganavi.lecture.common.repository;
+
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecordedLectureSearchOutboxRepository extends
+    JpaRepository<RecordedLectureSearchOutbox, Long> {
+
+    /**
+     * 실패한 적 없는 아웃박스 중 선점되지 않았거나 선점이 만료된 것을 id 순으로 잠가 조회 (다른 트랜잭션이 잠근 행은
+     * 건너뛴다)
+     */
+    @Query(value = "SELECT * FROM recorded_lecture_search_outbox "
+        + "WHERE attempts = 0 AND (claimed_until IS NULL OR claimed_until < :now) "
+        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<RecordedLectureSearchOutbox> findClaimable(@Param("now") LocalDateTime now,
+        @Param("limit") int limit);
+
+    /**
+     * 반영에 실패해 재시도 시각이 지난 아웃박스를 id 순으로 잠가 조회 (재시도를 멈춘 행은 제외)
+     */
+    @Query(value = "SELECT * FROM recorded_lecture_search_outbox "
+        + "WHERE attempts > 0 AND parked_at IS NULL "
+        + "AND (claimed_until IS NULL OR claimed_until < :now) "
+        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<RecordedLectureSearchOutbox> findRetryable(@Param("now") LocalDateTime now,
+        @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE RecordedLectureSearchOutbox o "
+        + "SET o.claimedBy = :owner, o.claimedUntil = :until WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+        @Param("until") LocalDateTime until);
+
+    // 반영에 실패한 선점을 풀고 실패 횟수를 늘려 retryAt 이후 재시도 대상으로 가져가게 한다
+    @Modifying
+    @Query("UPDATE RecordedLectureSearchOutbox o "
+        + "SET o.claimedBy = NULL, o.claimedUntil = :retryAt, o.attempts = o.attempts + 1 "
+        + "WHERE o.id IN :ids AND o.claimedBy = :owner")
+    int releaseFailed(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+        @Param("retryAt") LocalDateTime retryAt);
+
+    // 계속 실패하는 행은 재시도를 멈추고 남겨 둔다 (parked_at을 비우면 다시 반영)
+    @Modifying
+    @Query("UPDATE RecordedLectureSearchOutbox o "
+        + "SET o.claimedBy = NULL, o.claimedUntil = NULL, o.attempts = o.attempts + 1, "
+        + "o.parkedAt = :now WHERE o.id IN :ids AND o.claimedBy = :owner")
+    int park(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RecordedLectureSearchOutbox o WHERE o.id IN :ids AND o.claimedBy = :owner")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    Optional<RecordedLectureSearchOutbox> findFirstByParkedAtIsNullOrderByIdAsc();
+
+    /**
+     * 존재하는 강의만 골라 한 문장으로 기록
+     */
+    @Modifying
+    @Query(value = "INSERT INTO recorded_lecture_search_outbox (lecture_id, created_at, attempts) "
+        + "SELECT id, NOW(6), 0 FROM recorded_lecture WHERE id IN (:lectureIds)",
+        nativeQuery = true)
+    int enqueueAll(@Param("lectureIds") Collection<Long> lectureIds);
+}
@@ -0,0 +1,49 @@
+package com.yoganavi.lecture.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서 인코딩/디코딩
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = ":";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long... values) {
+        StringJoiner joiner = new StringJoiner(DELIMITER);
+        for (long value : values) {
+            joiner.add(Long.toString(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor         인코딩된 커서
+     * @param expectedLength 커서에 담긴 값의 개수
+     * @return 디코딩된 값 배열
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static long[] decode(String cursor, int expectedLength) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            if (parts.length != expectedLength) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+
+            long[] values = new long[expectedLength];
+            for (int i = 0; i < expectedLength; i++) {
+                values[i] = Long.parseLong(parts[i]);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.yoganavi.lecture.common.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import lombok.Getter;
+
+/**
+ * 녹화 강의 인기순 (likeCount, createdDate, recordedId) 기준 키셋 페이지네이션 커서
+ */
+@Getter
+public class FameCursor {
+
+    private final long likeCount;
+    private final LocalDateTime createdDate;
+    private final Long recordedId;
+
+    private FameCursor(long likeCount, LocalDateTime createdDate, Long recordedId) {
+        this.likeCount = likeCount;
+        this.createdDate = createdDate;
+        this.recordedId = recordedId;
+    }
+
+    public static FameCursor of(long likeCount, LocalDateTime createdDate, Long recordedId) {
+        return new FameCursor(likeCount, createdDate, recordedId);
+    }
+
+    /**
+     * @return 커서 문자열, 비어있으면 null (첫 페이지)
+     */
+    public static FameCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        long[] values = CursorCodec.decode(cursor, 4);
+        try {
+            LocalDateTime createdDate = LocalDateTime.ofEpochSecond(values[1], (int) values[2],
+                ZoneOffset.UTC);
+            return new FameCursor(values[0], createdDate, values[3]);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(likeCount, createdDate.toEpochSecond(ZoneOffset.UTC),
+            createdDate.getNano(), recordedId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.yoganavi.lecture.common.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import lombok.Getter;
+
+/**
+ * 강의 일정 (startTime, scheduleId) 기준 키셋 페이지네이션 커서
+ */
+@Getter
+public class ScheduleCursor {
+
+    private final LocalDateTime startTime;
+    private final Long scheduleId;
+
+    private ScheduleCursor(LocalDateTime startTime, Long scheduleId) {
+        this.startTime = startTime;
+        this.scheduleId = scheduleId;
+    }
+
+    public static ScheduleCursor of(LocalDateTime startTime, Long scheduleId) {
+        return new ScheduleCursor(startTime, scheduleId);
+    }
+
+    /**
+     * @return 커서 문자열, 비어있으면 null (첫 페이지)
+     */
+    public static ScheduleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        long[] values = CursorCodec.decode(cursor, 3);
+        try {
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(values[0], (int) values[1],
+                ZoneOffset.UTC);
+            return new ScheduleCursor(startTime, values[2]);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(startTime.toEpochSecond(ZoneOffset.UTC), startTime.getNano(),
+            scheduleId);
+    }
+}
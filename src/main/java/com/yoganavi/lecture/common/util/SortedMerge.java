@@ -0,0 +1,72 @@
+package com.yoganavi.lecture.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 정렬된 여러 목록을 하나의 정렬된 목록으로 병합 (k-way merge)
+ */
+public final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    /**
+     * 각 목록은 comparator 순서로 정렬되어 있어야 한다. comparator 기준으로 같은 원소는 하나만 남긴다.
+     *
+     * @param sources    정렬된 목록들
+     * @param comparator 정렬 기준
+     * @param skip       건너뛸 원소 수
+     * @param limit      최대 반환 원소 수
+     */
+    public static <T> List<T> merge(List<List<T>> sources, Comparator<? super T> comparator,
+        int skip, int limit) {
+        PriorityQueue<Cursor<T>> heap = new PriorityQueue<>(
+            Math.max(1, sources.size()), (a, b) -> comparator.compare(a.head, b.head));
+        for (List<T> source : sources) {
+            Iterator<T> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heap.add(new Cursor<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        T previous = null;
+        int skipped = 0;
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Cursor<T> cursor = heap.poll();
+            T current = cursor.head;
+
+            if (cursor.iterator.hasNext()) {
+                heap.add(new Cursor<>(cursor.iterator.next(), cursor.iterator));
+            }
+
+            // 여러 목록에 같은 원소가 있으면 한 번만 사용
+            if (previous != null && comparator.compare(previous, current) == 0) {
+                continue;
+            }
+            previous = current;
+
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            merged.add(current);
+        }
+        return merged;
+    }
+
+    private static final class Cursor<T> {
+
+        private final T head;
+        private final Iterator<T> iterator;
+
+        private Cursor(T head, Iterator<T> iterator) {
+            this.head = head;
+            this.iterator = iterator;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.yoganavi.lecture.live_lecture.controller;
+
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
+import com.yoganavi.lecture.live_lecture.service.enrollment.EnrollmentService;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 실시간 강의 수강 신청 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/live-lecture/enrollment")
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+
+    /**
+     * 강의 일정 수강 신청
+     *
+     * @param date 신청할 일정 날짜 (epoch ms)
+     */
+    @PostMapping("/{live_id}")
+    public ResponseEntity<Map<String, Object>> enroll(
+        @PathVariable("live_id") Long liveId,
+        @RequestParam("date") Long date,
+        @RequestHeader("X-User-Id") Long userId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            LectureOccurrenceDto schedule = enrollmentService.enroll(userId, liveId, date);
+
+            response.put("message", "수강 신청 성공");
+            response.put("data", schedule);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("입력값 오류: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            log.error("수강 신청 불가: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("수강 신청 중 오류 발생: 강의 ID {}, 오류 메시지 {}", liveId, e.getMessage());
+            response.put("message", "수강 신청 중 오류가 발생했습니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 강의 일정 수강 취소
+     *
+     * @param date 취소할 일정 날짜 (epoch ms)
+     */
+    @DeleteMapping("/{live_id}")
+    public ResponseEntity<Map<String, Object>> unenroll(
+        @PathVariable("live_id") Long liveId,
+        @RequestParam("date") Long date,
+        @RequestHeader("X-User-Id") Long userId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            enrollmentService.unenroll(userId, liveId, date);
+
+            response.put("message", "수강 취소 성공");
+            response.put("data", new Object[]{});
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("입력값 오류: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            log.error("수강 취소 불가: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("수강 취소 중 오류 발생: 강의 ID {}, 오류 메시지 {}", liveId, e.getMessage());
+            response.put("message", "수강 취소 중 오류가 발생했습니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.live_lecture.controller;
 
+import com.yoganavi.lecture.live_lecture.dto.HistoryCursorPageDto;
 import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
 import com.yoganavi.lecture.live_lecture.service.history.HistoryService;
 import java.util.HashMap;
@@ -25,6 +26,9 @@ public class HistoryController {
 
     /**
      * 수강 내역 처리
+     * <p>
+     * cursor 파라미터가 있으면 커서 모드로 동작하며 nextCursor를 함께 반환한다. (첫 페이지는 cursor=)
+     * cursor 파라미터가 없으면 기존 page 기반 조회를 사용한다.
      *
      * @return 수강 내역 페이지에 대한 응답 포함한 ResponseEntity
      */
@@ -32,9 +36,14 @@ public class HistoryController {
     public ResponseEntity<Map<String, Object>> getHistoryData(
         @RequestHeader("X-User-Id") Long userId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "30") int size) {
+        @RequestParam(defaultValue = "30") int size,
+        @RequestParam(required = false) String cursor) {
 
         log.info("수강 내역 조회 요청: 사용자 ID {}", userId);
+        if (cursor != null) {
+            return getHistoryDataByCursor(userId, cursor, size);
+        }
+
         Map<String, Object> response = new HashMap<>();
         try {
             List<LectureHistoryDto> history = hsitoryService.getHistory(userId, page, size);
@@ -50,4 +59,30 @@ public class HistoryController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    private ResponseEntity<Map<String, Object>> getHistoryDataByCursor(Long userId,
+        String cursor, int size) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            HistoryCursorPageDto history = hsitoryService.getHistoryByCursor(userId, cursor,
+                size);
+            log.info("수강 내역 조회 성공: 사용자 ID {}, 조회된 강의 수 {}", userId,
+                history.getLectures().size());
+            response.put("message", "내 수강내역 조회 성공");
+            response.put("data", history.getLectures());
+            response.put("nextCursor", history.getNextCursor());
+
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 커서: {}", e.getMessage());
+            response.put("message", "잘못된 커서입니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("수강 내역 조회 실패: 사용자 ID {}, 오류 : {}", userId, e.getMessage());
+            response.put("message", "내 수강내역 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package com.yoganavi.lecture.live_lecture.controller;
 
+import com.yoganavi.lecture.live_lecture.dto.HomeCursorPageDto;
 import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
 import com.yoganavi.lecture.live_lecture.dto.SetIsOnAirDto;
 import com.yoganavi.lecture.live_lecture.service.home.HomeService;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,9 @@ public class HomeController {
 
     /**
      * 홈 페이지 요청 처리
+     * <p>
+     * cursor 파라미터가 있으면 커서 모드로 동작하며 nextCursor를 함께 반환한다. (첫 페이지는 cursor=)
+     * cursor 파라미터가 없으면 기존 page 기반 조회를 사용한다.
      *
      * @return 홈 페이지에 대한 응답
      */
@@ -35,7 +40,12 @@ public class HomeController {
     public ResponseEntity<Map<String, Object>> getHomeData(
         @RequestHeader("X-User-Id") Long userId,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "30") int size) {
+        @RequestParam(defaultValue = "30") int size,
+        @RequestParam(required = false) String cursor) {
+
+        if (cursor != null) {
+            return getHomeDataByCursor(userId, cursor, size);
+        }
 
         Map<String, Object> response = new HashMap<>();
 
@@ -53,6 +63,30 @@ public class HomeController {
         }
     }
 
+    private ResponseEntity<Map<String, Object>> getHomeDataByCursor(Long userId, String cursor,
+        int size) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            HomeCursorPageDto homePage = homeService.getHomeDataByCursor(userId, cursor, size);
+
+            response.put("message", "내 화상 강의 할 일 조회 성공");
+            response.put("data", homePage.getLectures());
+            response.put("nextCursor", homePage.getNextCursor());
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 커서: {}", e.getMessage());
+            response.put("message", "잘못된 커서입니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+
+            response.put("message", "내 화상강의 할 일 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 시그널링 서버 상태 업데이트
      *
@@ -62,12 +96,12 @@ public class HomeController {
     @PutMapping("/update")
     public ResponseEntity<Map<String, Object>> updateLiveStatus(
         @RequestBody SetIsOnAirDto setIsOnAirDto) {
-        log.info("라이브 상태 업데이트 요청: 강의 ID {}, 상태 {}", setIsOnAirDto.getLiveId(),
-            setIsOnAirDto.getOnAir());
+        log.info("라이브 상태 업데이트 요청: 강의 ID {}, 상태 {}, 참여자 수 {}", setIsOnAirDto.getLiveId(),
+            setIsOnAirDto.getOnAir(), setIsOnAirDto.getParticipantCount());
         Map<String, Object> response = new HashMap<>();
         try {
             boolean result = homeService.updateLiveState(setIsOnAirDto.getLiveId(),
-                setIsOnAirDto.getOnAir());
+                setIsOnAirDto.getOnAir(), setIsOnAirDto.getParticipantCount());
             if (result) {
                 log.info("라이브 상태 업데이트 성공: 강의 ID {}", setIsOnAirDto.getLiveId());
                 response.put("message", "success");
@@ -79,11 +113,17 @@ public class HomeController {
                 response.put("data", new Object[]{});
                 return ResponseEntity.status(HttpStatus.NOT_MODIFIED).body(response);
             }
-        } catch (NullPointerException e) {
+        } catch (EntityNotFoundException e) {
             log.error("라이브 상태 업데이트 실패 (강의를 찾지 못함): 강의 ID {}", setIsOnAirDto.getLiveId());
             response.put("message", "fail");
             response.put("data", new Object[]{});
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("라이브 상태 업데이트 실패: 강의 ID {}, 오류 메시지: {}", setIsOnAirDto.getLiveId(),
+                e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         } catch (Exception e) {
             log.error("라이브 상태 업데이트 중 오류 발생: 강의 ID {}, 오류 메시지: {}", setIsOnAirDto.getLiveId(),
                 e.getMessage());
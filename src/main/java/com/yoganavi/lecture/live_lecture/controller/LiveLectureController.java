@@ -1,9 +1,11 @@
 package com.yoganavi.lecture.live_lecture.controller;
 
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureInfoDto;
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureResponseDto;
 import com.yoganavi.lecture.common.repository.UserRepository;
 import com.yoganavi.lecture.live_lecture.service.lecture.LiveLectureService;
+import com.yoganavi.lecture.live_lecture.service.schedule.LectureScheduleService;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -31,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LiveLectureController {
 
     private final LiveLectureService liveLectureService;
+    private final LectureScheduleService lectureScheduleService;
     private final UserRepository usersRepository;
 
 
@@ -172,6 +176,73 @@ public class LiveLectureController {
         }
     }
 
+    @GetMapping("/occurrences/{live_id}")
+    public ResponseEntity<Map<String, Object>> getOccurrences(
+        @PathVariable("live_id") Long liveId,
+        @RequestParam("from") Long from,
+        @RequestParam("to") Long to) {
+        Map<String, Object> response = new HashMap<>();
+        log.info("강의 일정 조회 요청: 강의 ID {}", liveId);
+
+        try {
+            List<LectureOccurrenceDto> occurrences = lectureScheduleService.getOccurrences(liveId,
+                from, to);
+
+            response.put("message", "조회에 성공했습니다");
+            response.put("data", occurrences);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("입력값 오류: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("강의 일정 조회 중 오류 발생: 강의 ID {}, 오류 메시지 {}", liveId, e.getMessage());
+            response.put("message", "강의 일정 조회 중 오류가 발생했습니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    @PutMapping("/occurrences/cancel/{live_id}")
+    public ResponseEntity<Map<String, Object>> cancelOccurrence(
+        @PathVariable("live_id") Long liveId,
+        @RequestParam("date") Long date,
+        @RequestHeader("X-User-Id") Long userId) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            log.info("강의 일정 취소 요청: 강의 ID {}, 사용자 ID {}", liveId, userId);
+
+            if (!liveLectureService.isLectureOwner(liveId, userId)) {
+                response.put("message", "수정 권한이 없습니다");
+                response.put("data", new Object[]{});
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            lectureScheduleService.cancelOccurrence(liveId, date);
+
+            response.put("message", "강의 일정 취소 성공");
+            response.put("data", new Object[]{});
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.error("입력값 오류: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (IllegalStateException e) {
+            log.error("강의 상태 오류: {}", e.getMessage());
+            response.put("message", e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        } catch (Exception e) {
+            log.error("강의 일정 취소 중 오류 발생: {}", e.getMessage());
+            response.put("message", "강의 일정 취소 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @DeleteMapping("/delete/{live_id}")
     public ResponseEntity<Map<String, Object>> deleteLiveLecture(
         @PathVariable("live_id") Long liveId,
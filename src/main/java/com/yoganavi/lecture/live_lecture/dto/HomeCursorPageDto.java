@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.live_lecture.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 홈 화면 커서 페이지 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class HomeCursorPageDto {
+
+    private List<HomeResponseDto> lectures;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.live_lecture.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -15,6 +16,11 @@ import lombok.Setter;
 @NoArgsConstructor
 public class HomeResponseDto {
 
+    @JsonIgnore
+    private Long scheduleId;    // 커서 페이지네이션용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime scheduleStartTime;    // 커서 페이지네이션용 원본 시작 시간
+
     private Long liveId;
     private String nickname;
     private String profileImageUrl;
@@ -37,6 +43,26 @@ public class HomeResponseDto {
         this.teacher = teacher;
     }
 
+    public HomeResponseDto(
+        Long scheduleId,
+        Long liveId,
+        String nickname,
+        String profileImageUrl,
+        String profileImageUrlSmall,
+        String liveTitle,
+        String liveContent,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String dayOfWeek,
+        Integer maxLiveNum,
+        Boolean teacher,
+        Boolean isOnAir
+    ) {
+        this(liveId, nickname, profileImageUrl, profileImageUrlSmall, liveTitle, liveContent,
+            startTime, endTime, dayOfWeek, maxLiveNum, teacher, isOnAir);
+        this.scheduleId = scheduleId;
+    }
+
     public HomeResponseDto(
         Long liveId,
         String nickname,
@@ -57,6 +83,7 @@ public class HomeResponseDto {
         this.profileImageUrlSmall = profileImageUrlSmall;
         this.liveTitle = liveTitle;
         this.liveContent = liveContent;
+        this.scheduleStartTime = startTime;
         this.startTime = startTime.toEpochSecond(ZoneOffset.UTC);
         this.endTime = endTime.toEpochSecond(ZoneOffset.UTC);
         this.lectureDate = startTime.toLocalDate().atStartOfDay().toEpochSecond(ZoneOffset.UTC);
@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.live_lecture.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -10,6 +11,11 @@ import lombok.Setter;
 @Setter
 public class LectureHistoryDto {
 
+    @JsonIgnore
+    private Long scheduleId;    // 커서 페이지네이션용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private LocalDateTime scheduleStartTime;    // 커서 페이지네이션용 원본 시작 시간
+
     private Long liveId;
     private String nickname;
     private String profileImageUrlSmall;
@@ -19,6 +25,20 @@ public class LectureHistoryDto {
     private Long lectureDate;
     private String lectureDay;
 
+    public LectureHistoryDto(
+        Long scheduleId,
+        Long liveId,
+        String nickname,
+        String profileImageUrlSmall,
+        String liveTitle,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String dayOfWeek
+    ) {
+        this(liveId, nickname, profileImageUrlSmall, liveTitle, startTime, endTime, dayOfWeek);
+        this.scheduleId = scheduleId;
+    }
+
     public LectureHistoryDto(
         Long liveId,
         String nickname,
@@ -32,6 +52,7 @@ public class LectureHistoryDto {
         this.nickname = nickname;
         this.profileImageUrlSmall = profileImageUrlSmall;
         this.liveTitle = liveTitle;
+        this.scheduleStartTime = startTime;
         this.startTime = startTime.toEpochSecond(ZoneOffset.UTC);
         this.endTime = endTime.toEpochSecond(ZoneOffset.UTC);
         this.lectureDate = startTime.toLocalDate().atStartOfDay().toEpochSecond(ZoneOffset.UTC);
@@ -0,0 +1,13 @@
+package com.yoganavi.lecture.live_lecture.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LectureOccurrenceDto {
+
+    private Long scheduleId; // 일정 ID (아직 만들어지지 않은 일정은 null)
+    private Long startTime; // 시작 시간
+    private Long endTime; // 종료 시간
+}
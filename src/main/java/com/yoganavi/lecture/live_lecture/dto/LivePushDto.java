@@ -0,0 +1,32 @@
+package com.yoganavi.lecture.live_lecture.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * WebSocket으로 전달하는 강의 상태 변경 알림
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LivePushDto {
+
+    public static final String ON_AIR = "ON_AIR";                     // 방송 상태 변경
+    public static final String SCHEDULE_CHANGED = "SCHEDULE_CHANGED"; // 강의 일정 변경
+
+    private String type;
+    private Long liveId;
+    private Boolean onAir;              // ON_AIR 알림에만 포함
+    private Integer participantCount;   // ON_AIR 알림에만 포함
+    private Long sentAt;                // 알림 생성 시각 (epoch ms)
+
+    public static LivePushDto onAir(Long liveId, boolean onAir, Integer participantCount,
+        long now) {
+        return new LivePushDto(ON_AIR, liveId, onAir, participantCount, now);
+    }
+
+    public static LivePushDto scheduleChanged(Long liveId, long now) {
+        return new LivePushDto(SCHEDULE_CHANGED, liveId, null, null, now);
+    }
+}
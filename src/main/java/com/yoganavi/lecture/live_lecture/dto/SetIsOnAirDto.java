@@ -9,5 +9,6 @@ public class SetIsOnAirDto {
 
     private long liveId;
     private Boolean onAir;
+    private Integer participantCount;   // 참여자 수 (없으면 기존 값 유지)
 
 }
@@ -0,0 +1,132 @@
+package com.yoganavi.lecture.live_lecture.service.batch;
+
+import com.yoganavi.lecture.common.entity.JobWatermark;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.repository.JobWatermarkRepository;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 배치 작업을 청크 단위 트랜잭션으로 나눠 실행
+ * <p>
+ * 종료된 일정을 처리하는 작업은 job_watermarks의 (endTime, scheduleId) 워터마크로, 그 밖의 작업은 id 순서로
+ * 마지막 위치 이후를 이어 읽는다. 청크마다 트랜잭션 하나로 처리하므로 한 번에 잠그는 행 수가 청크 크기를 넘지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedJobRunner {
+
+    private static final int ENDED_SCHEDULE_CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+
+    private final LectureScheduleRepository lectureScheduleRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * jobName 워터마크 이후에 종료된 일정을 청크마다 handler로 처리하고 워터마크를 옮긴다. 워터마크 행을 잠그고
+     * 처리하므로 여러 인스턴스가 동시에 실행해도 같은 구간을 한 번만 처리하며, 실행마다 MAX_CHUNKS_PER_RUN개 청크까지
+     * 처리한다.
+     *
+     * @return 처리한 청크 수와 일정 수
+     */
+    public <R> SweepResult sweepEndedSchedules(String jobName, EndedScheduleHandler<R> handler) {
+        transactionTemplate.executeWithoutResult(status ->
+            jobWatermarkRepository.insertIfAbsent(jobName, JobWatermark.INITIAL_END_TIME));
+
+        int chunks = 0;
+        int total = 0;
+        Chunk<R> chunk;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            chunk = transactionTemplate.execute(status -> sweepChunk(jobName, now, handler));
+            if (chunk.getSchedules() > 0) {
+                handler.afterCommit(chunk.getResult(), now);
+            }
+            total += chunk.getSchedules();
+            chunks++;
+        } while (chunk.getSchedules() == ENDED_SCHEDULE_CHUNK_SIZE && chunks < MAX_CHUNKS_PER_RUN);
+        return new SweepResult(chunks, total);
+    }
+
+    private <R> Chunk<R> sweepChunk(String jobName, LocalDateTime now,
+        EndedScheduleHandler<R> handler) {
+        JobWatermark watermark = jobWatermarkRepository.findForUpdate(jobName)
+            .orElseThrow(() -> new IllegalStateException("작업 워터마크 없음: " + jobName));
+
+        List<LectureSchedule> ended = lectureScheduleRepository.findEndedAfter(now,
+            watermark.getLastEndTime(), watermark.getLastId(),
+            PageRequest.of(0, ENDED_SCHEDULE_CHUNK_SIZE));
+        if (ended.isEmpty()) {
+            return new Chunk<>(0, null);
+        }
+
+        R result = handler.process(ended, now);
+
+        LectureSchedule last = ended.get(ended.size() - 1);
+        watermark.advance(last.getEndTime(), last.getScheduleId());
+        jobWatermarkRepository.save(watermark);
+        log.debug("{} 청크 처리: 일정 {}건, 워터마크 ({}, {})", jobName, ended.size(),
+            last.getEndTime(), last.getScheduleId());
+        return new Chunk<>(ended.size(), result);
+    }
+
+    /**
+     * @return jobName이 아직 처리하지 않은 가장 오래된 종료 일정의 종료 시각
+     */
+    public Optional<LocalDateTime> findOldestPendingEndTime(String jobName, LocalDateTime now) {
+        JobWatermark watermark = jobWatermarkRepository.findById(jobName)
+            .orElseGet(() -> JobWatermark.initial(jobName));
+        return lectureScheduleRepository.findEndedAfter(now, watermark.getLastEndTime(),
+                watermark.getLastId(), PageRequest.of(0, 1)).stream()
+            .findFirst()
+            .map(LectureSchedule::getEndTime);
+    }
+
+    /**
+     * id가 lastId보다 큰 행을 chunk로 chunkSize개씩 트랜잭션 하나로 처리한다. chunk는 처리한 행의 id를 오름차순으로
+     * 반환하고, chunkSize개보다 적게 반환하면 끝난다.
+     *
+     * @return 처리한 행 수
+     */
+    public int forEachIdChunk(int chunkSize, LongFunction<List<Long>> chunk) {
+        long lastId = 0L;
+        int total = 0;
+        List<Long> ids;
+        do {
+            long after = lastId;
+            ids = transactionTemplate.execute(status -> chunk.apply(after));
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+            total += ids.size();
+        } while (ids.size() == chunkSize);
+        return total;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SweepResult {
+
+        private final int chunks;       // 처리한 청크 수
+        private final int schedules;    // 처리한 일정 수
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Chunk<R> {
+
+        private final int schedules;    // 처리한 일정 수
+        private final R result;         // 커밋 후 처리에 넘길 결과
+    }
+}
@@ -0,0 +1,26 @@
+package com.yoganavi.lecture.live_lecture.service.batch;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료된 일정 청크 처리
+ *
+ * @param <R> 청크 트랜잭션 커밋 후 처리에 넘길 결과
+ */
+public interface EndedScheduleHandler<R> {
+
+    /**
+     * 워터마크 행을 잠근 청크 트랜잭션 안에서 실행
+     *
+     * @param ended (endTime, scheduleId) 순서로 정렬된 종료 일정
+     */
+    R process(List<LectureSchedule> ended, LocalDateTime now);
+
+    /**
+     * 청크 트랜잭션 커밋 후 실행 (외부 저장소 갱신, 알림 등 잠금을 쥔 채 하지 않을 작업)
+     */
+    default void afterCommit(R result, LocalDateTime now) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.yoganavi.lecture.live_lecture.service.enrollment;
+
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
+
+public interface EnrollmentService {
+
+    /**
+     * 강의의 해당 날짜 일정 수강 신청 (남은 좌석이 없으면 IllegalStateException)
+     *
+     * @param date 일정 날짜 (epoch ms)
+     * @return 신청한 일정
+     */
+    LectureOccurrenceDto enroll(Long userId, Long liveId, Long date);
+
+    /**
+     * 강의의 해당 날짜 일정 수강 취소
+     *
+     * @param date 일정 날짜 (epoch ms)
+     */
+    void unenroll(Long userId, Long liveId, Long date);
+}
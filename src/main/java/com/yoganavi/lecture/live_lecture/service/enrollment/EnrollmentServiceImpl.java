@@ -0,0 +1,129 @@
+package com.yoganavi.lecture.live_lecture.service.enrollment;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.common.util.TimeUtil;
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
+import com.yoganavi.lecture.live_lecture.service.lecture.LectureOwnerCache;
+import com.yoganavi.lecture.live_lecture.service.schedule.LectureScheduleService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 수강 신청/취소
+ * <p>
+ * 좌석은 lecture_schedules.reserved_seats를 조건부 UPDATE(reserved_seats < max_live_num)로 예약한다.
+ * UPDATE가 일정 행을 잠그므로 같은 일정의 동시 신청은 커밋 순서대로 처리되고, 좌석이 남지 않으면 0건이 갱신되어
+ * 신청이 거절된다. (userId, schedule_id) 유니크 제약이 중복 신청의 마지막 방어선이며, 중복으로 실패하면
+ * 트랜잭션이 롤백되어 예약한 좌석도 함께 반환된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentServiceImpl implements EnrollmentService {
+
+    private final TimeUtil timeUtil;
+    private final UserRepository userRepository;
+    private final LectureScheduleRepository lectureScheduleRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final LectureScheduleService lectureScheduleService;
+    private final LectureOwnerCache lectureOwnerCache;
+    private final HomeTimelineService homeTimelineService;
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LectureOccurrenceDto enroll(Long userId, Long liveId, Long date) {
+        log.info("수강 신청 시작: 사용자 ID {}, 강의 ID {}", userId, liveId);
+
+        Long ownerId = lectureOwnerCache.getOwnerId(liveId)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 강의 ID: " + liveId));
+        if (Objects.equals(ownerId, userId)) {
+            throw new IllegalArgumentException("본인 강의는 수강 신청할 수 없습니다");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자" + userId + "를 찾을 수 없습니다.");
+        }
+
+        LocalDate lectureDate = timeUtil.toLocalDate(date);
+        LectureSchedule schedule = findSchedule(liveId, lectureDate);
+        if (schedule == null) {
+            // 아직 만들어지지 않은 일정이면 이때 생성 (강의 행을 잠그므로 저장된 일정이 없을 때만)
+            schedule = lectureScheduleService.materializeOccurrence(liveId, lectureDate);
+        }
+        if (Boolean.TRUE.equals(schedule.getLecture().getIsDeleted())) {
+            throw new IllegalArgumentException("삭제된 강의입니다: " + liveId);
+        }
+        if (!schedule.isUpcoming()) {
+            throw new IllegalStateException("이미 시작된 일정은 신청할 수 없습니다");
+        }
+        if (myLiveLectureRepository.existsByUserIdAndScheduleId(userId,
+            schedule.getScheduleId())) {
+            throw new IllegalStateException("이미 신청한 일정입니다");
+        }
+
+        if (lectureScheduleRepository.reserveSeat(schedule.getScheduleId()) == 0) {
+            log.info("수강 신청 거절 (정원 초과): 사용자 ID {}, 일정 ID {}", userId,
+                schedule.getScheduleId());
+            throw new IllegalStateException("수강 인원이 가득 찼습니다");
+        }
+
+        MyLiveLecture enrollment = new MyLiveLecture();
+        enrollment.setUser(userRepository.getReferenceById(userId));
+        enrollment.setLectureSchedule(schedule);
+        enrollment.setCompleted(false);
+        try {
+            myLiveLectureRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 사용자의 신청, 롤백되면서 예약한 좌석도 반환된다
+            throw new IllegalStateException("이미 신청한 일정입니다");
+        }
+
+        homeTimelineService.onEnroll(userId, liveId);
+        log.info("수강 신청 완료: 사용자 ID {}, 일정 ID {}", userId, schedule.getScheduleId());
+
+        return new LectureOccurrenceDto(schedule.getScheduleId(),
+            timeUtil.toEpochMilli(schedule.getStartTime()),
+            timeUtil.toEpochMilli(schedule.getEndTime()));
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void unenroll(Long userId, Long liveId, Long date) {
+        log.info("수강 취소 시작: 사용자 ID {}, 강의 ID {}", userId, liveId);
+
+        LectureSchedule schedule = findSchedule(liveId, timeUtil.toLocalDate(date));
+        if (schedule == null) {
+            throw new IllegalArgumentException("신청하지 않은 일정입니다");
+        }
+        if (!schedule.isUpcoming()) {
+            throw new IllegalStateException("이미 시작된 일정은 취소할 수 없습니다");
+        }
+
+        if (myLiveLectureRepository.deleteByUserIdAndScheduleId(userId,
+            schedule.getScheduleId()) == 0) {
+            throw new IllegalArgumentException("신청하지 않은 일정입니다");
+        }
+        lectureScheduleRepository.releaseSeat(schedule.getScheduleId());
+
+        homeTimelineService.onUnenroll(userId, liveId);
+        log.info("수강 취소 완료: 사용자 ID {}, 일정 ID {}", userId, schedule.getScheduleId());
+    }
+
+    private LectureSchedule findSchedule(Long liveId, LocalDate date) {
+        List<LectureSchedule> schedules = lectureScheduleRepository
+            .findByLiveIdAndStartTimeBetween(liveId, date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay());
+        return schedules.isEmpty() ? null : schedules.get(0);
+    }
+}
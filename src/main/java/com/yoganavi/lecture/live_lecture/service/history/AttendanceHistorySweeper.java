@@ -0,0 +1,51 @@
+package com.yoganavi.lecture.live_lecture.service.history;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.repository.AttendanceHistoryRepository;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner.SweepResult;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료된 일정을 수강 내역(attendance_history)에 기록하는 배치 작업
+ * <p>
+ * 강사와 수강생의 내역을 INSERT IGNORE로 기록하므로, 워터마크를 옮기기 전에 실패해 같은 구간을 다시 처리해도
+ * 내역이 중복되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceHistorySweeper {
+
+    static final String JOB_NAME = "attendance-history";
+
+    private final AttendanceHistoryRepository attendanceHistoryRepository;
+    private final ChunkedJobRunner chunkedJobRunner;
+
+    @Scheduled(fixedDelayString = "${attendance-history.sweep-delay-ms:60000}")
+    public void sweep() {
+        SweepResult result = chunkedJobRunner.sweepEndedSchedules(JOB_NAME, this::record);
+
+        if (result.getSchedules() > 0) {
+            log.info("수강 내역 기록 완료: 처리한 일정 수 {}, 청크 수 {}", result.getSchedules(),
+                result.getChunks());
+        }
+    }
+
+    private Void record(List<LectureSchedule> ended, LocalDateTime now) {
+        List<Long> scheduleIds = ended.stream()
+            .map(LectureSchedule::getScheduleId)
+            .toList();
+        int teacherRows = attendanceHistoryRepository.insertTeacherHistory(scheduleIds);
+        int studentRows = attendanceHistoryRepository.insertStudentHistory(scheduleIds);
+
+        log.debug("수강 내역 청크 기록: 일정 {}건, 강사 {}건, 수강생 {}건", ended.size(), teacherRows,
+            studentRows);
+        return null;
+    }
+}
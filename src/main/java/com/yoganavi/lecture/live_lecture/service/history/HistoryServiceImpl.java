@@ -1,12 +1,14 @@
 package com.yoganavi.lecture.live_lecture.service.history;
 
+import com.yoganavi.lecture.common.repository.AttendanceHistoryRepository;
+import com.yoganavi.lecture.common.repository.HistoryRepository;
+import com.yoganavi.lecture.common.util.ScheduleCursor;
+import com.yoganavi.lecture.live_lecture.dto.HistoryCursorPageDto;
 import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
 import java.util.List;
 import org.springframework.stereotype.Service;
-import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
@@ -18,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class HistoryServiceImpl implements HistoryService {
 
-    private final LiveLecturesRepository liveLecturesRepository;
+    private final AttendanceHistoryRepository attendanceHistoryRepository;
+    private final HistoryRepository historyRepository;
     private final UserRepository userRepository;
 
     @Override
@@ -31,9 +34,8 @@ public class HistoryServiceImpl implements HistoryService {
                 throw new EntityNotFoundException("사용자 없음. id: " + userId);
             }
 
-            return liveLecturesRepository.findCompletedLectures(
+            return attendanceHistoryRepository.findCompletedLectures(
                 userId,
-                LocalDateTime.now(),
                 PageRequest.of(page, size)
             );
 
@@ -45,4 +47,44 @@ public class HistoryServiceImpl implements HistoryService {
             throw new ServiceException("수강 이력 조회 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 수강 내역 커서 조회
+     * <p>
+     * 마지막으로 받은 (startTime, scheduleId) 이전부터 size건만 인덱스 범위로 읽는다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 값
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public HistoryCursorPageDto getHistoryByCursor(Long userId, String cursor, int size) {
+        log.info("사용자: {}의 수강 이력 커서 조회, cursor: {}, size: {}", userId, cursor, size);
+
+        ScheduleCursor before = ScheduleCursor.decode(cursor);
+
+        try {
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자 없음. id: " + userId);
+            }
+
+            List<LectureHistoryDto> lectures = historyRepository.findHistory(userId, before,
+                size);
+            return new HistoryCursorPageDto(lectures, nextCursor(lectures, size));
+
+        } catch (EntityNotFoundException e) {
+            log.error("사용자 없음: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("수강 이력 커서 조회중 오류 발생: {}", e.getMessage());
+            throw new ServiceException("수강 이력 조회 중 오류 발생", e);
+        }
+    }
+
+    private String nextCursor(List<LectureHistoryDto> lectures, int size) {
+        if (lectures.size() < size) {
+            return null;
+        }
+        LectureHistoryDto last = lectures.get(lectures.size() - 1);
+        return ScheduleCursor.of(last.getScheduleStartTime(), last.getScheduleId()).encode();
+    }
+}
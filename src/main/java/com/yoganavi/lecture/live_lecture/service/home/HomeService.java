@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.live_lecture.service.home;
 
+import com.yoganavi.lecture.live_lecture.dto.HomeCursorPageDto;
 import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
 import java.util.List;
 
@@ -7,5 +8,7 @@ public interface HomeService {
 
     List<HomeResponseDto> getHomeData(Long userId, int page, int size);
 
-    boolean updateLiveState(Long liveId, Boolean isOnAir);
+    HomeCursorPageDto getHomeDataByCursor(Long userId, String cursor, int size);
+
+    boolean updateLiveState(Long liveId, Boolean isOnAir, Integer participantCount);
 }
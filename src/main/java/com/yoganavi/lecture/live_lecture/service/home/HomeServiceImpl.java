@@ -1,16 +1,32 @@
 package com.yoganavi.lecture.live_lecture.service.home;
 
-import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
-import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.HomeFeedRepository;
 import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.util.ScheduleCursor;
+import com.yoganavi.lecture.common.util.SortedMerge;
+import com.yoganavi.lecture.live_lecture.dto.HomeCursorPageDto;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
 import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.service.lecture.LectureOwnerCache;
+import com.yoganavi.lecture.live_lecture.service.live.LiveState;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateUpdate;
+import com.yoganavi.lecture.live_lecture.service.push.LivePushService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,9 +36,21 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class HomeServiceImpl implements HomeService {
 
-    private final LiveLecturesRepository liveLecturesRepository;
-    private final MyLiveLectureRepository myLiveLectureRepository;
+    // 홈 화면 정렬 기준 (startTime, scheduleId)
+    private static final Comparator<HomeResponseDto> HOME_ORDER = Comparator
+        .comparing(HomeResponseDto::getScheduleStartTime)
+        .thenComparing(HomeResponseDto::getScheduleId);
+
+    // Redis 장애 시 페이지 번호 조회를 커서 조회로 이어 읽을 때 한 번에 넘기는 일정 수
+    private static final int FALLBACK_CHUNK_SIZE = 100;
+
+    private final HomeFeedRepository homeFeedRepository;
     private final UserRepository userRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final HomeTimelineService homeTimelineService;
+    private final LiveStateRegistry liveStateRegistry;
+    private final LectureOwnerCache lectureOwnerCache;
+    private final LivePushService livePushService;
 
     /**
      * 사용자 강의 목록 조회
@@ -37,12 +65,17 @@ public class HomeServiceImpl implements HomeService {
                 throw new EntityNotFoundException("사용자 없음. id: " + userId);
             }
 
-
-            return liveLecturesRepository.findAllMyLectures(
-                userId,
-                LocalDateTime.now(),
-                PageRequest.of(page, size)
-            );
+            int offset = page * size;
+            LocalDateTime now = LocalDateTime.now();
+            List<HomeResponseDto> lectures;
+            try {
+                lectures = homeTimelineService.getHomeData(userId, now, offset, size);
+            } catch (RedisConnectionFailureException | RedisSystemException e) {
+                // Redis 장애 시 MySQL에서 직접 조회
+                log.warn("홈 타임라인 조회 실패, MySQL 조회로 대체: {}", e.getMessage());
+                lectures = mergeFeedsAt(userId, now, offset, size);
+            }
+            return applyLiveState(lectures);
 
         } catch (EntityNotFoundException e) {
             log.error("사용자 없음: {}", e.getMessage());
@@ -53,9 +86,144 @@ public class HomeServiceImpl implements HomeService {
         }
     }
 
+    /**
+     * 사용자 강의 목록 커서 조회
+     * <p>
+     * 마지막으로 받은 (startTime, scheduleId) 이후부터 조회하므로 페이지 깊이와 관계없이 비용이 일정하다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 값
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public HomeCursorPageDto getHomeDataByCursor(Long userId, String cursor, int size) {
+        log.info("사용자: {}의 홈 화면 데이터 커서 조회, cursor: {}, size: {}", userId, cursor, size);
+
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+
+        try {
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자 없음. id: " + userId);
+            }
+
+            List<HomeResponseDto> lectures = applyLiveState(
+                mergeFeeds(userId, LocalDateTime.now(), after, 0, size));
+            return new HomeCursorPageDto(lectures, nextCursor(lectures, size));
+
+        } catch (EntityNotFoundException e) {
+            log.error("사용자 없음: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("홈 데이터 커서 조회중 오류 발생: {}", e.getMessage());
+            throw new ServiceException("홈 데이터 조회 중 오류 발생. 강의 데이터 조회 불가", e);
+        }
+    }
+
+    /**
+     * offset 위치의 페이지를 커서 조회로 이어 읽는다
+     * <p>
+     * 두 목록에서 offset + size건씩 한 번에 읽지 않고 FALLBACK_CHUNK_SIZE건씩 (startTime, scheduleId) 커서를 옮겨
+     * 가며 건너뛰므로, 페이지가 깊어도 쿼리 하나가 읽는 행 수와 메모리는 일정하다.
+     */
+    private List<HomeResponseDto> mergeFeedsAt(Long userId, LocalDateTime now, int offset,
+        int size) {
+        ScheduleCursor after = null;
+        int remaining = offset;
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, FALLBACK_CHUNK_SIZE);
+            List<HomeResponseDto> skipped = mergeFeeds(userId, now, after, 0, chunk);
+            if (skipped.size() < chunk) {
+                return new ArrayList<>();
+            }
+            HomeResponseDto last = skipped.get(skipped.size() - 1);
+            after = ScheduleCursor.of(last.getScheduleStartTime(), last.getScheduleId());
+            remaining -= chunk;
+        }
+        return mergeFeeds(userId, now, after, 0, size);
+    }
+
+    /**
+     * 강의하는 일정과 수강하는 일정을 각각 조회한 뒤 startTime 순으로 병합
+     */
+    private List<HomeResponseDto> mergeFeeds(Long userId, LocalDateTime now,
+        ScheduleCursor after, int offset, int size) {
+        int limit = offset + size;
+        List<HomeResponseDto> teaching = homeFeedRepository.findTeachingSchedules(userId, now,
+            after, limit);
+        List<HomeResponseDto> enrolled = homeFeedRepository.findEnrolledSchedules(userId, now,
+            after, limit);
+
+        return SortedMerge.merge(List.of(teaching, enrolled), HOME_ORDER, offset, size);
+    }
+
+    /**
+     * 방송 상태는 행의 is_on_air 대신 방송 상태 저장소 값을 사용
+     * <p>
+     * 저장소에 없는 강의이거나 저장소 조회에 실패하면 행의 값을 그대로 둔다.
+     */
+    private List<HomeResponseDto> applyLiveState(List<HomeResponseDto> lectures) {
+        if (lectures.isEmpty()) {
+            return lectures;
+        }
 
+        try {
+            Map<Long, LiveState> states = liveStateRegistry.findAll(lectures.stream()
+                .map(HomeResponseDto::getLiveId)
+                .collect(Collectors.toSet()));
+            for (HomeResponseDto lecture : lectures) {
+                LiveState state = states.get(lecture.getLiveId());
+                if (state != null) {
+                    lecture.setIsOnAir(state.isOnAir());
+                }
+            }
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("방송 상태 조회 실패, is_on_air 값 사용: {}", e.getMessage());
+        }
+        return lectures;
+    }
+
+    private String nextCursor(List<HomeResponseDto> lectures, int size) {
+        if (lectures.size() < size) {
+            return null;
+        }
+        HomeResponseDto last = lectures.get(lectures.size() - 1);
+        return ScheduleCursor.of(last.getScheduleStartTime(), last.getScheduleId()).encode();
+    }
+
+    /**
+     * 시그널링 서버가 알려준 방송 상태 반영
+     * <p>
+     * 방송 상태는 LiveStateRegistry에만 기록하고 live_lectures.is_on_air는 LiveStateWriteBehind가 모아서
+     * 갱신하므로, 짧은 시간에 반복되는 상태 변경이 강의 행 UPDATE로 이어지지 않는다. 강사/수강생별 알림은 방송
+     * 여부가 바뀔 때만 보내고, 자주 바뀌는 참여자 수는 강의 구독자에게만 보내 수강생 조회를 하지 않는다.
+     *
+     * @param participantCount 참여자 수, null이면 기존 값 유지
+     * @return 방송 여부나 참여자 수가 바뀌었으면 true
+     */
     @Override
-    public boolean updateLiveState(Long liveId, Boolean isOnAir) {
-        return false;
+    public boolean updateLiveState(Long liveId, Boolean isOnAir, Integer participantCount) {
+        if (isOnAir == null) {
+            throw new IllegalArgumentException("방송 상태가 없습니다");
+        }
+        if (participantCount != null && participantCount < 0) {
+            throw new IllegalArgumentException("참여자 수는 0 이상이어야 합니다");
+        }
+        Long ownerId = lectureOwnerCache.getOwnerId(liveId)
+            .orElseThrow(() -> new EntityNotFoundException("강의 없음. id: " + liveId));
+
+        LiveStateUpdate update = liveStateRegistry.update(liveId, isOnAir, participantCount,
+            System.currentTimeMillis());
+        Integer participants = update.getState().getParticipantCount();
+        if (update.isOnAirChanged()) {
+            log.info("방송 상태 변경: 강의 ID {}, 방송 여부 {}, 참여자 수 {}", liveId, isOnAir,
+                participants);
+            Set<Long> audience = new HashSet<>(
+                myLiveLectureRepository.findActiveUserIdsByLiveId(liveId));
+            audience.add(ownerId);
+            livePushService.onAirChanged(liveId, isOnAir, participants, audience);
+        } else if (update.isParticipantsChanged()) {
+            log.debug("참여자 수 변경: 강의 ID {}, 참여자 수 {}", liveId, participants);
+            livePushService.participantsChanged(liveId, isOnAir, participants);
+        }
+        return update.isChanged();
     }
 }
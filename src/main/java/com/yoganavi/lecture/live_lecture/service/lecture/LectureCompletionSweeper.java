@@ -0,0 +1,153 @@
+package com.yoganavi.lecture.live_lecture.service.lecture;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner.SweepResult;
+import com.yoganavi.lecture.live_lecture.service.batch.EndedScheduleHandler;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.push.LivePushService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료된 일정의 수강 완료 처리 배치 작업
+ * <p>
+ * 종료된 일정의 수강 정보를 completed = true로 바꾸고, 진행 중인 일정이 남지 않은 강의는 방송 상태(isOnAir와 방송
+ * 상태 저장소)를 해제한다. 방송 상태 저장소 정리와 알림은 Redis 호출과 수강생 조회가 섞여 있으므로, 워터마크 행을
+ * 잠근 청크 트랜잭션이 커밋된 뒤에 실행한다.
+ */
+@Slf4j
+@Component
+public class LectureCompletionSweeper implements EndedScheduleHandler<List<Long>> {
+
+    static final String JOB_NAME = "lecture-completion";
+
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final LiveStateRegistry liveStateRegistry;
+    private final LivePushService livePushService;
+    private final ChunkedJobRunner chunkedJobRunner;
+
+    private final Counter schedulesProcessed;
+    private final Counter enrollmentsCompleted;
+    private final Counter lecturesTurnedOff;
+    // 처리하지 못한 가장 오래된 종료 일정이 현재 시각보다 뒤처진 정도 (초)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public LectureCompletionSweeper(MyLiveLectureRepository myLiveLectureRepository,
+        LiveLecturesRepository liveLecturesRepository,
+        LiveStateRegistry liveStateRegistry,
+        LivePushService livePushService,
+        ChunkedJobRunner chunkedJobRunner,
+        MeterRegistry meterRegistry) {
+        this.myLiveLectureRepository = myLiveLectureRepository;
+        this.liveLecturesRepository = liveLecturesRepository;
+        this.liveStateRegistry = liveStateRegistry;
+        this.livePushService = livePushService;
+        this.chunkedJobRunner = chunkedJobRunner;
+
+        this.schedulesProcessed = Counter.builder("lecture.completion.processed")
+            .description("수강 완료 처리한 종료 일정 수")
+            .tag("type", "schedule")
+            .register(meterRegistry);
+        this.enrollmentsCompleted = Counter.builder("lecture.completion.processed")
+            .description("completed = true로 변경된 수강 정보 수")
+            .tag("type", "enrollment")
+            .register(meterRegistry);
+        this.lecturesTurnedOff = Counter.builder("lecture.completion.processed")
+            .description("방송 상태를 해제한 강의 수")
+            .tag("type", "on_air_off")
+            .register(meterRegistry);
+        Gauge.builder("lecture.completion.lag.seconds", lagSeconds, AtomicLong::get)
+            .description("수강 완료 처리 지연 시간 (초)")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${lecture-completion.sweep-delay-ms:60000}")
+    public void sweep() {
+        SweepResult result = chunkedJobRunner.sweepEndedSchedules(JOB_NAME, this);
+
+        LocalDateTime now = LocalDateTime.now();
+        lagSeconds.set(chunkedJobRunner.findOldestPendingEndTime(JOB_NAME, now)
+            .map(endTime -> Duration.between(endTime, now).getSeconds())
+            .orElse(0L));
+
+        if (result.getSchedules() > 0) {
+            log.info("수강 완료 처리 완료: 처리한 일정 수 {}, 청크 수 {}, 지연 {}초",
+                result.getSchedules(), result.getChunks(), lagSeconds.get());
+        }
+    }
+
+    /**
+     * @return 진행 중인 일정이 남지 않은 강의 ID
+     */
+    @Override
+    public List<Long> process(List<LectureSchedule> ended, LocalDateTime now) {
+        List<Long> scheduleIds = ended.stream()
+            .map(LectureSchedule::getScheduleId)
+            .toList();
+        Set<Long> liveIds = ended.stream()
+            .map(schedule -> schedule.getLecture().getLiveId())
+            .collect(Collectors.toSet());
+
+        int completed = myLiveLectureRepository.markCompletedByScheduleIds(scheduleIds);
+        int turnedOff = liveLecturesRepository.turnOffAirWithoutActiveSchedule(liveIds, now);
+
+        schedulesProcessed.increment(ended.size());
+        enrollmentsCompleted.increment(completed);
+        lecturesTurnedOff.increment(turnedOff);
+
+        log.debug("수강 완료 청크 처리: 일정 {}건, 수강 정보 {}건, 방송 해제 {}건", ended.size(), completed,
+            turnedOff);
+        return liveLecturesRepository.findIdsWithoutActiveSchedule(liveIds, now);
+    }
+
+    @Override
+    public void afterCommit(List<Long> idleLiveIds, LocalDateTime now) {
+        turnOffLiveState(idleLiveIds, now);
+    }
+
+    /**
+     * 시그널링 서버의 종료 알림이 누락되어 저장소에 방송 중으로 남은 강의 정리 (청크 트랜잭션 커밋 후 실행)
+     */
+    private void turnOffLiveState(List<Long> idle, LocalDateTime now) {
+        if (idle.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> turnedOff = liveStateRegistry.turnOff(idle,
+                now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            for (Long liveId : turnedOff) {
+                livePushService.onAirChanged(liveId, false, null, audience(liveId));
+            }
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("방송 상태 저장소 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 방송 상태 알림을 받을 강사와 수강생
+     */
+    private Set<Long> audience(Long liveId) {
+        Set<Long> audience = new HashSet<>(
+            myLiveLectureRepository.findActiveUserIdsByLiveId(liveId));
+        liveLecturesRepository.findOwnerIdByLiveId(liveId).ifPresent(audience::add);
+        return audience;
+    }
+}
@@ -0,0 +1,46 @@
+package com.yoganavi.lecture.live_lecture.service.lecture;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 ID → 강사 ID 캐시
+ * <p>
+ * 수정/삭제 요청마다 실행되는 강사 여부 판별을 메모리 조회로 처리한다. 없는 강의는 캐시하지 않는다.
+ * 적중률은 cache.gets{cache="lecture.owner"} 지표로 확인한다.
+ */
+@Component
+public class LectureOwnerCache {
+
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final Cache<Long, Long> ownerByLiveId;
+
+    public LectureOwnerCache(LiveLecturesRepository liveLecturesRepository,
+        MeterRegistry meterRegistry) {
+        this.liveLecturesRepository = liveLecturesRepository;
+        this.ownerByLiveId = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, ownerByLiveId, "lecture.owner");
+    }
+
+    public Optional<Long> getOwnerId(Long liveId) {
+        return Optional.ofNullable(ownerByLiveId.get(liveId,
+            id -> liveLecturesRepository.findOwnerIdByLiveId(id).orElse(null)));
+    }
+
+    public void evict(Long liveId) {
+        ownerByLiveId.invalidate(liveId);
+    }
+}
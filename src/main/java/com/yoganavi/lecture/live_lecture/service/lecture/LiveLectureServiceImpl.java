@@ -1,15 +1,23 @@
 package com.yoganavi.lecture.live_lecture.service.lecture;
 
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
 import com.yoganavi.lecture.common.entity.LectureSchedule;
 import com.yoganavi.lecture.common.entity.LiveLectures;
 import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.entity.ScheduleChanges;
 import com.yoganavi.lecture.common.entity.Users;
 import com.yoganavi.lecture.common.util.TimeUtil;
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureInfoDto;
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureResponseDto;
+import com.yoganavi.lecture.common.repository.EnrollmentBulkRepository;
+import com.yoganavi.lecture.common.repository.EnrollmentMoveResult;
+import com.yoganavi.lecture.common.repository.LiveLectureListRepository;
 import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
 import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.service.live.LiveState;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,8 +31,11 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,7 +48,12 @@ public class LiveLectureServiceImpl implements LiveLectureService {
     private final TimeUtil timeUtil;
     private final UserRepository userRepository;
     private final LiveLecturesRepository liveLecturesRepository;
+    private final LiveLectureListRepository liveLectureListRepository;
     private final MyLiveLectureRepository myLiveLectureRepository;
+    private final EnrollmentBulkRepository enrollmentBulkRepository;
+    private final HomeTimelineService homeTimelineService;
+    private final LectureOwnerCache lectureOwnerCache;
+    private final LiveStateRegistry liveStateRegistry;
 
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -68,51 +84,26 @@ public class LiveLectureServiceImpl implements LiveLectureService {
         LocalTime startTime = timeUtil.toLocalTime(dto.getStartTime());
         LocalTime endTime = timeUtil.toLocalTime(dto.getEndTime());
 
-        // 강의 기간 동안의 모든 일정 생성
-        List<LectureSchedule> schedules = generateSchedules(
+        liveLecture.setRecurrence(LectureRecurrence.of(
             startDate,
             endDate,
             startTime,
             endTime,
-            dto.getAvailableDay()
-        );
+            convertStrToDayOfWeek(dto.getAvailableDay())
+        ));
 
-        schedules.forEach(schedule -> {
-            schedule.setLecture(liveLecture);
-            liveLecture.getSchedules().add(schedule);
-        });
+        // 가까운 기간의 일정만 생성 (이후 일정은 LectureScheduleHorizonExtender가 이어서 생성)
+        LocalDateTime now = LocalDateTime.now();
+        liveLecture.materializeUntil(now.toLocalDate().plus(LectureRecurrence.MATERIALIZE_HORIZON),
+            now);
 
         LiveLectures savedLecture = liveLecturesRepository.save(liveLecture);
         log.info("라이브 강의 저장 완료: 강의 ID {}", savedLecture.getLiveId());
 
-//        notificationService.handleLectureUpdate(savedLecture);
+        homeTimelineService.onSchedulesChanged(savedLecture, List.of());
 
-    }
-
-    private List<LectureSchedule> generateSchedules(
-        LocalDate startDate,
-        LocalDate endDate,
-        LocalTime startTime,
-        LocalTime endTime,
-        String availableDays
-    ) {
-        List<LectureSchedule> schedules = new ArrayList<>();
-        Set<DayOfWeek> availableDaySet = convertStrToDayOfWeek(availableDays);
-
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            if (availableDaySet.contains(currentDate.getDayOfWeek())) {
-                LectureSchedule schedule = LectureSchedule.createSchedule(
-                    currentDate,
-                    startTime,
-                    endTime
-                );
-                schedules.add(schedule);
-            }
-            currentDate = currentDate.plusDays(1);
-        }
+//        notificationService.handleLectureUpdate(savedLecture);
 
-        return schedules;
     }
 
     @Override
@@ -122,11 +113,8 @@ public class LiveLectureServiceImpl implements LiveLectureService {
         List<LiveLectureResponseDto> responseDtos = new ArrayList<>();
 
         try {
-            List<LiveLectures> lectures = liveLecturesRepository.findByUserId(userId);
-
-            for (LiveLectures lecture : lectures) {
-                responseDtos.add(convertToDto(lecture));
-            }
+            // 강의 요약 컬럼과 강사 정보를 한 번에 조회
+            responseDtos = liveLectureListRepository.findByUserId(userId);
         } catch (Exception e) {
             log.error("사용자의 라이브 강의 목록 조회 실패: 사용자 ID {}", userId);
         }
@@ -137,17 +125,15 @@ public class LiveLectureServiceImpl implements LiveLectureService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean isLectureOwner(Long liveId, Long userId) {
-        Optional<LiveLectures> lectureOpt = Optional.empty();
+        Optional<Long> ownerId = Optional.empty();
         try {
             log.info("사용자 ID {}에 대한 강의 ID {}의 강사 여부 판별", userId, liveId);
-            lectureOpt = liveLecturesRepository.findById(liveId);
+            ownerId = lectureOwnerCache.getOwnerId(liveId);
         } catch (Exception e) {
             log.error("사용자 ID {}에 대한 강의 ID {}의 강사 여부 판별 실패", userId, liveId);
         }
-        return lectureOpt.filter(lecture ->
-                Objects.equals(lecture.getUser().getUserId(), userId))
+        return ownerId.filter(owner -> Objects.equals(owner, userId))
             .isPresent();
     }
 
@@ -165,7 +151,7 @@ public class LiveLectureServiceImpl implements LiveLectureService {
             throw new IllegalStateException("이미 삭제된 강의는 수정할 수 없습니다");
         }
 
-        if (lecture.getIsOnAir()) {
+        if (isOnAir(lecture)) {
             log.error("진행 중인 강의는 수정할 수 없습니다");
             throw new IllegalStateException("진행 중인 강의는 수정할 수 없습니다");
         }
@@ -183,26 +169,36 @@ public class LiveLectureServiceImpl implements LiveLectureService {
 
         updateBasicLectureInfo(lecture, liveLectureInfoDto);
 
+        List<Long> removedScheduleIds = new ArrayList<>();
         if (isScheduleUpdateRequired(liveLectureInfoDto)) {
             validateScheduleUpdate(liveLectureInfoDto);
             if (liveLectureInfoDto.getAvailableDay() != null) {
                 validateAvailableDay(liveLectureInfoDto.getAvailableDay());
             }
-            updateLectureSchedules(lecture, liveLectureInfoDto);
+            removedScheduleIds = updateLectureSchedules(lecture, liveLectureInfoDto);
         }
 
         LiveLectures updatedLecture = liveLecturesRepository.save(lecture);
         log.info("라이브 강의 수정 완료: 강의 ID {}", updatedLecture.getLiveId());
 
+        if (isScheduleUpdateRequired(liveLectureInfoDto)) {
+            homeTimelineService.onSchedulesChanged(updatedLecture, removedScheduleIds);
+        }
+
 //        notificationService.handleLectureUpdate(updatedLecture);
 //        notificationService.sendLectureUpdateNotification(updatedLecture);
     }
 
     private void validateScheduleUpdate(LiveLectureInfoDto dto) {
-        LocalDate startDate = timeUtil.toLocalDate(dto.getStartDate());
-        LocalDate endDate = timeUtil.toLocalDate(dto.getEndDate());
-        LocalTime startTime = timeUtil.toLocalTime(dto.getStartTime());
-        LocalTime endTime = timeUtil.toLocalTime(dto.getEndTime());
+        // 수정 요청은 일부 값만 포함할 수 있다
+        LocalDate startDate = dto.getStartDate() == null ? null
+            : timeUtil.toLocalDate(dto.getStartDate());
+        LocalDate endDate = dto.getEndDate() == null ? null
+            : timeUtil.toLocalDate(dto.getEndDate());
+        LocalTime startTime = dto.getStartTime() == null ? null
+            : timeUtil.toLocalTime(dto.getStartTime());
+        LocalTime endTime = dto.getEndTime() == null ? null
+            : timeUtil.toLocalTime(dto.getEndTime());
 
         if (startDate != null && endDate != null) {
             if (startDate.isAfter(endDate)) {
@@ -224,88 +220,166 @@ public class LiveLectureServiceImpl implements LiveLectureService {
             dto.getAvailableDay() != null;
     }
 
-    private void updateLectureSchedules(LiveLectures lecture, LiveLectureInfoDto dto) {
-        // 스케줄을 과거/미래로 분류하고 수강생 정보 저장
-        Map<String, List<LectureSchedule>> scheduleMap = lecture.divideSchedulesByTime();
-        List<LectureSchedule> futureSchedules = scheduleMap.get("future");
+    /**
+     * 기존 일정과 새 반복 규칙을 비교해 바뀐 일정만 삭제/추가
+     *
+     * @return 제거된 미래 일정 id
+     */
+    private List<Long> updateLectureSchedules(LiveLectures lecture, LiveLectureInfoDto dto) {
+        LectureRecurrence recurrence = mergeRecurrence(lecture, dto);
 
-        // 미래 스케줄의 수강생 정보 저장
-        Map<LectureSchedule, List<MyLiveLecture>> scheduleEnrollments = new HashMap<>();
-        for (LectureSchedule schedule : futureSchedules) {
-            List<MyLiveLecture> enrollments = myLiveLectureRepository.findAllByLectureSchedule(
-                schedule);
-            if (!enrollments.isEmpty()) {
-                scheduleEnrollments.put(schedule, enrollments);
-            }
+        // 새 규칙에 그대로 남는 일정과 수강 정보는 유지하고, 빠진 날짜의 일정만 추가
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleChanges changes = lecture.changeRecurrence(recurrence,
+            materializeUntil(lecture, recurrence, now), now);
+        List<LectureSchedule> removedSchedules = changes.getRemoved();
+        log.info("강의 일정 변경: 강의 ID {}, 삭제 {}건, 추가 {}건", lecture.getLiveId(),
+            removedSchedules.size(), changes.getCreated().size());
+
+        if (removedSchedules.isEmpty()) {
+            return List.of();
         }
 
-        // 미래 스케줄만 제거
-        lecture.clearFutureSchedules();
+        // 삭제될 스케줄의 수강생 정보를 한 번에 조회해 스케줄별로 분류
+        Map<Long, LectureSchedule> removedById = new HashMap<>();
+        for (LectureSchedule schedule : removedSchedules) {
+            removedById.put(schedule.getScheduleId(), schedule);
+        }
 
-        // 새로운 스케줄 생성 및 추가
-        List<LectureSchedule> newSchedules = createNewSchedules(lecture, dto);
+        Map<LectureSchedule, List<MyLiveLecture>> scheduleEnrollments = new HashMap<>();
+        for (MyLiveLecture enrollment : myLiveLectureRepository.findAllByScheduleIds(
+            removedById.keySet())) {
+            LectureSchedule schedule = removedById.get(
+                enrollment.getLectureSchedule().getScheduleId());
+            scheduleEnrollments.computeIfAbsent(schedule, key -> new ArrayList<>())
+                .add(enrollment);
+        }
 
-        // 수강생 재배치
+        // 수강생 재배치 (옮겨 갈 새 스케줄을 먼저 저장)
         if (!scheduleEnrollments.isEmpty()) {
-            redistributeStudents(scheduleEnrollments, newSchedules);
+            liveLecturesRepository.flush();
+
+            Set<LectureSchedule> removedSet = new HashSet<>(removedSchedules);
+            List<LectureSchedule> remainingSchedules = lecture.getSchedules().stream()
+                .filter(schedule -> schedule.isUpcoming() && !removedSet.contains(schedule))
+                .toList();
+            if (remainingSchedules.isEmpty()) {
+                throw new IllegalArgumentException(
+                    "수강생을 옮길 새 일정이 없습니다: 강의 ID " + lecture.getLiveId());
+            }
+            redistributeStudents(scheduleEnrollments, remainingSchedules);
         }
+
+        // 수강생이 모두 옮겨진 뒤 스케줄 제거
+        lecture.getSchedules().removeAll(removedSchedules);
+        lecture.refreshSummary();
+
+        return removedSchedules.stream()
+            .map(LectureSchedule::getScheduleId)
+            .toList();
     }
 
-    private List<LectureSchedule> createNewSchedules(LiveLectures lecture, LiveLectureInfoDto dto) {
-        List<LectureSchedule> newSchedules = new ArrayList<>();
-        LocalDate startDate = timeUtil.toLocalDate(dto.getStartDate());
-        LocalDate endDate = timeUtil.toLocalDate(dto.getEndDate());
-        LocalTime startTime = timeUtil.toLocalTime(dto.getStartTime());
-        LocalTime endTime = timeUtil.toLocalTime(dto.getEndTime());
+    /**
+     * 일정을 만들어 둘 마지막 날짜
+     * <p>
+     * 기본은 오늘부터 MATERIALIZE_HORIZON까지지만, 새 규칙의 시작일이 그보다 뒤라면 수강생을 옮길 일정이 없으므로 새 규칙의
+     * 첫 일정까지는 만든다.
+     */
+    private LocalDate materializeUntil(LiveLectures lecture, LectureRecurrence recurrence,
+        LocalDateTime now) {
+        LocalDate horizon = now.toLocalDate().plus(LectureRecurrence.MATERIALIZE_HORIZON);
+        LocalDate from = now.toLocalTime().isAfter(recurrence.getStartTime())
+            ? now.toLocalDate().plusDays(1) : now.toLocalDate();
+        LocalDate next = recurrence.nextOccurrence(from, lecture.getCancelledDates());
+        return next != null && next.isAfter(horizon) ? next : horizon;
+    }
 
-        Set<DayOfWeek> availableDays = convertStrToDayOfWeek(dto.getAvailableDay());
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            if (availableDays.contains(currentDate.getDayOfWeek())) {
-                LocalDateTime scheduleDateTime = currentDate.atTime(startTime);
-                if (scheduleDateTime.isAfter(now)) {
-                    LectureSchedule schedule = LectureSchedule.createSchedule(
-                        currentDate,
-                        startTime,
-                        endTime
-                    );
-                    schedule.setLecture(lecture);
-                    lecture.getSchedules().add(schedule);
-                    newSchedules.add(schedule);
-                }
-            }
-            currentDate = currentDate.plusDays(1);
-        }
-        return newSchedules;
+    /**
+     * 수정 요청에 포함된 값으로 기존 반복 규칙을 덮어써 새 반복 규칙 생성
+     */
+    private LectureRecurrence mergeRecurrence(LiveLectures lecture, LiveLectureInfoDto dto) {
+        LectureRecurrence current = currentRecurrence(lecture);
+
+        LocalDate startDate = dto.getStartDate() != null
+            ? timeUtil.toLocalDate(dto.getStartDate())
+            : current == null ? null : current.getStartDate();
+        LocalDate endDate = dto.getEndDate() != null
+            ? timeUtil.toLocalDate(dto.getEndDate())
+            : current == null ? null : current.getEndDate();
+        LocalTime startTime = dto.getStartTime() != null
+            ? timeUtil.toLocalTime(dto.getStartTime())
+            : current == null ? null : current.getStartTime();
+        LocalTime endTime = dto.getEndTime() != null
+            ? timeUtil.toLocalTime(dto.getEndTime())
+            : current == null ? null : current.getEndTime();
+        Set<DayOfWeek> days = dto.getAvailableDay() != null
+            ? convertStrToDayOfWeek(dto.getAvailableDay())
+            : current == null ? null : current.getDays();
+
+        if (startDate == null || endDate == null || startTime == null || endTime == null
+            || days == null) {
+            throw new IllegalArgumentException("강의 일정 정보가 부족합니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠를 수 없습니다");
+        }
+
+        return LectureRecurrence.of(startDate, endDate, startTime, endTime, days);
+    }
+
+    /**
+     * 반복 규칙이 없는 기존 강의는 저장된 일정으로 반복 규칙을 복원
+     */
+    private LectureRecurrence currentRecurrence(LiveLectures lecture) {
+        if (lecture.getRecurrence() != null) {
+            return lecture.getRecurrence();
+        }
+
+        lecture.refreshSummary();
+        LocalDateTime firstStartTime = lecture.getFirstStartTime();
+        if (firstStartTime == null) {
+            return null;
+        }
+
+        Set<DayOfWeek> days = lecture.getSchedules().stream()
+            .map(LectureSchedule::getDayOfWeek)
+            .collect(Collectors.toSet());
+        return LectureRecurrence.of(
+            firstStartTime.toLocalDate(),
+            lecture.getLastEndTime().toLocalDate(),
+            lecture.getLectureStartTime(),
+            lecture.getLectureEndTime(),
+            days
+        );
     }
 
     public void redistributeStudents(Map<LectureSchedule, List<MyLiveLecture>> scheduleEnrollments,
         List<LectureSchedule> newSchedules) {
+        ScheduleSlotIndex slotIndex = ScheduleSlotIndex.of(newSchedules);
+        Map<Long, Long> targetBySource = new HashMap<>();
         for (Entry<LectureSchedule, List<MyLiveLecture>> entry : scheduleEnrollments.entrySet()) {
             LectureSchedule oldSchedule = entry.getKey();
-            List<MyLiveLecture> students = entry.getValue();
-
-            LectureSchedule closestSchedule = LectureSchedule.findClosestSchedule(oldSchedule,
-                newSchedules);
-
-            for (MyLiveLecture enrollment : students) {
-                MyLiveLecture newEnrollment = new MyLiveLecture();
-                newEnrollment.setLectureSchedule(closestSchedule);
-                newEnrollment.setUser(enrollment.getUser());
-                newEnrollment.setCompleted(false);
 
-                myLiveLectureRepository.save(newEnrollment);
+            LectureSchedule closestSchedule = slotIndex.findClosest(oldSchedule);
+            targetBySource.put(oldSchedule.getScheduleId(), closestSchedule.getScheduleId());
 
-                // 수강생에게 스케줄 변경 알림
+            // 수강생에게 스케줄 변경 알림
+//            for (MyLiveLecture enrollment : entry.getValue()) {
 //                notificationService.sendScheduleChangeNotification(
 //                    enrollment.getUserId(),
 //                    oldSchedule,
 //                    closestSchedule
 //                );
-            }
+//            }
         }
+
+        // 새 일정에 좌석이 부족하면 IllegalStateException으로 수정 전체가 롤백된다
+        EnrollmentMoveResult result = enrollmentBulkRepository.moveEnrollments(targetBySource);
+
+        // 이동하지 않은 수강 정보(대상 일정을 이미 수강 중인 중복) 정리
+        int removed = myLiveLectureRepository.deleteByScheduleIds(targetBySource.keySet());
+        log.info("수강생 재배치 완료: 이동 {}건, 중복 {}건, 정리 {}건", result.getMoved(),
+            result.getDuplicated(), removed);
     }
 
     private Set<DayOfWeek> convertStrToDayOfWeek(String dayCodesStr) {
@@ -362,6 +436,7 @@ public class LiveLectureServiceImpl implements LiveLectureService {
         } else {
             processFutureScheduleDelete(lecture, lectureStudents);
         }
+        lectureOwnerCache.evict(liveId);
     }
 
     private LiveLectures findLecture(Long liveId) {
@@ -370,15 +445,34 @@ public class LiveLectureServiceImpl implements LiveLectureService {
     }
 
     private boolean hasActiveSchedule(LiveLectures lecture) {
-        if (lecture.getIsOnAir()) {
+        if (isOnAir(lecture)) {
             return true;
         }
         return lecture.hasActiveSchedules();
     }
 
+    /**
+     * 방송 상태 저장소 값을 우선 사용하고, 저장소에 없거나 조회에 실패하면 is_on_air 값을 사용
+     */
+    private boolean isOnAir(LiveLectures lecture) {
+        try {
+            return liveStateRegistry.find(lecture.getLiveId())
+                .map(LiveState::isOnAir)
+                .orElse(lecture.getIsOnAir());
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("방송 상태 조회 실패, is_on_air 값 사용: {}", e.getMessage());
+            return lecture.getIsOnAir();
+        }
+    }
+
     private void processCompleteDelete(LiveLectures lecture) {
+        List<Long> removedScheduleIds = lecture.getSchedules().stream()
+            .map(LectureSchedule::getScheduleId)
+            .toList();
         lecture.getSchedules().clear();
+        lecture.refreshSummary();
         softDeleteLecture(lecture);
+        homeTimelineService.onSchedulesChanged(lecture, removedScheduleIds);
 
         log.info("강의 및 전체 스케줄 삭제 완료: 강의 ID {}", lecture.getLiveId());
     }
@@ -398,8 +492,12 @@ public class LiveLectureServiceImpl implements LiveLectureService {
 
         lecture.getSchedules().clear();
         lecture.getSchedules().addAll(scheduleToKeep);
+        lecture.refreshSummary();
 
         softDeleteLecture(lecture);
+        homeTimelineService.onSchedulesChanged(lecture, scheduleToDelete.stream()
+            .map(LectureSchedule::getScheduleId)
+            .toList());
 
         log.info("미래 스케줄 삭제 완료: 강의 ID {}, 삭제된 스케줄 수: {}, 유지된 스케줄 수: {}",
             lecture.getLiveId(), scheduleToDelete.size(), scheduleToKeep.size());
@@ -435,6 +533,11 @@ public class LiveLectureServiceImpl implements LiveLectureService {
         dto.setMaxLiveNum(lecture.getMaxLiveNum());
         dto.setRegDate(timeUtil.toEpochMilli(lecture.getRegDate()));
 
+        // 일정 요약 정보가 없는 기존 강의는 저장된 일정으로 계산
+        if (lecture.getAvailableDayMask() == null) {
+            lecture.refreshSummary();
+        }
+
         // 강의 기간 (첫 스케줄 ~ 마지막 스케줄)
         LocalDateTime firstSchedule = lecture.getFirstStartTime();
         if (firstSchedule != null) {
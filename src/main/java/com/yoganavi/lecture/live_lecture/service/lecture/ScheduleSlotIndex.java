@@ -0,0 +1,112 @@
+package com.yoganavi.lecture.live_lecture.service.lecture;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 새 스케줄 중 기존 스케줄과 가장 가까운 스케줄을 찾기 위한 인덱스
+ * <p>
+ * LectureSchedule.findClosestSchedule과 같은 결과를 반환한다. 같은 요일의 스케줄을 우선하고, 시작 시각(초 단위) 차이가
+ * 같으면 목록에서 먼저 나온 스케줄을 고른다. 요일별/전체 버킷을 시작 시각 순으로 정렬해 두고 이진 탐색으로 찾는다.
+ */
+public class ScheduleSlotIndex {
+
+    private final Map<DayOfWeek, Slots> byDay = new EnumMap<>(DayOfWeek.class);
+    private final Slots all;
+
+    private ScheduleSlotIndex(List<LectureSchedule> schedules) {
+        Map<DayOfWeek, List<Integer>> positionsByDay = new EnumMap<>(DayOfWeek.class);
+        List<Integer> allPositions = new ArrayList<>(schedules.size());
+        for (int i = 0; i < schedules.size(); i++) {
+            positionsByDay.computeIfAbsent(schedules.get(i).getDayOfWeek(),
+                day -> new ArrayList<>()).add(i);
+            allPositions.add(i);
+        }
+
+        positionsByDay.forEach((day, positions) -> byDay.put(day, new Slots(schedules, positions)));
+        this.all = new Slots(schedules, allPositions);
+    }
+
+    public static ScheduleSlotIndex of(List<LectureSchedule> newSchedules) {
+        return new ScheduleSlotIndex(newSchedules);
+    }
+
+    public LectureSchedule findClosest(LectureSchedule oldSchedule) {
+        int secondOfDay = oldSchedule.getStartTime().toLocalTime().toSecondOfDay();
+
+        Slots sameDay = byDay.get(oldSchedule.getDayOfWeek());
+        LectureSchedule closest = sameDay != null ? sameDay.closest(secondOfDay) : null;
+        if (closest == null) {
+            closest = all.closest(secondOfDay);
+        }
+
+        if (closest == null) {
+            throw new IllegalStateException("새로운 스케줄이 없습니다.");
+        }
+        return closest;
+    }
+
+    /**
+     * 시작 시각별로 목록에서 가장 먼저 나온 스케줄만 남겨 시작 시각 순으로 정렬한 버킷
+     */
+    private static class Slots {
+
+        private final int[] seconds;
+        private final int[] positions;
+        private final LectureSchedule[] schedules;
+
+        Slots(List<LectureSchedule> source, List<Integer> sourcePositions) {
+            TreeMap<Integer, Integer> firstPositionBySecond = new TreeMap<>();
+            for (int position : sourcePositions) {
+                int second = source.get(position).getStartTime().toLocalTime().toSecondOfDay();
+                firstPositionBySecond.putIfAbsent(second, position);
+            }
+
+            int size = firstPositionBySecond.size();
+            this.seconds = new int[size];
+            this.positions = new int[size];
+            this.schedules = new LectureSchedule[size];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> entry : firstPositionBySecond.entrySet()) {
+                seconds[i] = entry.getKey();
+                positions[i] = entry.getValue();
+                schedules[i] = source.get(entry.getValue());
+                i++;
+            }
+        }
+
+        LectureSchedule closest(int second) {
+            if (seconds.length == 0) {
+                return null;
+            }
+
+            int found = Arrays.binarySearch(seconds, second);
+            if (found >= 0) {
+                return schedules[found];
+            }
+
+            int right = -found - 1;
+            int left = right - 1;
+            if (left < 0) {
+                return schedules[right];
+            }
+            if (right >= seconds.length) {
+                return schedules[left];
+            }
+
+            int leftDiff = second - seconds[left];
+            int rightDiff = seconds[right] - second;
+            if (leftDiff != rightDiff) {
+                return leftDiff < rightDiff ? schedules[left] : schedules[right];
+            }
+            // 차이가 같으면 목록에서 먼저 나온 스케줄
+            return positions[left] < positions[right] ? schedules[left] : schedules[right];
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.live_lecture.service.live;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시그널링 서버가 알려준 강의 방송 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public class LiveState {
+
+    private final boolean onAir;
+    private final Long startedAt;           // 방송 시작 시각 (epoch ms), 방송 중이 아니면 null
+    private final Integer participantCount; // 참여자 수, 알려지지 않았으면 null
+}
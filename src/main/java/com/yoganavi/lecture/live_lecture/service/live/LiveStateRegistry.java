@@ -0,0 +1,60 @@
+package com.yoganavi.lecture.live_lecture.service.live;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 강의별 방송 상태 저장소
+ * <p>
+ * 방송 상태의 기준은 이 저장소이고, live_lectures.is_on_air에는 {@link LiveStateWriteBehind}가 변경된
+ * 강의만 모아서 나중에 반영한다. 변경된 강의 ID는 {@link #pollDirty(int)}로 꺼낸다.
+ */
+public interface LiveStateRegistry {
+
+    /**
+     * 방송 상태 갱신
+     *
+     * @param participantCount 참여자 수, null이면 기존 값을 유지한다
+     * @param now              방송 시작 시각으로 기록할 현재 시각 (epoch ms)
+     * @return 반영 결과, 방송 여부가 바뀐 강의는 is_on_air 반영 대상으로 등록된다
+     */
+    LiveStateUpdate update(Long liveId, boolean onAir, Integer participantCount, long now);
+
+    /**
+     * 여러 강의의 방송 상태 조회, 저장소에 없는 강의는 결과에서 빠진다.
+     */
+    Map<Long, LiveState> findAll(Collection<Long> liveIds);
+
+    default Optional<LiveState> find(Long liveId) {
+        return Optional.ofNullable(findAll(List.of(liveId)).get(liveId));
+    }
+
+    /**
+     * 방송 중으로 남아있는 강의의 방송 종료 처리
+     *
+     * @return 방송 종료로 바뀐 강의 ID
+     */
+    default List<Long> turnOff(Collection<Long> liveIds, long now) {
+        List<Long> turnedOff = new ArrayList<>();
+        for (Map.Entry<Long, LiveState> entry : findAll(liveIds).entrySet()) {
+            if (entry.getValue().isOnAir()
+                && update(entry.getKey(), false, null, now).isOnAirChanged()) {
+                turnedOff.add(entry.getKey());
+            }
+        }
+        return turnedOff;
+    }
+
+    /**
+     * is_on_air에 반영해야 하는 강의 ID를 최대 count개 꺼낸다. (꺼낸 ID는 목록에서 제거된다)
+     */
+    List<Long> pollDirty(int count);
+
+    /**
+     * is_on_air 반영 대상으로 다시 등록 (반영 실패 시)
+     */
+    void markDirty(Collection<Long> liveIds);
+}
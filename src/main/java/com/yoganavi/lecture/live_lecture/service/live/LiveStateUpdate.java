@@ -0,0 +1,49 @@
+package com.yoganavi.lecture.live_lecture.service.live;
+
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시그널링 서버가 알려준 방송 상태를 기존 상태에 반영한 결과
+ * <p>
+ * 비교 규칙은 모두 여기서 정하고, 저장소는 기존 상태를 읽고 결과를 쓰는 일만 원자적으로 처리한다. 방송 시작 시각은
+ * 방송 여부가 바뀔 때만 바꾸고, 참여자 수는 알려준 경우에만 비교한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LiveStateUpdate {
+
+    private final LiveState state;              // 반영 후 상태
+    private final boolean onAirChanged;         // 방송 여부가 바뀌었으면 true (is_on_air 반영 대상)
+    private final boolean participantsChanged;  // 참여자 수가 바뀌었으면 true
+
+    /**
+     * @param current          저장소에 있던 상태, 없으면 null
+     * @param participantCount 참여자 수, null이면 기존 값을 유지한다
+     * @param now              방송 시작 시각으로 기록할 현재 시각 (epoch ms)
+     */
+    public static LiveStateUpdate of(LiveState current, boolean onAir, Integer participantCount,
+        long now) {
+        boolean onAirChanged = current == null || current.isOnAir() != onAir;
+        Integer participants = current == null ? null : current.getParticipantCount();
+        boolean participantsChanged = participantCount != null
+            && !Objects.equals(participants, participantCount);
+
+        Long startedAt = current == null ? null : current.getStartedAt();
+        if (onAirChanged) {
+            startedAt = onAir ? now : null;
+        }
+        return new LiveStateUpdate(new LiveState(onAir, startedAt,
+            participantsChanged ? participantCount : participants),
+            onAirChanged, participantsChanged);
+    }
+
+    /**
+     * @return 방송 여부나 참여자 수가 바뀌었으면 true
+     */
+    public boolean isChanged() {
+        return onAirChanged || participantsChanged;
+    }
+}
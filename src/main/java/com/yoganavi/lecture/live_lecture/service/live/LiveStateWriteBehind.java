@@ -0,0 +1,78 @@
+package com.yoganavi.lecture.live_lecture.service.live;
+
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방송 상태를 live_lectures.is_on_air에 모아서 반영하는 배치 작업
+ * <p>
+ * 상태가 바뀐 강의 ID를 BATCH_SIZE개씩 꺼내 방송 중/종료 강의를 각각 UPDATE 한 번으로 반영한다.
+ * 상태는 ID를 꺼낸 뒤에 읽으므로 그 사이 다시 바뀐 강의는 다음 실행에서 최신 상태로 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveStateWriteBehind {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final LiveStateRegistry liveStateRegistry;
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${live-state.flush-delay-ms:5000}")
+    public void flush() {
+        int batches = 0;
+        int total = 0;
+        int polled;
+        do {
+            List<Long> liveIds = liveStateRegistry.pollDirty(BATCH_SIZE);
+            polled = liveIds.size();
+            if (polled == 0) {
+                break;
+            }
+            total += flushBatch(liveIds);
+            batches++;
+        } while (polled == BATCH_SIZE && batches < MAX_BATCHES_PER_RUN);
+
+        if (total > 0) {
+            log.debug("방송 상태 반영 완료: 강의 수 {}, 배치 수 {}", total, batches);
+        }
+    }
+
+    /**
+     * @return is_on_air를 갱신한 강의 수
+     */
+    private int flushBatch(List<Long> liveIds) {
+        try {
+            Map<Long, LiveState> states = liveStateRegistry.findAll(liveIds);
+            List<Long> onAir = new ArrayList<>();
+            List<Long> offAir = new ArrayList<>();
+            states.forEach((liveId, state) -> (state.isOnAir() ? onAir : offAir).add(liveId));
+
+            return transactionTemplate.execute(status -> {
+                int updated = 0;
+                if (!onAir.isEmpty()) {
+                    updated += liveLecturesRepository.updateOnAir(onAir, true);
+                }
+                if (!offAir.isEmpty()) {
+                    updated += liveLecturesRepository.updateOnAir(offAir, false);
+                }
+                return updated;
+            });
+        } catch (RuntimeException e) {
+            log.error("방송 상태 반영 실패, 다음 실행에서 재시도: 강의 수 {}, 오류 메시지: {}", liveIds.size(),
+                e.getMessage());
+            liveStateRegistry.markDirty(liveIds);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.yoganavi.lecture.live_lecture.service.live;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis HASH 기반 방송 상태 저장소 (key: live:state:{liveId}, field: onAir, startedAt, participants)
+ * <p>
+ * 상태 키를 WATCH한 채 기존 상태를 읽고, {@link LiveStateUpdate}로 계산한 결과와 반영 대상 등록(SET
+ * live:state:dirty), TTL 갱신을 MULTI/EXEC로 한 번에 쓴다. 그 사이 같은 강의의 다른 요청이 상태를 바꾸면 EXEC가
+ * 취소되므로 다시 읽어서 비교하고, 시그널링 서버의 연속된 요청이 서로 덮어쓰지 않는다. 방송 여부가 바뀔 때만 반영
+ * 대상으로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLiveStateRegistry implements LiveStateRegistry {
+
+    private static final String KEY_PREFIX = "live:state:";
+    private static final String DIRTY_KEY = "live:state:dirty";
+    // 시그널링 서버가 상태를 알려주지 않는 강의는 하루 뒤 저장소에서 빠지고 is_on_air 값을 사용한다
+    private static final Duration TTL = Duration.ofDays(1);
+    // 같은 강의의 요청이 이만큼 계속 충돌하면 실패로 응답한다
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public LiveStateUpdate update(Long liveId, boolean onAir, Integer participantCount,
+        long now) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LiveStateUpdate update = tryUpdate(liveId, onAir, participantCount, now);
+            if (update != null) {
+                return update;
+            }
+        }
+        throw new RedisSystemException("방송 상태 갱신 충돌이 계속됩니다: 강의 ID " + liveId, null);
+    }
+
+    /**
+     * @return 반영 결과, 다른 요청과 충돌해 반영하지 못했으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private LiveStateUpdate tryUpdate(Long liveId, boolean onAir, Integer participantCount,
+        long now) {
+        String key = key(liveId);
+        return redisTemplate.execute(new SessionCallback<LiveStateUpdate>() {
+            @Override
+            public <K, V> LiveStateUpdate execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                HashOperations<String, String, String> hashOperations = ops.opsForHash();
+                ops.watch(key);
+
+                Map<String, String> hash = hashOperations.entries(key);
+                LiveStateUpdate update = LiveStateUpdate.of(
+                    hash != null && hash.containsKey("onAir") ? toState(hash) : null,
+                    onAir, participantCount, now);
+
+                ops.multi();
+                if (update.isOnAirChanged()) {
+                    hashOperations.put(key, "onAir", onAir ? "1" : "0");
+                    if (onAir) {
+                        hashOperations.put(key, "startedAt", String.valueOf(now));
+                    } else {
+                        hashOperations.delete(key, "startedAt");
+                    }
+                    ops.opsForSet().add(DIRTY_KEY, String.valueOf(liveId));
+                }
+                if (update.isParticipantsChanged()) {
+                    hashOperations.put(key, "participants", String.valueOf(participantCount));
+                }
+                ops.expire(key, TTL);
+                // WATCH한 키가 바뀌어 취소되면 결과가 null이거나 비어 있다 (expire는 항상 보낸다)
+                List<Object> results = ops.exec();
+                return results != null && !results.isEmpty() ? update : null;
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, LiveState> findAll(Collection<Long> liveIds) {
+        Map<Long, LiveState> states = new HashMap<>();
+        if (liveIds.isEmpty()) {
+            return states;
+        }
+
+        List<Long> ids = new ArrayList<>(liveIds);
+        List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                HashOperations<String, String, String> hashOperations =
+                    ((RedisOperations<String, String>) operations).opsForHash();
+                for (Long liveId : ids) {
+                    hashOperations.entries(key(liveId));
+                }
+                return null;
+            }
+        });
+
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> hash = (Map<String, String>) hashes.get(i);
+            if (hash != null && hash.containsKey("onAir")) {
+                states.put(ids.get(i), toState(hash));
+            }
+        }
+        return states;
+    }
+
+    @Override
+    public List<Long> pollDirty(int count) {
+        List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        List<Long> liveIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                liveIds.add(Long.valueOf(member));
+            }
+        }
+        return liveIds;
+    }
+
+    @Override
+    public void markDirty(Collection<Long> liveIds) {
+        if (liveIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY,
+            liveIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    private String key(Long liveId) {
+        return KEY_PREFIX + liveId;
+    }
+
+    private LiveState toState(Map<String, String> hash) {
+        String startedAt = hash.get("startedAt");
+        String participants = hash.get("participants");
+        return new LiveState("1".equals(hash.get("onAir")),
+            startedAt == null ? null : Long.valueOf(startedAt),
+            participants == null ? null : Integer.valueOf(participants));
+    }
+}
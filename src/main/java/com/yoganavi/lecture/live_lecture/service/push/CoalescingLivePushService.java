@@ -0,0 +1,105 @@
+package com.yoganavi.lecture.live_lecture.service.push;
+
+import com.yoganavi.lecture.live_lecture.dto.LivePushDto;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림을 목적지와 종류별로 모아 마지막 것만 전송하는 LivePushService
+ * <p>
+ * 요청 스레드는 대기 목록에 알림을 덮어쓰기만 하고, 전송은 flush()가 모아서 한다. 같은 강의의 방송 상태가
+ * 전송 주기 안에 여러 번 바뀌면 마지막 상태 하나만 전송된다. 느린 연결은 WebSocketConfig의 전송 버퍼 한도를
+ * 넘으면 끊기므로 다른 연결의 전송을 막지 않는다.
+ */
+@Slf4j
+@Service
+public class CoalescingLivePushService implements LivePushService {
+
+    private static final String LECTURE_TOPIC = "/topic/lectures/";
+    private static final String HOME_QUEUE = "/queue/home";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    // 대기 중인 알림 (목적지 + 종류 + 강의 -> 마지막 알림)
+    private final Map<PendingKey, LivePushDto> pending = new ConcurrentHashMap<>();
+
+    public CoalescingLivePushService(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void onAirChanged(Long liveId, boolean onAir, Integer participantCount,
+        Collection<Long> userIds) {
+        LivePushDto message = LivePushDto.onAir(liveId, onAir, participantCount,
+            System.currentTimeMillis());
+        pending.put(new PendingKey(null, LivePushDto.ON_AIR, liveId), message);
+        for (Long userId : userIds) {
+            pending.put(new PendingKey(userId, LivePushDto.ON_AIR, liveId), message);
+        }
+    }
+
+    @Override
+    public void participantsChanged(Long liveId, boolean onAir, Integer participantCount) {
+        pending.put(new PendingKey(null, LivePushDto.ON_AIR, liveId),
+            LivePushDto.onAir(liveId, onAir, participantCount, System.currentTimeMillis()));
+    }
+
+    @Override
+    public void schedulesChanged(Long liveId, Collection<Long> userIds) {
+        LivePushDto message = LivePushDto.scheduleChanged(liveId, System.currentTimeMillis());
+        pending.put(new PendingKey(null, LivePushDto.SCHEDULE_CHANGED, liveId), message);
+        for (Long userId : userIds) {
+            pending.put(new PendingKey(userId, LivePushDto.SCHEDULE_CHANGED, liveId), message);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live-push.flush-delay-ms:200}")
+    public void flush() {
+        int sent = 0;
+        Iterator<Map.Entry<PendingKey, LivePushDto>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PendingKey, LivePushDto> entry = iterator.next();
+            // 읽은 뒤 다시 덮어쓴 알림은 남겨 두고 다음 주기에 전송한다
+            if (!pending.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            try {
+                send(entry.getKey(), entry.getValue());
+                sent++;
+            } catch (Exception e) {
+                log.warn("강의 알림 전송 실패: 강의 ID {}, 종류 {}, 오류 메시지: {}",
+                    entry.getKey().getLiveId(), entry.getKey().getType(), e.getMessage());
+            }
+        }
+        if (sent > 0) {
+            log.debug("강의 알림 전송: {}건", sent);
+        }
+    }
+
+    private void send(PendingKey key, LivePushDto message) {
+        if (key.getUserId() == null) {
+            messagingTemplate.convertAndSend(LECTURE_TOPIC + key.getLiveId(), message);
+        } else {
+            messagingTemplate.convertAndSendToUser(String.valueOf(key.getUserId()), HOME_QUEUE,
+                message);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PendingKey {
+
+        private final Long userId;  // 사용자별 알림이면 사용자 ID, 강의 구독자 알림이면 null
+        private final String type;
+        private final Long liveId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.yoganavi.lecture.live_lecture.service.push;
+
+import java.util.Collection;
+
+/**
+ * 강의 상태 변경 WebSocket 알림
+ * <p>
+ * 강의별 알림은 /topic/lectures/{liveId}, 사용자별 알림은 /user/queue/home으로 전달한다.
+ * 짧은 시간에 반복된 알림은 마지막 것만 전달될 수 있다.
+ */
+public interface LivePushService {
+
+    /**
+     * 방송 상태 변경 알림 (강의 구독자와 강사/수강생 대상)
+     */
+    void onAirChanged(Long liveId, boolean onAir, Integer participantCount,
+        Collection<Long> userIds);
+
+    /**
+     * 방송 중 참여자 수 변경 알림 (강의 구독자 대상, 사용자별 알림은 보내지 않는다)
+     */
+    void participantsChanged(Long liveId, boolean onAir, Integer participantCount);
+
+    /**
+     * 강의 일정 변경 알림 (강의 구독자와 강사/수강생 대상)
+     */
+    void schedulesChanged(Long liveId, Collection<Long> userIds);
+}
@@ -0,0 +1,68 @@
+package com.yoganavi.lecture.live_lecture.service.schedule;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 반복 규칙으로 lecture_schedules 일정을 미리 만들어 두는 배치 작업
+ * <p>
+ * 오늘부터 MATERIALIZE_HORIZON 이후까지의 일정만 저장하고, 매일 만들어진 범위를 앞으로 늘린다.
+ * 한 트랜잭션에서 강의 CHUNK_SIZE개의 일정을 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureScheduleHorizonExtender {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final HomeTimelineService homeTimelineService;
+    private final ChunkedJobRunner chunkedJobRunner;
+
+    @Scheduled(cron = "${lecture-schedule.materialize-cron:0 0 3 * * *}")
+    public void extend() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate horizon = now.toLocalDate().plus(LectureRecurrence.MATERIALIZE_HORIZON);
+
+        AtomicInteger schedules = new AtomicInteger();
+        int lectures = chunkedJobRunner.forEachIdChunk(CHUNK_SIZE,
+            lastLiveId -> extendChunk(horizon, now, lastLiveId, schedules));
+
+        if (schedules.get() > 0) {
+            log.info("강의 일정 생성 완료: 강의 수 {}, 생성한 일정 수 {}, 기준일 {}", lectures,
+                schedules.get(), horizon);
+        }
+    }
+
+    /**
+     * @return 처리한 강의 ID
+     */
+    private List<Long> extendChunk(LocalDate horizon, LocalDateTime now, long lastLiveId,
+        AtomicInteger created) {
+        List<LiveLectures> targets = liveLecturesRepository.findMaterializationTargets(horizon,
+            lastLiveId, PageRequest.of(0, CHUNK_SIZE));
+
+        for (LiveLectures lecture : targets) {
+            List<LectureSchedule> schedules = lecture.materializeUntil(horizon, now);
+            if (!schedules.isEmpty()) {
+                created.addAndGet(schedules.size());
+                homeTimelineService.onSchedulesChanged(lecture, List.of());
+            }
+        }
+        return targets.stream().map(LiveLectures::getLiveId).toList();
+    }
+}
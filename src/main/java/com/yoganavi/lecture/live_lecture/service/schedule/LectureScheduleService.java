@@ -0,0 +1,24 @@
+package com.yoganavi.lecture.live_lecture.service.schedule;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface LectureScheduleService {
+
+    /**
+     * [from, to] 날짜 구간의 강의 일정 조회 (저장되지 않은 일정은 반복 규칙으로 계산)
+     */
+    List<LectureOccurrenceDto> getOccurrences(Long liveId, Long from, Long to);
+
+    /**
+     * 해당 날짜의 강의 일정 취소
+     */
+    void cancelOccurrence(Long liveId, Long date);
+
+    /**
+     * 해당 날짜의 일정 반환 (아직 저장되지 않았다면 생성, 수강 신청 시 사용)
+     */
+    LectureSchedule materializeOccurrence(Long liveId, LocalDate date);
+}
@@ -0,0 +1,134 @@
+package com.yoganavi.lecture.live_lecture.service.schedule;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.util.TimeUtil;
+import com.yoganavi.lecture.live_lecture.dto.LectureOccurrenceDto;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LectureScheduleServiceImpl implements LectureScheduleService {
+
+    private static final int MAX_WINDOW_DAYS = 366;
+
+    private final TimeUtil timeUtil;
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final LectureScheduleRepository lectureScheduleRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final HomeTimelineService homeTimelineService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LectureOccurrenceDto> getOccurrences(Long liveId, Long from, Long to) {
+        LiveLectures lecture = findLecture(liveId);
+        LocalDate fromDate = timeUtil.toLocalDate(from);
+        LocalDate toDate = timeUtil.toLocalDate(to);
+
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("조회 종료일이 시작일보다 빠를 수 없습니다");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_WINDOW_DAYS + "일입니다");
+        }
+
+        // 저장된 일정은 id와 함께, 저장되지 않은 일정은 반복 규칙으로 계산해서 반환
+        Map<LocalDate, LectureSchedule> storedByDate = new HashMap<>();
+        for (LectureSchedule schedule : lectureScheduleRepository.findByLiveIdAndStartTimeBetween(
+            liveId, fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay())) {
+            storedByDate.put(schedule.getLectureDate(), schedule);
+        }
+
+        List<LectureOccurrenceDto> occurrences = new ArrayList<>();
+        LectureRecurrence recurrence = lecture.getRecurrence();
+        if (recurrence != null) {
+            for (LocalDate date : recurrence.occurrenceDates(fromDate, toDate)) {
+                LectureSchedule stored = storedByDate.remove(date);
+                if (stored != null) {
+                    occurrences.add(toDto(stored));
+                } else if (!lecture.getCancelledDates().contains(date)) {
+                    occurrences.add(new LectureOccurrenceDto(null,
+                        timeUtil.toEpochMilli(date.atTime(recurrence.getStartTime())),
+                        timeUtil.toEpochMilli(date.atTime(recurrence.getEndTime()))));
+                }
+            }
+        }
+
+        // 반복 규칙 변경 전에 진행된 일정 등 규칙에 없는 저장된 일정
+        for (LectureSchedule stored : storedByDate.values()) {
+            occurrences.add(toDto(stored));
+        }
+        occurrences.sort(Comparator.comparing(LectureOccurrenceDto::getStartTime));
+        return occurrences;
+    }
+
+    @Override
+    @Transactional
+    public void cancelOccurrence(Long liveId, Long date) {
+        LiveLectures lecture = liveLecturesRepository.findForUpdate(liveId)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 강의 ID: " + liveId));
+        lecture.validateModifiable();
+
+        LocalDate cancelDate = timeUtil.toLocalDate(date);
+        List<LectureSchedule> stored = lectureScheduleRepository.findByLiveIdAndStartTimeBetween(
+            liveId, cancelDate.atStartOfDay(), cancelDate.plusDays(1).atStartOfDay());
+        for (LectureSchedule schedule : stored) {
+            if (myLiveLectureRepository.countByLectureSchedule(schedule) > 0) {
+                throw new IllegalStateException("수강생이 있는 일정은 취소할 수 없습니다.");
+            }
+        }
+
+        LectureSchedule removed = lecture.cancelOccurrence(cancelDate);
+        homeTimelineService.onSchedulesChanged(lecture,
+            removed == null ? List.of() : List.of(removed.getScheduleId()));
+
+        log.info("강의 일정 취소 완료: 강의 ID {}, 날짜 {}", liveId, cancelDate);
+    }
+
+    @Override
+    @Transactional
+    public LectureSchedule materializeOccurrence(Long liveId, LocalDate date) {
+        LiveLectures lecture = liveLecturesRepository.findForUpdate(liveId)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 강의 ID: " + liveId));
+        if (Boolean.TRUE.equals(lecture.getIsDeleted())) {
+            throw new IllegalArgumentException("삭제된 강의입니다: " + liveId);
+        }
+
+        LectureSchedule schedule = lecture.materializeOccurrence(date);
+        if (schedule.getScheduleId() == null) {
+            schedule = lectureScheduleRepository.save(schedule);
+            homeTimelineService.onSchedulesChanged(lecture, List.of());
+            log.info("강의 일정 생성: 강의 ID {}, 날짜 {}, 일정 ID {}", liveId, date,
+                schedule.getScheduleId());
+        }
+        return schedule;
+    }
+
+    private LiveLectures findLecture(Long liveId) {
+        return liveLecturesRepository.findById(liveId)
+            .filter(lecture -> !Boolean.TRUE.equals(lecture.getIsDeleted()))
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 강의 ID: " + liveId));
+    }
+
+    private LectureOccurrenceDto toDto(LectureSchedule schedule) {
+        return new LectureOccurrenceDto(schedule.getScheduleId(),
+            timeUtil.toEpochMilli(schedule.getStartTime()),
+            timeUtil.toEpochMilli(schedule.getEndTime()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.yoganavi.lecture.live_lecture.service.schedule;
+
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 요약 컬럼이 비어 있는 강의의 요약을 채우는 배치 작업
+ * <p>
+ * 요약 컬럼(firstStartTime, lastEndTime, dailyStartTime, dailyEndTime, availableDayMask)이 추가되기 전에
+ * 만들어진 강의는 값이 비어 있다. 기동 직후 한 번 실행되어 요약이 비어 있는 강의를 일정으로 다시 계산하고, 이후 실행은
+ * 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureSummaryBackfill {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final LiveLecturesRepository liveLecturesRepository;
+    private final ChunkedJobRunner chunkedJobRunner;
+
+    private volatile boolean completed = false;
+
+    @Scheduled(fixedDelayString = "${lecture-summary.backfill-delay-ms:3600000}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+
+        int lectures = chunkedJobRunner.forEachIdChunk(CHUNK_SIZE, this::backfillChunk);
+
+        if (lectures > 0) {
+            log.info("강의 요약 정보 채우기 완료: 강의 수 {}", lectures);
+        }
+        completed = true;
+    }
+
+    /**
+     * @return 처리한 강의 ID
+     */
+    private List<Long> backfillChunk(long lastLiveId) {
+        List<LiveLectures> targets = liveLecturesRepository.findSummaryTargets(lastLiveId,
+            PageRequest.of(0, CHUNK_SIZE));
+        for (LiveLectures lecture : targets) {
+            lecture.refreshSummary();
+        }
+        return targets.stream().map(LiveLectures::getLiveId).toList();
+    }
+}
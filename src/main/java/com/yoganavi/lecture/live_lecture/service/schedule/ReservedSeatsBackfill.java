@@ -0,0 +1,59 @@
+package com.yoganavi.lecture.live_lecture.service.schedule;
+
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.live_lecture.service.batch.ChunkedJobRunner;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 좌석 수(reserved_seats)를 수강 정보 수로 채우는 배치 작업
+ * <p>
+ * reserved_seats 컬럼이 추가되기 전에 만들어진 일정은 수강생이 있어도 0이라, 좌석 예약이 정원을 넘길 수 있다. 기동 직후
+ * 한 번 실행되어 아직 시작하지 않은 일정의 예약 좌석 수를 다시 계산하고, 이후 실행은 건너뛴다. 계산하는 동안 일정
+ * 행을 잠그므로 동시에 들어온 좌석 예약도 함께 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservedSeatsBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final LectureScheduleRepository lectureScheduleRepository;
+    private final ChunkedJobRunner chunkedJobRunner;
+
+    private volatile boolean completed = false;
+
+    @Scheduled(fixedDelayString = "${reserved-seats.backfill-delay-ms:3600000}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int schedules = chunkedJobRunner.forEachIdChunk(CHUNK_SIZE,
+            lastScheduleId -> backfillChunk(now, lastScheduleId));
+
+        if (schedules > 0) {
+            log.info("예약 좌석 수 채우기 완료: 일정 수 {}", schedules);
+        }
+        completed = true;
+    }
+
+    /**
+     * @return 처리한 일정 ID
+     */
+    private List<Long> backfillChunk(LocalDateTime now, long lastScheduleId) {
+        List<Long> scheduleIds = lectureScheduleRepository.findUpcomingIdsAfter(now,
+            lastScheduleId, PageRequest.of(0, CHUNK_SIZE));
+        if (!scheduleIds.isEmpty()) {
+            lectureScheduleRepository.recountReservedSeats(scheduleIds);
+        }
+        return scheduleIds;
+    }
+}
@@ -0,0 +1,77 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import static com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineStore.score;
+
+import com.yoganavi.lecture.common.repository.HomeFeedRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 홈 타임라인 정합성 검사
+ * <p>
+ * 아직 시작하지 않은 일정을 기준으로 MySQL과 타임라인을 비교하고, 차이가 있으면 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineConsistencyChecker {
+
+    private final HomeTimelineStore timelineStore;
+    private final HomeTimelineService homeTimelineService;
+    private final HomeFeedRepository homeFeedRepository;
+
+    @Transactional(readOnly = true)
+    public TimelineDiff check(Long userId) {
+        long nowScore = score(LocalDateTime.now());
+
+        Map<Long, Long> expected = new HashMap<>();
+        homeFeedRepository.findUpcomingScheduleStarts(userId, LocalDateTime.now())
+            .forEach((scheduleId, startTime) -> {
+                if (score(startTime) > nowScore) {
+                    expected.put(scheduleId, score(startTime));
+                }
+            });
+        Map<Long, Long> actual = timelineStore.entries(userId, nowScore + 1, Long.MAX_VALUE);
+
+        Set<Long> missing = new HashSet<>();
+        expected.forEach((scheduleId, expectedScore) -> {
+            if (!Objects.equals(actual.get(scheduleId), expectedScore)) {
+                missing.add(scheduleId);
+            }
+        });
+        Set<Long> stale = new HashSet<>(actual.keySet());
+        stale.removeAll(expected.keySet());
+
+        return new TimelineDiff(missing, stale);
+    }
+
+    /**
+     * 차이가 있으면 재구성
+     *
+     * @return 재구성 여부, 아직 만들어지지 않은 타임라인은 조회 시 재구성되므로 검사하지 않는다
+     */
+    @Transactional(readOnly = true)
+    public boolean repair(Long userId) {
+        if (!timelineStore.isBuilt(userId)) {
+            return false;
+        }
+
+        TimelineDiff diff = check(userId);
+        if (diff.isConsistent()) {
+            return false;
+        }
+
+        log.warn("홈 타임라인 불일치: 사용자 ID {}, 누락 {}, 잔존 {}", userId, diff.getMissing(),
+            diff.getStale());
+        homeTimelineService.rebuild(userId);
+        return true;
+    }
+}
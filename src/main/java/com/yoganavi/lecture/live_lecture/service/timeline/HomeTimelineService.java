@@ -0,0 +1,37 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface HomeTimelineService {
+
+    /**
+     * 타임라인에서 offset 위치부터 size건 조회, 타임라인이 없으면 MySQL에서 재구성한다.
+     */
+    List<HomeResponseDto> getHomeData(Long userId, LocalDateTime now, int offset, int size);
+
+    /**
+     * MySQL 기준으로 타임라인 재구성
+     */
+    void rebuild(Long userId);
+
+    /**
+     * 강의 생성/수정 후 강사와 수강생 타임라인 반영 (트랜잭션 커밋 후 실행)
+     *
+     * @param removedScheduleIds 수정으로 없어진 일정
+     */
+    void onSchedulesChanged(LiveLectures lecture, Collection<Long> removedScheduleIds);
+
+    /**
+     * 수강 신청 후 수강생 타임라인에 강의 일정 반영 (트랜잭션 커밋 후 실행)
+     */
+    void onEnroll(Long userId, Long liveId);
+
+    /**
+     * 수강 취소 후 강의의 다른 일정도 수강하지 않으면 수강생 타임라인에서 강의 일정 제거 (트랜잭션 커밋 후 실행)
+     */
+    void onUnenroll(Long userId, Long liveId);
+}
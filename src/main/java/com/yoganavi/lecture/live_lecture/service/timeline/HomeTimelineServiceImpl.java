@@ -0,0 +1,189 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import static com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineStore.score;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.repository.HomeFeedRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import com.yoganavi.lecture.live_lecture.service.push.LivePushService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineServiceImpl implements HomeTimelineService {
+
+    // 하나의 일정은 하루를 넘기지 않으므로 하루 전까지 시작한 일정만 진행 중일 수 있다
+    private static final Duration ACTIVE_WINDOW = Duration.ofDays(1);
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    private static final Comparator<HomeResponseDto> HOME_ORDER = Comparator
+        .comparing(HomeResponseDto::getScheduleStartTime)
+        .thenComparing(HomeResponseDto::getScheduleId);
+
+    private final HomeTimelineStore timelineStore;
+    private final HomeFeedRepository homeFeedRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final LivePushService livePushService;
+
+    /**
+     * 타임라인 조회
+     * <p>
+     * 이미 시작한 일정(하루 이내)은 종료 여부를 확인해야 하므로 모두 가져오고, 시작 전 일정은 필요한 만큼만
+     * 가져온 뒤 한 번의 IN 쿼리로 일정 정보를 채운다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<HomeResponseDto> getHomeData(Long userId, LocalDateTime now, int offset,
+        int size) {
+        if (!timelineStore.isBuilt(userId)) {
+            log.info("홈 타임라인 없음, 재구성: 사용자 ID {}", userId);
+            rebuild(userId);
+        }
+
+        long nowScore = score(now);
+        long windowStart = score(now.minus(ACTIVE_WINDOW));
+        timelineStore.trim(userId, windowStart - 1);
+
+        List<Long> startedIds = timelineStore.range(userId, windowStart, nowScore, 0, -1);
+        // 진행 중인 일정 수는 startedIds 이하이므로 시작 전 일정은 이 위치부터 읽으면 충분하다
+        int upcomingFrom = Math.max(0, offset - startedIds.size());
+        List<Long> upcomingIds = timelineStore.range(userId, nowScore + 1, Long.MAX_VALUE,
+            upcomingFrom, offset + size - upcomingFrom);
+
+        Set<Long> scheduleIds = new LinkedHashSet<>(startedIds);
+        scheduleIds.addAll(upcomingIds);
+        Map<Long, HomeResponseDto> rows = new HashMap<>();
+        for (HomeResponseDto row : homeFeedRepository.findByScheduleIds(userId, scheduleIds,
+            now)) {
+            rows.put(row.getScheduleId(), row);
+        }
+
+        List<HomeResponseDto> timeline = new ArrayList<>();
+        for (Long scheduleId : startedIds) {
+            HomeResponseDto row = rows.get(scheduleId);
+            if (row != null) {
+                timeline.add(row);
+            }
+        }
+        timeline.sort(HOME_ORDER);
+
+        List<Long> staleIds = new ArrayList<>();
+        for (Long scheduleId : upcomingIds) {
+            HomeResponseDto row = rows.get(scheduleId);
+            if (row != null) {
+                timeline.add(row);
+            } else {
+                staleIds.add(scheduleId);
+            }
+        }
+        if (!staleIds.isEmpty()) {
+            log.warn("홈 타임라인에 삭제된 일정 존재: 사용자 ID {}, 일정 {}", userId, staleIds);
+            timelineStore.remove(List.of(userId), staleIds);
+        }
+
+        int from = Math.min(offset - upcomingFrom, timeline.size());
+        int to = Math.min(from + size, timeline.size());
+        return new ArrayList<>(timeline.subList(from, to));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuild(Long userId) {
+        Map<Long, LocalDateTime> starts = homeFeedRepository.findUpcomingScheduleStarts(userId,
+            LocalDateTime.now());
+        timelineStore.replace(userId, toScores(starts), TIMELINE_TTL);
+        log.info("홈 타임라인 재구성 완료: 사용자 ID {}, 일정 수 {}", userId, starts.size());
+    }
+
+    @Override
+    public void onSchedulesChanged(LiveLectures lecture, Collection<Long> removedScheduleIds) {
+        Set<Long> audience = new HashSet<>(
+            myLiveLectureRepository.findActiveUserIdsByLiveId(lecture.getLiveId()));
+        audience.add(lecture.getUser().getUserId());
+        List<Long> removed = List.copyOf(removedScheduleIds);
+
+        // 새 일정의 id는 flush 이후에 확정되므로 커밋 후에 점수를 계산한다
+        afterCommit(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, Long> entries = new HashMap<>();
+            for (LectureSchedule schedule : lecture.getSchedules()) {
+                if (schedule.getScheduleId() != null && schedule.getEndTime().isAfter(now)) {
+                    entries.put(schedule.getScheduleId(), score(schedule.getStartTime()));
+                }
+            }
+            timelineStore.remove(audience, removed);
+            timelineStore.add(audience, entries);
+            log.info("홈 타임라인 반영: 강의 ID {}, 대상 사용자 수 {}, 추가 {}, 제거 {}",
+                lecture.getLiveId(), audience.size(), entries.size(), removed.size());
+        });
+        afterCommit(() -> livePushService.schedulesChanged(lecture.getLiveId(), audience));
+    }
+
+    @Override
+    public void onEnroll(Long userId, Long liveId) {
+        Map<Long, LocalDateTime> starts = homeFeedRepository.findUpcomingScheduleStartsByLiveId(
+            liveId, LocalDateTime.now());
+        afterCommit(() -> timelineStore.add(List.of(userId), toScores(starts)));
+    }
+
+    @Override
+    public void onUnenroll(Long userId, Long liveId) {
+        if (myLiveLectureRepository.existsActiveByUserIdAndLiveId(userId, liveId)) {
+            return;
+        }
+        Map<Long, LocalDateTime> starts = homeFeedRepository.findUpcomingScheduleStartsByLiveId(
+            liveId, LocalDateTime.now());
+        afterCommit(() -> timelineStore.remove(List.of(userId), starts.keySet()));
+    }
+
+    private Map<Long, Long> toScores(Map<Long, LocalDateTime> starts) {
+        Map<Long, Long> scores = new HashMap<>();
+        starts.forEach((scheduleId, startTime) -> scores.put(scheduleId, score(startTime)));
+        return scores;
+    }
+
+    /**
+     * 롤백된 변경이 타임라인에 남지 않도록 커밋 이후에 실행한다.
+     * 타임라인 반영 실패는 강의 변경을 실패시키지 않으며 정합성 검사에서 복구한다.
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        runQuietly(task);
+                    }
+                });
+        } else {
+            runQuietly(task);
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("홈 타임라인 반영 실패: {}", e.getMessage());
+        }
+    }
+}
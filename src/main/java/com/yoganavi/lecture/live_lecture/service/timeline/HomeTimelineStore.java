@@ -0,0 +1,63 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 홈 타임라인 저장소
+ * <p>
+ * 사용자마다 scheduleId를 startTime(epoch second) 점수로 정렬해 보관한다.
+ * 타임라인이 MySQL 기준으로 한 번이라도 만들어졌는지는 {@link #isBuilt(Long)}로 구분한다.
+ */
+public interface HomeTimelineStore {
+
+    /**
+     * 일정 시작 시각을 타임라인 점수로 변환 (초 단위, 홈 응답의 epoch 값과 같은 기준)
+     */
+    static long score(LocalDateTime startTime) {
+        return startTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * MySQL로부터 재구성된 타임라인이 존재하는지 여부
+     */
+    boolean isBuilt(Long userId);
+
+    /**
+     * 타임라인 전체 교체 (재구성)
+     *
+     * @param entries scheduleId -> 점수
+     */
+    void replace(Long userId, Map<Long, Long> entries, Duration ttl);
+
+    /**
+     * 여러 사용자의 타임라인에 일정 추가, 같은 scheduleId는 점수만 갱신된다.
+     */
+    void add(Collection<Long> userIds, Map<Long, Long> entries);
+
+    /**
+     * 여러 사용자의 타임라인에서 일정 제거
+     */
+    void remove(Collection<Long> userIds, Collection<Long> scheduleIds);
+
+    /**
+     * 점수가 maxScore 이하인 일정 제거
+     */
+    void trim(Long userId, long maxScore);
+
+    /**
+     * 점수 구간 [minScore, maxScore]의 scheduleId를 점수 오름차순으로 조회
+     *
+     * @param count 음수이면 구간 전체
+     */
+    List<Long> range(Long userId, long minScore, long maxScore, long offset, long count);
+
+    /**
+     * 점수 구간 [minScore, maxScore]의 scheduleId와 점수 조회 (정합성 검사용)
+     */
+    Map<Long, Long> entries(Long userId, long minScore, long maxScore);
+}
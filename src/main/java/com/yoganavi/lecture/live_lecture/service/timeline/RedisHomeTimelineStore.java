@@ -0,0 +1,144 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis ZSET 기반 홈 타임라인 (key: home:timeline:v2:{userId}, member: scheduleId, score: startTime)
+ * <p>
+ * 점수가 같은 멤버는 문자열 순으로 정렬되므로 scheduleId를 19자리로 0을 채워 저장한다. 그래야 같은 시각에 시작하는 일정이
+ * MySQL과 같은 (startTime, scheduleId) 순서가 된다. (v2: 자릿수를 채우기 전 키와 섞이지 않도록 키를 바꿨다)
+ * <p>
+ * 재구성이 끝난 타임라인에는 점수 -1의 표식 멤버를 함께 넣는다. 만료된 키에 증분 반영만 들어간 경우
+ * 표식이 없으므로 조회 시 다시 재구성된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisHomeTimelineStore implements HomeTimelineStore {
+
+    private static final String KEY_PREFIX = "home:timeline:v2:";
+    private static final String MEMBER_FORMAT = "%019d";
+    private static final String BUILT_MARKER = "0";
+    private static final double BUILT_MARKER_SCORE = -1;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean isBuilt(Long userId) {
+        return redisTemplate.opsForZSet().score(key(userId), BUILT_MARKER) != null;
+    }
+
+    @Override
+    public void replace(Long userId, Map<Long, Long> entries, Duration ttl) {
+        String key = key(userId);
+        Set<TypedTuple<String>> tuples = toTuples(entries);
+        tuples.add(new DefaultTypedTuple<>(BUILT_MARKER, BUILT_MARKER_SCORE));
+
+        pipelined(operations -> {
+            operations.delete(key);
+            operations.opsForZSet().add(key, tuples);
+            operations.expire(key, ttl);
+        });
+    }
+
+    @Override
+    public void add(Collection<Long> userIds, Map<Long, Long> entries) {
+        if (userIds.isEmpty() || entries.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = toTuples(entries);
+        pipelined(operations -> {
+            for (Long userId : userIds) {
+                operations.opsForZSet().add(key(userId), tuples);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Collection<Long> userIds, Collection<Long> scheduleIds) {
+        if (userIds.isEmpty() || scheduleIds.isEmpty()) {
+            return;
+        }
+        Object[] members = scheduleIds.stream().map(RedisHomeTimelineStore::member).toArray();
+        pipelined(operations -> {
+            for (Long userId : userIds) {
+                operations.opsForZSet().remove(key(userId), members);
+            }
+        });
+    }
+
+    @Override
+    public void trim(Long userId, long maxScore) {
+        // 표식 멤버(-1)는 남긴다
+        redisTemplate.opsForZSet().removeRangeByScore(key(userId), 0, maxScore);
+    }
+
+    @Override
+    public List<Long> range(Long userId, long minScore, long maxScore, long offset, long count) {
+        Set<String> members = redisTemplate.opsForZSet()
+            .rangeByScore(key(userId), minScore, maxScore, offset, count);
+        List<Long> scheduleIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                scheduleIds.add(Long.valueOf(member));
+            }
+        }
+        return scheduleIds;
+    }
+
+    @Override
+    public Map<Long, Long> entries(Long userId, long minScore, long maxScore) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+            .rangeByScoreWithScores(key(userId), minScore, maxScore);
+        Map<Long, Long> entries = new HashMap<>();
+        if (tuples != null) {
+            for (TypedTuple<String> tuple : tuples) {
+                entries.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 일정 id를 ZSET 멤버로 변환 (문자열 순서가 숫자 순서와 같도록 자릿수를 채운다)
+     */
+    public static String member(Long scheduleId) {
+        return String.format(MEMBER_FORMAT, scheduleId);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private Set<TypedTuple<String>> toTuples(Map<Long, Long> entries) {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        entries.forEach((scheduleId, score) ->
+            tuples.add(new DefaultTypedTuple<>(member(scheduleId), score.doubleValue())));
+        return tuples;
+    }
+
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.yoganavi.lecture.live_lecture.service.timeline;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 홈 타임라인과 MySQL 비교 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class TimelineDiff {
+
+    private final Set<Long> missing; // MySQL에는 있으나 타임라인에 없거나 시작 시각이 다른 일정
+    private final Set<Long> stale;   // 타임라인에만 남아있는 일정
+
+    public boolean isConsistent() {
+        return missing.isEmpty() && stale.isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package com.yoganavi.lecture.recorded_lecture.controller;
 
 import com.yoganavi.lecture.recorded_lecture.dto.DeleteDto;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureCursorPageDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import com.yoganavi.lecture.recorded_lecture.service.create.CreateRecordedLecture;
 import com.yoganavi.lecture.recorded_lecture.service.delete.DeleteRecordedLecture;
@@ -17,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -332,12 +334,87 @@ public class RecordController {
         }
     }
 
+    /**
+     * 강의 좋아요 (이미 좋아요한 강의면 changed=false)
+     *
+     * @param recordedId 강의 id
+     * @return 좋아요 상태와 변경 여부
+     */
+    @PutMapping("/recorded-lecture/like/{recordedId}")
+    public ResponseEntity<Map<String, Object>> addLike(
+        @RequestHeader("X-User-Id") Long userId,
+        @PathVariable Long recordedId) {
+        return setLike(userId, recordedId, true);
+    }
+
+    /**
+     * 강의 좋아요 취소 (좋아요하지 않은 강의면 changed=false)
+     *
+     * @param recordedId 강의 id
+     * @return 좋아요 상태와 변경 여부
+     */
+    @DeleteMapping("/recorded-lecture/like/{recordedId}")
+    public ResponseEntity<Map<String, Object>> removeLike(
+        @RequestHeader("X-User-Id") Long userId,
+        @PathVariable Long recordedId) {
+        return setLike(userId, recordedId, false);
+    }
+
+    private ResponseEntity<Map<String, Object>> setLike(Long userId, Long recordedId,
+        boolean liked) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            boolean changed = liked ? likeRecordedLecture.like(recordedId, userId)
+                : likeRecordedLecture.unlike(recordedId, userId);
+            log.info("사용자 {}가 강의 {} {} (변경: {})", userId, recordedId,
+                liked ? "좋아요" : "좋아요 취소", changed);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("liked", liked);
+            data.put("changed", changed);
+            response.put("message", liked ? "좋아요 성공" : "좋아요 취소");
+            response.put("data", data);
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            log.error("강의 또는 사용자를 찾을 수 없음: {}", e.getMessage());
+            response.put("message", "수정 실패");
+            response.put("data", false);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 입력값: {}", e.getMessage());
+            response.put("message", "수정 실패");
+            response.put("data", false);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (ServiceException e) {
+            log.error("서비스 처리 중 오류: {}", e.getMessage());
+            response.put("message", "수정 실패");
+            response.put("data", false);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            log.error("예기치 않은 오류: {}", e.getMessage(), e);
+            response.put("message", "수정 실패");
+            response.put("data", false);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 전체 강의 목록 조회
+     * <p>
+     * sort가 fame이고 cursor 파라미터가 있으면 커서 모드로 동작하며 nextCursor를 함께 반환한다. (첫 페이지는 cursor=)
+     * sort가 trending이면 최근 좋아요가 많은 순으로 조회한다.
+     */
     @GetMapping("/recorded-lecture/sort/{sort}")
     public ResponseEntity<Map<String, Object>> getAllLectures(
         @RequestHeader("X-User-Id") Long userId,
         @PathVariable String sort,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "21") int size) {
+        @RequestParam(defaultValue = "21") int size,
+        @RequestParam(required = false) String cursor) {
+        if ("fame".equals(sort) && cursor != null) {
+            return getFameLecturesByCursor(userId, cursor, size);
+        }
+
         Map<String, Object> response = new HashMap<>();
         try {
             log.info("사용자 ID: {}", userId);
@@ -381,6 +458,39 @@ public class RecordController {
         }
     }
 
+    private ResponseEntity<Map<String, Object>> getFameLecturesByCursor(Long userId,
+        String cursor, int size) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            LectureCursorPageDto lecturePage = showRecordedLecture.getFameLecturesByCursor(userId,
+                cursor, size);
+            response.put("message", "녹화강의 조회 성공");
+            response.put("data", lecturePage.getLectures());
+            response.put("nextCursor", lecturePage.getNextCursor());
+            return ResponseEntity.ok(response);
+        } catch (EntityNotFoundException e) {
+            log.error("사용자를 찾을 수 없음: {}", e.getMessage());
+            response.put("message", "녹화강의 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 커서: {}", e.getMessage());
+            response.put("message", "잘못된 커서입니다");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (ServiceException e) {
+            log.error("서비스 처리 중 오류: {}", e.getMessage());
+            response.put("message", "녹화강의 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        } catch (Exception e) {
+            log.error("예기치 않은 오류: {}", e.getMessage(), e);
+            response.put("message", "녹화강의 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @GetMapping("/recorded-lecture/search/{keyword}/sort/{sort}")
     public ResponseEntity<Map<String, Object>> searchLectures(
         @RequestHeader("X-User-Id") Long userId,
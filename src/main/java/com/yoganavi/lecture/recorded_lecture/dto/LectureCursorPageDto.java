@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.recorded_lecture.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 녹화 강의 커서 페이지 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class LectureCursorPageDto {
+
+    private List<LectureDto> lectures;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+}
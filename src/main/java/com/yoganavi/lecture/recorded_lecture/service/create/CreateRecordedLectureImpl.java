@@ -2,8 +2,10 @@ package com.yoganavi.lecture.recorded_lecture.service.create;
 
 import com.yoganavi.lecture.common.entity.RecordedLecture;
 import com.yoganavi.lecture.common.entity.RecordedLectureChapter;
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
 import com.yoganavi.lecture.common.entity.Users;
 import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
 import com.yoganavi.lecture.recorded_lecture.dto.ChapterDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
@@ -26,6 +28,7 @@ public class CreateRecordedLectureImpl implements CreateRecordedLecture {
 
     private final UserRepository userRepository;
     private final RecordedLectureRepository recordedLectureRepository;
+    private final RecordedLectureSearchOutboxRepository searchOutboxRepository;
 
 
     /**
@@ -95,6 +98,8 @@ public class CreateRecordedLectureImpl implements CreateRecordedLecture {
 
             try {
                 recordedLectureRepository.save(lecture);
+                // 검색 색인은 RecordedLectureSearchRelay가 반영
+                searchOutboxRepository.save(RecordedLectureSearchOutbox.of(lecture.getId()));
                 log.info("새 강의 저장 완료: 강의 ID {}", lecture.getId());
             } catch (DataAccessException e) {
                 log.error("강의 저장 중 데이터베이스 오류: userId={}, error={}",
@@ -2,8 +2,11 @@ package com.yoganavi.lecture.recorded_lecture.service.delete;
 
 import com.yoganavi.lecture.common.entity.RecordedLecture;
 import com.yoganavi.lecture.common.entity.RecordedLectureChapter;
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
 import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
 import com.yoganavi.lecture.recorded_lecture.dto.DeleteDto;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeTargetCache;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteRecordedLectureImpl implements DeleteRecordedLecture {
 
     private final RecordedLectureRepository recordedLectureRepository;
+    private final RecordedLectureSearchOutboxRepository searchOutboxRepository;
+    private final LikeTargetCache likeTargetCache;
 
     /**
      * 강의를 삭제
@@ -80,7 +85,10 @@ public class DeleteRecordedLectureImpl implements DeleteRecordedLecture {
                     // db에서 강의 삭제
                     try {
                         recordedLectureRepository.delete(lecture);
+                        searchOutboxRepository.save(
+                            RecordedLectureSearchOutbox.of(lecture.getId()));
                         deletedLectureIds.add(lecture.getId());
+                        likeTargetCache.evictLecture(lecture.getId());
                         notFoundLectureIds.remove(lecture.getId());
                         log.info("강의 삭제 완료: lectureId={}", lecture.getId());
                     } catch (DataAccessException e) {
@@ -0,0 +1,38 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기록하지 않는 좋아요 버퍼 (기본값)
+ * <p>
+ * 프로세스가 비정상 종료되면 마지막 반영 주기 동안의 좋아요를 잃는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "recorded-like", name = "durability", havingValue = "best-effort",
+    matchIfMissing = true)
+public class BestEffortLikeEventLog implements LikeEventLog {
+
+    @Override
+    public long append(LikeEvent event) {
+        return 0;
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+    }
+
+    @Override
+    public void rotate() {
+    }
+
+    @Override
+    public void commit() {
+    }
+
+    @Override
+    public List<LikeEvent> recover() {
+        return List.of();
+    }
+}
@@ -0,0 +1,185 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일에 추가 기록하는 좋아요 버퍼 (recorded-like.durability=local-log)
+ * <p>
+ * 이벤트는 like-events.log에 한 줄씩 추가한다. rotate하면 like-events.flushing.log로 넘기고, 반영이 끝나면
+ * 지운다. 반영에 실패해 flushing 파일이 남아 있으면 다음 rotate 때 현재 기록을 그 뒤에 이어 붙인다. 상태를 덮어쓰는
+ * 이벤트라 같은 이벤트를 여러 번 복구해도 결과는 같다.
+ * <p>
+ * 기본적으로 프로세스 비정상 종료에는 안전하고, 장비 장애까지 견디려면 recorded-like.log-fsync=true로 응답 전에
+ * 디스크에 쓴다. 기록(append)은 파일 끝에 쓰기만 하고, 동기화(awaitDurable)는 버퍼 잠금 밖에서 한 번에 한 스레드만
+ * 한다. 동기화 중에 쌓인 기록은 다음 동기화 한 번으로 함께 디스크에 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "recorded-like", name = "durability", havingValue = "local-log")
+public class FileLikeEventLog implements LikeEventLog {
+
+    private static final String CURRENT_FILE = "like-events.log";
+    private static final String FLUSHING_FILE = "like-events.flushing.log";
+
+    private final Path current;
+    private final Path flushing;
+    private final boolean fsync;
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private long appended;  // 지금까지 기록한 바이트 수 (rotate해도 이어서 센다)
+    private long synced;    // 디스크 동기화가 끝난 바이트 수
+
+    public FileLikeEventLog(@Value("${recorded-like.log-dir:./data/like-log}") String logDir,
+        @Value("${recorded-like.log-fsync:false}") boolean fsync) {
+        Path dir = Path.of(logDir);
+        this.current = dir.resolve(CURRENT_FILE);
+        this.flushing = dir.resolve(FLUSHING_FILE);
+        this.fsync = fsync;
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        try {
+            Files.createDirectories(current.getParent());
+            channel = openCurrent();
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 기록 파일을 열 수 없습니다: " + current, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (channel != null) {
+                channel.force(false);
+                synced = appended;
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            log.warn("좋아요 기록 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized long append(LikeEvent event) {
+        String line = event.getLectureId() + "," + event.getUserId() + ","
+            + (event.isLiked() ? 1 : 0) + "\n";
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.US_ASCII));
+            appended += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return appended;
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 기록 실패", e);
+        }
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+        if (!fsync) {
+            return;
+        }
+        synchronized (syncLock) {
+            FileChannel target;
+            long end;
+            synchronized (this) {
+                if (synced >= position) {
+                    return;
+                }
+                target = channel;
+                end = appended;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // rotate/close가 파일을 동기화한 뒤 닫았다
+                return;
+            } catch (IOException e) {
+                throw new UncheckedIOException("좋아요 기록 동기화 실패", e);
+            }
+            synchronized (this) {
+                synced = Math.max(synced, end);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void rotate() {
+        try {
+            channel.force(false);
+            synced = appended;
+            channel.close();
+            if (Files.exists(flushing)) {
+                Files.write(flushing, Files.readAllBytes(current), StandardOpenOption.APPEND);
+                Files.delete(current);
+            } else {
+                Files.move(current, flushing, StandardCopyOption.ATOMIC_MOVE);
+            }
+            channel = openCurrent();
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 기록 파일 교체 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void commit() {
+        try {
+            Files.deleteIfExists(flushing);
+        } catch (IOException e) {
+            log.warn("반영된 좋아요 기록 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized List<LikeEvent> recover() {
+        List<LikeEvent> events = new ArrayList<>();
+        readEvents(flushing, events);
+        readEvents(current, events);
+        return events;
+    }
+
+    private FileChannel openCurrent() throws IOException {
+        return FileChannel.open(current, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    }
+
+    private void readEvents(Path file, List<LikeEvent> events) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                String[] parts = line.split(",");
+                // 기록 중 종료되어 잘린 마지막 줄은 건너뛴다
+                if (parts.length != 3 || parts[2].isEmpty()) {
+                    continue;
+                }
+                events.add(new LikeEvent(Long.valueOf(parts[0]), Long.valueOf(parts[1]),
+                    "1".equals(parts[2])));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("좋아요 기록 읽기 실패: " + file, e);
+        }
+    }
+}
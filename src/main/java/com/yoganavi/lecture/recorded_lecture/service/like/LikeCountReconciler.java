@@ -0,0 +1,61 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeCountRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * recorded_lecture.like_count를 RecordedLectureLike 행 수에 맞춰 보정하는 배치 작업
+ * <p>
+ * 좋아요 행과 좋아요 수는 LikeEventWriteBehind가 같은 트랜잭션에서 바꾸므로 평소에는 어긋나지 않는다. 직접 수정한
+ * 데이터 등으로 어긋난 값을 강의 id 순으로 CHUNK_SIZE개씩 트랜잭션 하나로 다시 계산하고, 보정한 강의는 같은
+ * 트랜잭션에서 검색 아웃박스에 기록해 검색 문서의 좋아요 수도 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final RecordedLectureLikeCountRepository likeCountRepository;
+    private final RecordedLectureSearchOutboxRepository searchOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${recorded-like.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long lastId = 0L;
+        int fixed = 0;
+        List<Long> ids;
+        do {
+            ids = likeCountRepository.findIdsAfter(lastId, CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromId = ids.get(0);
+            long toId = ids.get(ids.size() - 1);
+            fixed += transactionTemplate.execute(status -> reconcileChunk(fromId, toId));
+            lastId = toId;
+        } while (ids.size() == CHUNK_SIZE);
+
+        if (fixed > 0) {
+            log.warn("좋아요 수 보정 완료: 보정한 강의 수 {}", fixed);
+        }
+    }
+
+    /**
+     * @return 보정한 강의 수
+     */
+    private int reconcileChunk(long fromId, long toId) {
+        List<Long> lectureIds = likeCountRepository.reconcileLikeCounts(fromId, toId);
+        if (!lectureIds.isEmpty()) {
+            searchOutboxRepository.enqueueAll(lectureIds);
+        }
+        return lectureIds.size();
+    }
+}
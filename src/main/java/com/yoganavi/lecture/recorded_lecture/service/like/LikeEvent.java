@@ -0,0 +1,16 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아직 DB에 반영하지 않은 좋아요 상태 (강의, 사용자별 마지막 요청)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikeEvent {
+
+    private final Long lectureId;
+    private final Long userId;
+    private final boolean liked;
+}
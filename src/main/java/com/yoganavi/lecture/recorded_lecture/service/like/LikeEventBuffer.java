@@ -0,0 +1,216 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아직 DB에 반영하지 않은 좋아요 상태 버퍼 (강의, 사용자별로 마지막 요청만 남김)
+ * <p>
+ * (강의 id, 사용자 id)로 SHARD_COUNT개 구역을 나눠 구역마다 따로 잠근다. drain한 상태는 반영이 끝날 때까지
+ * 반영 중(inFlight)으로 남겨 두므로, 사용자는 반영 전후 언제 조회해도 자신의 마지막 요청 결과를 본다.
+ * <p>
+ * 기록(append)과 버퍼 반영은 읽기 잠금, rotate와 drain은 쓰기 잠금으로 묶어 rotate된 기록의 이벤트가 모두 drain
+ * 결과에 포함되게 한다. 기록의 디스크 동기화(awaitDurable)는 잠금을 푼 뒤에 기다린다.
+ * <p>
+ * 버퍼에 상태가 없을 때만 DB 기준 상태(persisted)를 읽는다. DB는 잠금 밖에서 먼저 읽고, 그 사이 같은 구역의 반영이
+ * 끝났으면(complete) 읽은 값이 커밋 이전 값일 수 있으므로 구역 잠금 안에서 다시 읽는다.
+ */
+@Component
+public class LikeEventBuffer {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private final LikeEventLog likeEventLog;
+
+    public LikeEventBuffer(LikeEventLog likeEventLog) {
+        this.likeEventLog = likeEventLog;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * 좋아요 상태를 liked로 설정
+     *
+     * @param persisted DB 기준 현재 좋아요 여부 (버퍼에 상태가 없을 때만 읽는다)
+     * @return 상태가 바뀌었는지 여부
+     */
+    public boolean set(Long lectureId, Long userId, boolean liked, BooleanSupplier persisted) {
+        return record(lectureId, userId, persisted, current -> liked) != null;
+    }
+
+    /**
+     * 좋아요 상태를 뒤집는다
+     *
+     * @param persisted DB 기준 현재 좋아요 여부 (버퍼에 상태가 없을 때만 읽는다)
+     * @return 바뀐 좋아요 상태
+     */
+    public boolean toggle(Long lectureId, Long userId, BooleanSupplier persisted) {
+        return record(lectureId, userId, persisted, current -> !current);
+    }
+
+    /**
+     * @return 반영 전(또는 반영 중)인 좋아요 상태, 없으면 null
+     */
+    public Boolean find(Long lectureId, Long userId) {
+        LikeKey key = new LikeKey(lectureId, userId);
+        return shardOf(key).find(key);
+    }
+
+    /**
+     * 버퍼의 모든 상태를 반영 중으로 옮기고 반환
+     */
+    public List<LikeEvent> drain() {
+        Lock lock = drainLock.writeLock();
+        lock.lock();
+        try {
+            likeEventLog.rotate();
+            List<LikeEvent> events = new ArrayList<>();
+            for (Shard shard : shards) {
+                shard.drainTo(events);
+            }
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 반영이 끝난 상태를 반영 중에서 제거
+     */
+    public void complete(Collection<LikeEvent> events) {
+        for (LikeEvent event : events) {
+            LikeKey key = new LikeKey(event.getLectureId(), event.getUserId());
+            shardOf(key).complete(key);
+        }
+    }
+
+    /**
+     * 반영에 실패한 상태를 버퍼로 되돌린다 (그 사이 들어온 요청이 있으면 그 요청을 유지)
+     */
+    public void restore(Collection<LikeEvent> events) {
+        for (LikeEvent event : events) {
+            LikeKey key = new LikeKey(event.getLectureId(), event.getUserId());
+            shardOf(key).restore(key, event.isLiked());
+        }
+    }
+
+    /**
+     * 기록에서 복구한 상태를 버퍼에 넣는다 (다시 기록하지 않음)
+     */
+    public void replay(List<LikeEvent> events) {
+        for (LikeEvent event : events) {
+            LikeKey key = new LikeKey(event.getLectureId(), event.getUserId());
+            shardOf(key).put(key, event.isLiked());
+        }
+    }
+
+    /**
+     * @return 바뀐 상태, 바뀌지 않았으면 null (toggle은 항상 바뀜)
+     */
+    private Boolean record(Long lectureId, Long userId, BooleanSupplier persisted,
+        StateChange change) {
+        LikeKey key = new LikeKey(lectureId, userId);
+        Shard shard = shardOf(key);
+        long completed = shard.completedCount();
+        Boolean persistedBefore = shard.find(key) == null ? persisted.getAsBoolean() : null;
+
+        boolean next;
+        long position;
+        Lock lock = drainLock.readLock();
+        lock.lock();
+        try {
+            synchronized (shard) {
+                Boolean buffered = shard.find(key);
+                boolean current;
+                if (buffered != null) {
+                    current = buffered;
+                } else if (persistedBefore != null && shard.completedCount() == completed) {
+                    current = persistedBefore;
+                } else {
+                    current = persisted.getAsBoolean();
+                }
+                next = change.apply(current);
+                if (next == current) {
+                    return null;
+                }
+                position = likeEventLog.append(new LikeEvent(lectureId, userId, next));
+                shard.put(key, next);
+            }
+        } finally {
+            lock.unlock();
+        }
+        likeEventLog.awaitDurable(position);
+        return next;
+    }
+
+    private Shard shardOf(LikeKey key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return shards[hash & (SHARD_COUNT - 1)];
+    }
+
+    private interface StateChange {
+
+        boolean apply(boolean current);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class LikeKey {
+
+        private final Long lectureId;
+        private final Long userId;
+    }
+
+    private static class Shard {
+
+        private Map<LikeKey, Boolean> pending = new HashMap<>();
+        private final Map<LikeKey, Boolean> inFlight = new HashMap<>();
+        private long completedCount;    // 반영이 끝나 inFlight에서 빠진 횟수
+
+        synchronized Boolean find(LikeKey key) {
+            Boolean liked = pending.get(key);
+            return liked != null ? liked : inFlight.get(key);
+        }
+
+        synchronized void put(LikeKey key, boolean liked) {
+            pending.put(key, liked);
+        }
+
+        synchronized void drainTo(List<LikeEvent> events) {
+            pending.forEach((key, liked) -> {
+                inFlight.put(key, liked);
+                events.add(new LikeEvent(key.lectureId, key.userId, liked));
+            });
+            pending = new HashMap<>();
+        }
+
+        synchronized void complete(LikeKey key) {
+            if (inFlight.remove(key) != null) {
+                completedCount++;
+            }
+        }
+
+        synchronized long completedCount() {
+            return completedCount;
+        }
+
+        synchronized void restore(LikeKey key, boolean liked) {
+            inFlight.remove(key);
+            pending.putIfAbsent(key, liked);
+        }
+    }
+}
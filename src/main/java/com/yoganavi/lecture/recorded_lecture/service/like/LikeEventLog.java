@@ -0,0 +1,38 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.util.List;
+
+/**
+ * 좋아요 버퍼의 내구성 기록
+ * <p>
+ * recorded-like.durability 설정으로 구현을 고른다. (best-effort: 기록하지 않음, local-log: 로컬 파일에 추가 기록)
+ */
+public interface LikeEventLog {
+
+    /**
+     * 버퍼에 넣기 전에 호출한다 (버퍼 잠금 안에서 호출되므로 디스크 동기화는 하지 않는다)
+     *
+     * @return awaitDurable에 넘길 기록 위치
+     */
+    long append(LikeEvent event);
+
+    /**
+     * position까지 기록한 이벤트가 디스크에 쓰일 때까지 기다린다 (버퍼 잠금 밖에서 호출)
+     */
+    void awaitDurable(long position);
+
+    /**
+     * 지금까지 기록한 이벤트를 반영 대상으로 넘기고 새 기록을 시작한다 (버퍼를 비우기 직전에 호출)
+     */
+    void rotate();
+
+    /**
+     * rotate로 넘긴 이벤트가 모두 DB에 반영되어 더 이상 필요 없음
+     */
+    void commit();
+
+    /**
+     * 반영되지 않은 이벤트를 기록 순서대로 반환 (시작 시 버퍼 복구용)
+     */
+    List<LikeEvent> recover();
+}
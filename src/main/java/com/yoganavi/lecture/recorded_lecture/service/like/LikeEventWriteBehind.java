@@ -0,0 +1,155 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeBulkRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeCountRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingLectureRanking;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 버퍼를 recorded_lecture_like와 recorded_lecture.like_count에 모아서 반영하는 배치 작업
+ * <p>
+ * 버퍼를 비운 뒤 BATCH_SIZE건씩 트랜잭션 하나로 처리한다. 저장된 좋아요를 잠가 읽고 실제로 바뀌는 행만 여러 행
+ * INSERT/DELETE 한 번씩으로 반영하며, 같은 트랜잭션에서 강의별 좋아요 수를 바꾸고 검색 아웃박스에 기록한다.
+ * 반영에 실패한 상태는 버퍼로 되돌려 다음 실행에서 재시도한다. 커밋된 변경은 좋아요 강의 집합과 인기 급상승 점수에도
+ * 반영한다.
+ * <p>
+ * 인스턴스마다 버퍼가 따로 있으므로 한 사용자가 여러 인스턴스로 요청을 보내면 나중에 반영한 인스턴스의 상태가 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeEventWriteBehind {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final LikeEventBuffer likeEventBuffer;
+    private final LikeEventLog likeEventLog;
+    private final LikedLectureCache likedLectureCache;
+    private final TrendingLectureRanking trendingLectureRanking;
+    private final RecordedLectureLikeBulkRepository likeBulkRepository;
+    private final RecordedLectureLikeCountRepository likeCountRepository;
+    private final RecordedLectureSearchOutboxRepository searchOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이전 실행에서 반영하지 못한 기록을 버퍼로 복구
+     */
+    @PostConstruct
+    public void recover() {
+        List<LikeEvent> events = likeEventLog.recover();
+        if (!events.isEmpty()) {
+            likeEventBuffer.replay(events);
+            log.info("반영되지 않은 좋아요 기록 복구: {}건", events.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recorded-like.flush-delay-ms:200}")
+    public synchronized void flush() {
+        List<LikeEvent> events = likeEventBuffer.drain();
+        if (events.isEmpty()) {
+            likeEventLog.commit();
+            return;
+        }
+
+        boolean flushedAll = true;
+        int changed = 0;
+        for (int from = 0; from < events.size(); from += BATCH_SIZE) {
+            List<LikeEvent> batch = events.subList(from,
+                Math.min(from + BATCH_SIZE, events.size()));
+            try {
+                List<LikeEvent> applied = transactionTemplate.execute(status -> applyBatch(batch));
+                for (LikeEvent event : applied) {
+                    likedLectureCache.changed(event.getUserId(), event.getLectureId(),
+                        event.isLiked());
+                }
+                trendingLectureRanking.liked(applied);
+                likeEventBuffer.complete(batch);
+                changed += applied.size();
+            } catch (RuntimeException e) {
+                log.error("좋아요 반영 실패, 다음 실행에서 재시도: {}건, 오류 메시지: {}", batch.size(),
+                    e.getMessage());
+                likeEventBuffer.restore(batch);
+                flushedAll = false;
+            }
+        }
+
+        // 하나라도 실패하면 기록을 남겨 두고 다음 rotate 때 이어 붙인다
+        if (flushedAll) {
+            likeEventLog.commit();
+        }
+        log.debug("좋아요 반영 완료: 요청 {}건, 변경 {}건", events.size(), changed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * @return 실제로 추가/삭제된 좋아요
+     */
+    private List<LikeEvent> applyBatch(List<LikeEvent> batch) {
+        Set<Long> lectureIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (LikeEvent event : batch) {
+            lectureIds.add(event.getLectureId());
+            userIds.add(event.getUserId());
+        }
+        // 그 사이 삭제된 강의/사용자의 좋아요는 버린다
+        Set<Long> existingLectureIds = likeBulkRepository.findExistingLectureIds(lectureIds);
+        Set<Long> existingUserIds = likeBulkRepository.findExistingUserIds(userIds);
+
+        Map<Long, Set<Long>> requested = new HashMap<>();
+        for (LikeEvent event : batch) {
+            if (existingLectureIds.contains(event.getLectureId())
+                && existingUserIds.contains(event.getUserId())) {
+                requested.computeIfAbsent(event.getLectureId(), id -> new HashSet<>())
+                    .add(event.getUserId());
+            }
+        }
+        Map<Long, Set<Long>> stored = likeBulkRepository.findLikesForUpdate(requested);
+
+        List<LikeEvent> applied = new ArrayList<>();
+        Map<Long, Set<Long>> inserts = new HashMap<>();
+        Map<Long, Set<Long>> deletes = new HashMap<>();
+        Map<Long, Long> deltaByLectureId = new HashMap<>();
+        for (LikeEvent event : batch) {
+            Set<Long> requestedUsers = requested.get(event.getLectureId());
+            if (requestedUsers == null || !requestedUsers.contains(event.getUserId())) {
+                continue;
+            }
+            boolean liked = stored.getOrDefault(event.getLectureId(), Set.of())
+                .contains(event.getUserId());
+            if (event.isLiked() == liked) {
+                continue;
+            }
+            (event.isLiked() ? inserts : deletes)
+                .computeIfAbsent(event.getLectureId(), id -> new HashSet<>())
+                .add(event.getUserId());
+            deltaByLectureId.merge(event.getLectureId(), event.isLiked() ? 1L : -1L, Long::sum);
+            applied.add(event);
+        }
+
+        likeBulkRepository.insertLikes(inserts);
+        likeBulkRepository.deleteLikes(deletes);
+        deltaByLectureId.values().removeIf(delta -> delta == 0);
+        likeCountRepository.addLikeCounts(deltaByLectureId);
+        if (!deltaByLectureId.isEmpty()) {
+            searchOutboxRepository.enqueueAll(deltaByLectureId.keySet());
+        }
+        return applied;
+    }
+}
@@ -3,4 +3,8 @@ package com.yoganavi.lecture.recorded_lecture.service.like;
 public interface LikeRecordedLecture {
 
     boolean toggleLike(Long recordedId, Long userId);
+
+    boolean like(Long recordedId, Long userId);
+
+    boolean unlike(Long recordedId, Long userId);
 }
@@ -1,29 +1,62 @@
 package com.yoganavi.lecture.recorded_lecture.service.like;
 
-import com.yoganavi.lecture.common.entity.RecordedLecture;
-import com.yoganavi.lecture.common.entity.RecordedLectureLike;
-import com.yoganavi.lecture.common.entity.Users;
 import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
-import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
-import com.yoganavi.lecture.common.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
 
+/**
+ * 강의 좋아요
+ * <p>
+ * 요청은 LikeEventBuffer에만 기록하고 DB에는 LikeEventWriteBehind가 모아서 반영한다. 상태 변경 여부는 버퍼에 남은
+ * 마지막 요청, 없으면 DB의 좋아요 행을 기준으로 판단한다. 좋아요 강의 집합 캐시는 반영 직후 잠시 오래된 값일 수 있어
+ * 판단에 쓰지 않는다. 강의와 사용자 존재 확인은 LikeTargetCache로 처리하므로, 버퍼에 상태가 있으면 DB를 읽지 않고 없으면
+ * 좋아요 행 확인 한 번만 한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LikeRecordedLectureImpl implements LikeRecordedLecture {
 
-    private final UserRepository userRepository;
-    private final RecordedLectureRepository recordedLectureRepository;
-    private final RecordedLectureLikeRepository lectureLikeRepository;
+    private final LikeTargetCache likeTargetCache;
+    private final RecordedLectureLikeRepository recordedLectureLikeRepository;
+    private final LikeEventBuffer likeEventBuffer;
+
+    /**
+     * 강의 좋아요
+     *
+     * @return 좋아요 상태가 바뀌었는지 여부 (이미 좋아요한 강의면 false)
+     */
+    @Override
+    public boolean like(Long recordedId, Long userId) {
+        checkLecture(recordedId, userId);
+        boolean changed = likeEventBuffer.set(recordedId, userId, true,
+            () -> isPersisted(recordedId, userId));
+        if (changed) {
+            log.info("강의 좋아요 추가: lectureId={}, userId={}", recordedId, userId);
+        }
+        return changed;
+    }
+
+    /**
+     * 강의 좋아요 취소
+     *
+     * @return 좋아요 상태가 바뀌었는지 여부 (좋아요하지 않은 강의면 false)
+     */
+    @Override
+    public boolean unlike(Long recordedId, Long userId) {
+        checkLecture(recordedId, userId);
+        boolean changed = likeEventBuffer.set(recordedId, userId, false,
+            () -> isPersisted(recordedId, userId));
+        if (changed) {
+            log.info("강의 좋아요 취소: lectureId={}, userId={}", recordedId, userId);
+        }
+        return changed;
+    }
 
     /**
      * 강의에 대한 좋아요를 토글
@@ -33,64 +66,40 @@ public class LikeRecordedLectureImpl implements LikeRecordedLecture {
      * @return 좋아요 상태 (true: 좋아요 추가, false: 좋아요 취소)
      */
     @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
     public boolean toggleLike(Long recordedId, Long userId) {
+        checkLecture(recordedId, userId);
+        boolean liked = likeEventBuffer.toggle(recordedId, userId,
+            () -> isPersisted(recordedId, userId));
+        log.info("강의 좋아요 {}: lectureId={}, userId={}", liked ? "추가" : "취소", recordedId,
+            userId);
+        return liked;
+    }
+
+    private void checkLecture(Long recordedId, Long userId) {
         if (recordedId == null || userId == null) {
             throw new IllegalArgumentException("강의 ID와 사용자 ID는 필수입니다.");
         }
-
         try {
-            // 강의 조회
-            RecordedLecture lecture = recordedLectureRepository.findById(recordedId)
-                .orElseThrow(() -> new EntityNotFoundException(
-                    "강의를 찾을 수 없습니다. id: " + recordedId));
-
-            // 사용자 조회
-            Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(
-                    "사용자를 찾을 수 없습니다. id: " + userId));
-
-            try {
-                boolean exists = lectureLikeRepository.existsByLectureAndUser(lecture, user);
-
-                if (exists) {
-                    // 좋아요 취소
-                    try {
-                        lectureLikeRepository.deleteByLectureAndUser(lecture, user);
-                        log.info("강의 좋아요 취소 완료: lectureId={}, userId={}", recordedId, userId);
-                        return false;
-                    } catch (DataAccessException e) {
-                        log.error("좋아요 취소 중 데이터베이스 오류: lectureId={}, userId={}, error={}",
-                            recordedId, userId, e.getMessage());
-                        throw new ServiceException("좋아요 취소 중 오류 발생", e);
-                    }
-                } else {
-                    // 좋아요 추가
-                    try {
-                        RecordedLectureLike like = new RecordedLectureLike();
-                        like.setLecture(lecture);
-                        like.setUser(user);
-                        lectureLikeRepository.save(like);
-                        log.info("강의 좋아요 추가 완료: lectureId={}, userId={}", recordedId, userId);
-                        return true;
-                    } catch (DataAccessException e) {
-                        log.error("좋아요 추가 중 데이터베이스 오류: lectureId={}, userId={}, error={}",
-                            recordedId, userId, e.getMessage());
-                        throw new ServiceException("좋아요 추가 중 오류 발생", e);
-                    }
-                }
-            } catch (DataAccessException e) {
-                log.error("좋아요 상태 확인 중 데이터베이스 오류: lectureId={}, userId={}, error={}",
-                    recordedId, userId, e.getMessage());
-                throw new ServiceException("좋아요 상태 확인 중 오류 발생", e);
+            if (!likeTargetCache.lectureExists(recordedId)) {
+                throw new EntityNotFoundException("강의를 찾을 수 없습니다. id: " + recordedId);
             }
-        } catch (EntityNotFoundException e) {
-            log.error("좋아요 처리 실패: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("좋아요 처리 중 예기치 않은 오류: lectureId={}, userId={}, error={}",
+            if (!likeTargetCache.userExists(userId)) {
+                throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id: " + userId);
+            }
+        } catch (DataAccessException e) {
+            log.error("강의/사용자 조회 중 데이터베이스 오류: lectureId={}, userId={}, error={}",
                 recordedId, userId, e.getMessage());
             throw new ServiceException("좋아요 처리 중 오류 발생", e);
         }
     }
+
+    private boolean isPersisted(Long recordedId, Long userId) {
+        try {
+            return recordedLectureLikeRepository.existsLike(recordedId, userId);
+        } catch (DataAccessException e) {
+            log.error("좋아요 상태 확인 중 데이터베이스 오류: lectureId={}, userId={}, error={}",
+                recordedId, userId, e.getMessage());
+            throw new ServiceException("좋아요 상태 확인 중 오류 발생", e);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 대상(강의, 사용자) 존재 여부 캐시
+ * <p>
+ * 좋아요 요청마다 실행되던 강의/사용자 존재 확인을 메모리 조회로 처리한다. 있는 id만 캐시하고, 없는 id는 매번 DB에서
+ * 확인한다. 삭제된 강의는 evictLecture로 지우며, 그 사이 들어온 좋아요는 LikeEventWriteBehind가 반영할 때 버린다.
+ * 적중률은 cache.gets{cache="recorded.like.lecture"}, cache.gets{cache="recorded.like.user"} 지표로 확인한다.
+ */
+@Component
+public class LikeTargetCache {
+
+    private static final long MAX_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    private final RecordedLectureRepository recordedLectureRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> existingLectureIds;
+    private final Cache<Long, Boolean> existingUserIds;
+
+    public LikeTargetCache(RecordedLectureRepository recordedLectureRepository,
+        UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.recordedLectureRepository = recordedLectureRepository;
+        this.userRepository = userRepository;
+        this.existingLectureIds = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+        this.existingUserIds = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, existingLectureIds, "recorded.like.lecture");
+        CaffeineCacheMetrics.monitor(meterRegistry, existingUserIds, "recorded.like.user");
+    }
+
+    public boolean lectureExists(Long lectureId) {
+        return existingLectureIds.get(lectureId,
+            id -> recordedLectureRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    public boolean userExists(Long userId) {
+        return existingUserIds.get(userId,
+            id -> userRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    public void evictLecture(Long lectureId) {
+        existingLectureIds.invalidate(lectureId);
+    }
+}
@@ -0,0 +1,76 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 좋아요한 강의 id 집합 조회
+ * <p>
+ * 요청마다 집합을 한 번 읽어 목록 전체의 myLike를 메모리에서 채운다. 저장소에 없으면 RecordedLectureLike에서 읽어
+ * 채우고, 저장소를 사용할 수 없으면 DB 결과를 그대로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedLectureCache {
+
+    private final LikedLectureStore likedLectureStore;
+    private final RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    public LikedLectureSet find(Long userId) {
+        if (userId == null) {
+            return LikedLectureSet.empty();
+        }
+
+        try {
+            LikedLectureSet cached = likedLectureStore.find(userId);
+            if (cached != null) {
+                return cached;
+            }
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("좋아요 강의 저장소 조회 실패, DB 조회로 대체: userId={}, 오류 메시지: {}", userId,
+                e.getMessage());
+            return LikedLectureSet.of(recordedLectureLikeRepository.findLectureIdsByUserId(userId));
+        }
+
+        List<Long> lectureIds = recordedLectureLikeRepository.findLectureIdsByUserId(userId);
+        try {
+            likedLectureStore.put(userId, lectureIds);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("좋아요 강의 저장소 저장 실패: userId={}, 오류 메시지: {}", userId, e.getMessage());
+        }
+        return LikedLectureSet.of(lectureIds);
+    }
+
+    /**
+     * 커밋된 좋아요 변경을 저장된 집합에 반영
+     * <p>
+     * 반영에 실패하면 집합을 지워 다음 조회에서 DB로부터 다시 채우게 한다.
+     */
+    public void changed(Long userId, Long lectureId, boolean liked) {
+        try {
+            if (liked) {
+                likedLectureStore.add(userId, lectureId);
+            } else {
+                likedLectureStore.remove(userId, lectureId);
+            }
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("좋아요 강의 저장소 갱신 실패: userId={}, lectureId={}, 오류 메시지: {}", userId,
+                lectureId, e.getMessage());
+            evictQuietly(userId);
+        }
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            likedLectureStore.evict(userId);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("좋아요 강의 저장소 삭제 실패: userId={}, 오류 메시지: {}", userId, e.getMessage());
+        }
+    }
+}
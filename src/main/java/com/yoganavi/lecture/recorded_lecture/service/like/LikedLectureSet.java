@@ -0,0 +1,44 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 사용자가 좋아요한 강의 id 집합
+ * <p>
+ * 정렬된 long 배열 하나로 들고 있어 박싱 없이 이진 탐색으로 포함 여부를 확인한다. 만든 뒤에는 바뀌지 않는다.
+ */
+public final class LikedLectureSet {
+
+    private static final LikedLectureSet EMPTY = new LikedLectureSet(new long[0]);
+
+    private final long[] lectureIds;
+
+    private LikedLectureSet(long[] lectureIds) {
+        this.lectureIds = lectureIds;
+    }
+
+    public static LikedLectureSet empty() {
+        return EMPTY;
+    }
+
+    public static LikedLectureSet of(Collection<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = lectureIds.stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .distinct()
+            .toArray();
+        return new LikedLectureSet(sorted);
+    }
+
+    public boolean contains(Long lectureId) {
+        return lectureId != null && Arrays.binarySearch(lectureIds, lectureId) >= 0;
+    }
+
+    public int size() {
+        return lectureIds.length;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.util.Collection;
+
+/**
+ * 사용자별 좋아요한 강의 id 집합 저장소
+ * <p>
+ * 저장소에 없는 사용자는 호출하는 쪽에서 RecordedLectureLike를 읽어 put으로 채운다. add/remove는 이미 저장된 집합만
+ * 갱신하고, 없는 집합을 일부 값으로 새로 만들지 않는다.
+ */
+public interface LikedLectureStore {
+
+    /**
+     * @return 저장된 집합, 저장소에 없으면 null
+     */
+    LikedLectureSet find(Long userId);
+
+    void put(Long userId, Collection<Long> lectureIds);
+
+    void add(Long userId, Long lectureId);
+
+    void remove(Long userId, Long lectureId);
+
+    void evict(Long userId);
+}
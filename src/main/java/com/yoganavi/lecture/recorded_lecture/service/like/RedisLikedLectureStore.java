@@ -0,0 +1,98 @@
+package com.yoganavi.lecture.recorded_lecture.service.like;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis SET 기반 좋아요 강의 저장소 (key: recorded:liked:{userId}, member: 강의 id)
+ * <p>
+ * 좋아요가 하나도 없는 사용자도 저장된 것으로 구분하기 위해 항상 EMPTY_MARKER를 함께 넣는다. (강의 id는 1부터 시작)
+ * 집합을 채운 직후 반영되지 못한 좋아요 변경이 있을 수 있으므로 TTL마다 DB에서 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLikedLectureStore implements LikedLectureStore {
+
+    private static final String KEY_PREFIX = "recorded:liked:";
+    private static final String EMPTY_MARKER = "0";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    // 저장된 집합이 있을 때만 추가/삭제 (ARGV[1]: SADD 또는 SREM)
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+        return redis.call(ARGV[1], KEYS[1], ARGV[2])
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public LikedLectureSet find(Long userId) {
+        Set<String> members = redisTemplate.opsForSet().members(key(userId));
+        if (members == null || members.isEmpty()) {
+            return null;
+        }
+
+        List<Long> lectureIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            if (!EMPTY_MARKER.equals(member)) {
+                lectureIds.add(Long.valueOf(member));
+            }
+        }
+        return LikedLectureSet.of(lectureIds);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void put(Long userId, Collection<Long> lectureIds) {
+        String key = key(userId);
+        String[] members = new String[lectureIds.size() + 1];
+        members[0] = EMPTY_MARKER;
+        int i = 1;
+        for (Long lectureId : lectureIds) {
+            members[i++] = String.valueOf(lectureId);
+        }
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.multi();
+                ops.delete(key);
+                ops.opsForSet().add(key, members);
+                ops.expire(key, TTL);
+                return ops.exec();
+            }
+        });
+    }
+
+    @Override
+    public void add(Long userId, Long lectureId) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(key(userId)), "SADD",
+            String.valueOf(lectureId));
+    }
+
+    @Override
+    public void remove(Long userId, Long lectureId) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(key(userId)), "SREM",
+            String.valueOf(lectureId));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -3,9 +3,11 @@ package com.yoganavi.lecture.recorded_lecture.service.recordedLectureServiceUtil
 import com.yoganavi.lecture.common.entity.RecordedLecture;
 import com.yoganavi.lecture.common.entity.RecordedLectureChapter;
 import com.yoganavi.lecture.common.entity.Users;
-import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
 import com.yoganavi.lecture.recorded_lecture.dto.ChapterDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventBuffer;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureCache;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureSet;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RecordedLectureServiceUtil {
 
-    private final RecordedLectureLikeRepository recordedLectureLikeRepository;
+    private final LikedLectureCache likedLectureCache;
+    private final LikeEventBuffer likeEventBuffer;
 
     public LectureDto convertToDto(RecordedLecture lecture) {
         if (lecture == null) {
@@ -60,14 +63,31 @@ public class RecordedLectureServiceUtil {
 
     public void getLikeInformation(LectureDto dto, RecordedLecture lecture, Users user) {
         try {
-            long likeCount = recordedLectureLikeRepository.countLikesByLectureId(lecture.getId());
-            boolean isLiked = recordedLectureLikeRepository.existsByLectureAndUser(lecture, user);
+            Boolean buffered = likeEventBuffer.find(lecture.getId(), user.getUserId());
+            boolean isLiked = buffered != null ? buffered
+                : likedLectureCache.find(user.getUserId()).contains(lecture.getId());
 
-            dto.setLikeCount(likeCount);
+            dto.setLikeCount(lecture.getLikeCount());
             dto.setMyLike(isLiked);
         } catch (DataAccessException e) {
             log.warn("좋아요 카운트 조회 실패: lectureId={}, error={}", lecture.getId(), e.getMessage());
             throw new ServiceException("좋아요 정보 조회 중 오류 발생", e);
         }
     }
+
+    /**
+     * 사용자의 좋아요 강의 집합을 한 번 읽어 목록 전체의 myLike를 채운다
+     * <p>
+     * 아직 DB에 반영되지 않은 좋아요 요청이 있으면 그 상태를 우선한다.
+     */
+    public void applyMyLike(List<LectureDto> dtos, Long userId) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        LikedLectureSet liked = likedLectureCache.find(userId);
+        for (LectureDto dto : dtos) {
+            Boolean buffered = likeEventBuffer.find(dto.getRecordedId(), userId);
+            dto.setMyLike(buffered != null ? buffered : liked.contains(dto.getRecordedId()));
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.yoganavi.lecture.recorded_lecture.service.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elasticsearch bulk API 기반 검색 색인 (index: recorded_lectures)
+ * <p>
+ * 색인은 Spring Data의 bulkIndex를, 삭제는 외부 버전을 지정해야 해서 클라이언트의 bulk 요청을 직접 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchRecordedLectureSearchIndex implements RecordedLectureSearchIndex {
+
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Override
+    public void index(List<RecordedLectureDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<IndexQuery> queries = new ArrayList<>(documents.size());
+        for (RecordedLectureDocument document : documents) {
+            queries.add(new IndexQueryBuilder()
+                .withId(String.valueOf(document.getId()))
+                .withObject(document)
+                .withVersion(document.getVersion())
+                .build());
+        }
+
+        try {
+            elasticsearchOperations.bulkIndex(queries, RecordedLectureDocument.class);
+        } catch (BulkFailureException e) {
+            // 이미 더 최신 버전이 색인된 문서만 실패했으면 성공으로 본다
+            Map<String, ?> failed = e.getFailedDocuments();
+            boolean onlyConflicts = failed.values().stream()
+                .allMatch(failure -> String.valueOf(failure).contains(VERSION_CONFLICT));
+            if (!onlyConflicts) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void delete(Map<Long, Long> versionByLectureId) {
+        if (versionByLectureId.isEmpty()) {
+            return;
+        }
+
+        String indexName = elasticsearchOperations.getIndexCoordinatesFor(
+            RecordedLectureDocument.class).getIndexName();
+        List<BulkOperation> operations = new ArrayList<>(versionByLectureId.size());
+        versionByLectureId.forEach((lectureId, version) -> operations.add(
+            BulkOperation.of(operation -> operation.delete(delete -> delete
+                .index(indexName)
+                .id(String.valueOf(lectureId))
+                .version(version)
+                .versionType(VersionType.External)))));
+
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(request -> request.operations(operations));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("검색 색인 삭제 요청 실패", e);
+        }
+        if (!response.errors()) {
+            return;
+        }
+
+        // 없는 문서나 이미 더 최신 버전이 반영된 문서는 성공으로 본다
+        List<String> failedIds = new ArrayList<>();
+        for (BulkResponseItem item : response.items()) {
+            ErrorCause error = item.error();
+            if (error != null && item.status() != 404 && !VERSION_CONFLICT.equals(error.type())) {
+                failedIds.add(item.id());
+            }
+        }
+        if (!failedIds.isEmpty()) {
+            throw new IllegalStateException("검색 색인 삭제 실패: " + failedIds);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.yoganavi.lecture.recorded_lecture.service.search;
+
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 녹화 강의 검색 색인 쓰기
+ * <p>
+ * 문서는 version(외부 버전)이 저장된 값보다 클 때만 반영된다. 같거나 작은 버전은 이미 더 최신 상태가 반영된
+ * 것이므로 실패로 보지 않는다.
+ */
+public interface RecordedLectureSearchIndex {
+
+    /**
+     * 문서를 한 번의 일괄 요청으로 색인
+     */
+    void index(List<RecordedLectureDocument> documents);
+
+    /**
+     * 문서를 한 번의 일괄 요청으로 삭제
+     * <p>
+     * 삭제도 외부 버전으로 요청하므로, 삭제보다 이전 버전의 색인 요청이 늦게 도착해도 문서가 되살아나지 않는다.
+     *
+     * @param versionByLectureId 강의 id → 문서 버전
+     */
+    void delete(Map<Long, Long> versionByLectureId);
+}
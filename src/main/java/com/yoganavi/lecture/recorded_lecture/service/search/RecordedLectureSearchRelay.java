@@ -0,0 +1,280 @@
+package com.yoganavi.lecture.recorded_lecture.service.search;
+
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검색 아웃박스를 검색 색인에 반영하는 배치 작업
+ * <p>
+ * 짧은 트랜잭션에서 아웃박스를 id 순으로 BATCH_SIZE개 선점하고, 강의별로 가장 큰 아웃박스 id를 문서 버전으로 삼아
+ * 현재 상태를 트랜잭션 밖에서 한 번에 색인한다. 없어진 강의(또는 탈퇴한 강사의 강의)는 같은 버전으로 색인에서 지운다.
+ * 색인 요청이 성공하면 선점한 아웃박스를 두 번째 짧은 트랜잭션에서 지운다. 선점한 인스턴스가 죽으면 CLAIM_TIMEOUT 뒤
+ * 다른 인스턴스가 가져간다.
+ * <p>
+ * 색인 요청이 MAX_ATTEMPTS번 실패한 배치는 실패 횟수를 기록하고 선점을 푼다. 실패한 적 있는 아웃박스는 새 배치에 섞지
+ * 않고 다음 실행부터 강의별로 따로 반영하므로, 색인되지 않는 문서 하나가 뒤의 아웃박스를 막지 않는다. 강의별 재시도도
+ * 실패하면 RETRY_DELAY부터 두 배씩 기다렸다가 다시 시도하고, MAX_RELAY_ATTEMPTS번 실패하면 parked_at을 기록해 더
+ * 읽지 않는다. (recorded.search.outbox.parked 지표, parked_at을 비우면 다시 반영된다)
+ * <p>
+ * 여러 인스턴스가 같은 강의의 변경을 나눠 가져가거나 재시도로 같은 문서가 여러 번 가도, 버전이 같거나 작은 요청은
+ * 반영되지 않으므로 마지막 변경이 남는다.
+ */
+@Slf4j
+@Component
+public class RecordedLectureSearchRelay {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 200;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+    private static final int MAX_RELAY_ATTEMPTS = 12;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final RecordedLectureSearchOutboxRepository outboxRepository;
+    private final RecordedLectureRepository recordedLectureRepository;
+    private final RecordedLectureSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter lecturesIndexed;
+    private final Counter lecturesDeleted;
+    private final Counter entriesParked;
+    // 반영하지 못한 가장 오래된 아웃박스가 기록된 뒤 지난 시간 (초)
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public RecordedLectureSearchRelay(RecordedLectureSearchOutboxRepository outboxRepository,
+        RecordedLectureRepository recordedLectureRepository,
+        RecordedLectureSearchIndex searchIndex,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.recordedLectureRepository = recordedLectureRepository;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = transactionTemplate;
+
+        this.lecturesIndexed = Counter.builder("recorded.search.relayed")
+            .description("검색 색인에 반영한 강의 수")
+            .tag("type", "index")
+            .register(meterRegistry);
+        this.lecturesDeleted = Counter.builder("recorded.search.relayed")
+            .description("검색 색인에서 지운 강의 수")
+            .tag("type", "delete")
+            .register(meterRegistry);
+        this.entriesParked = Counter.builder("recorded.search.outbox.parked")
+            .description("반영을 계속 실패해 재시도를 멈춘 아웃박스 수")
+            .register(meterRegistry);
+        Gauge.builder("recorded.search.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+            .description("검색 색인 반영 지연 시간 (초)")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${recorded-search.relay-delay-ms:1000}")
+    public synchronized void relay() {
+        int batches = 0;
+        int total = 0;
+        int relayed;
+        try {
+            total += retryFailed();
+            do {
+                relayed = relayBatch();
+                total += relayed;
+                batches++;
+            } while (relayed == BATCH_SIZE && batches < MAX_BATCHES_PER_RUN);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 반영 실패, 다음 실행에서 재시도: {}", e.getMessage());
+        }
+
+        updateLag();
+
+        if (total > 0) {
+            log.debug("검색 색인 반영 완료: 아웃박스 {}건, 배치 {}개, 지연 {}초", total, batches,
+                lagSeconds.get());
+        }
+    }
+
+    /**
+     * @return 처리한 아웃박스 수
+     */
+    private int relayBatch() {
+        List<RecordedLectureSearchOutbox> entries = transactionTemplate.execute(
+            status -> claimBatch(outboxRepository::findClaimable));
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            relay(entries);
+        } catch (RuntimeException e) {
+            releaseFailedQuietly(entries);
+            throw e;
+        }
+        return entries.size();
+    }
+
+    /**
+     * 반영에 실패했던 아웃박스를 강의별로 따로 반영
+     *
+     * @return 처리한 아웃박스 수
+     */
+    private int retryFailed() {
+        List<RecordedLectureSearchOutbox> entries = transactionTemplate.execute(
+            status -> claimBatch(outboxRepository::findRetryable));
+        Map<Long, List<RecordedLectureSearchOutbox>> entriesByLectureId = new LinkedHashMap<>();
+        for (RecordedLectureSearchOutbox entry : entries) {
+            entriesByLectureId.computeIfAbsent(entry.getLectureId(), id -> new ArrayList<>())
+                .add(entry);
+        }
+
+        int relayed = 0;
+        for (Map.Entry<Long, List<RecordedLectureSearchOutbox>> lecture
+            : entriesByLectureId.entrySet()) {
+            try {
+                relay(lecture.getValue());
+                relayed += lecture.getValue().size();
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 재시도 실패: 강의 ID {}, 오류 메시지: {}", lecture.getKey(),
+                    e.getMessage());
+                releaseFailedQuietly(lecture.getValue());
+            }
+        }
+        return relayed;
+    }
+
+    /**
+     * 선점한 아웃박스의 강의를 색인에 반영하고 아웃박스를 지운다
+     */
+    private void relay(List<RecordedLectureSearchOutbox> entries) {
+        // 강의별 마지막 변경만 반영
+        Map<Long, Long> versionByLectureId = new LinkedHashMap<>();
+        for (RecordedLectureSearchOutbox entry : entries) {
+            versionByLectureId.merge(entry.getLectureId(), entry.getId(), Math::max);
+        }
+
+        Map<Long, Long> deletedVersions = new HashMap<>(versionByLectureId);
+        List<RecordedLectureDocument> documents = transactionTemplate.execute(
+            status -> loadDocuments(versionByLectureId, deletedVersions));
+        withRetry(() -> {
+            searchIndex.index(documents);
+            searchIndex.delete(deletedVersions);
+        });
+
+        List<Long> entryIds = ids(entries);
+        transactionTemplate.executeWithoutResult(
+            status -> outboxRepository.deleteClaimed(entryIds, owner));
+        lecturesIndexed.increment(documents.size());
+        lecturesDeleted.increment(deletedVersions.size());
+    }
+
+    private List<RecordedLectureSearchOutbox> claimBatch(
+        BiFunction<LocalDateTime, Integer, List<RecordedLectureSearchOutbox>> finder) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RecordedLectureSearchOutbox> entries = finder.apply(now, BATCH_SIZE);
+        if (!entries.isEmpty()) {
+            outboxRepository.claim(ids(entries), owner, now.plus(CLAIM_TIMEOUT));
+        }
+        return entries;
+    }
+
+    /**
+     * 색인할 강의 문서를 만들고, 색인할 강의는 deletedVersions에서 뺀다
+     */
+    private List<RecordedLectureDocument> loadDocuments(Map<Long, Long> versionByLectureId,
+        Map<Long, Long> deletedVersions) {
+        List<RecordedLectureDocument> documents = new ArrayList<>();
+        for (RecordedLecture lecture : recordedLectureRepository.findAllWithUserAndChapters(
+            versionByLectureId.keySet())) {
+            if (Boolean.TRUE.equals(lecture.getUser().getIsDeleted())) {
+                continue;
+            }
+            RecordedLectureDocument document = RecordedLectureDocument.from(lecture);
+            document.setVersion(versionByLectureId.get(lecture.getId()));
+            documents.add(document);
+            deletedVersions.remove(lecture.getId());
+        }
+        return documents;
+    }
+
+    /**
+     * 반영에 실패한 아웃박스의 선점을 풀고 실패 횟수를 늘린다. 처음 실패한 배치는 바로 강의별 재시도 대상이 되고, 이후로는
+     * 실패할 때마다 두 배씩 기다린다. MAX_RELAY_ATTEMPTS번 실패하면 재시도를 멈춘다.
+     */
+    private void releaseFailedQuietly(List<RecordedLectureSearchOutbox> entries) {
+        int attempts = entries.stream()
+            .mapToInt(RecordedLectureSearchOutbox::getAttempts)
+            .max()
+            .orElse(0) + 1;
+        List<Long> entryIds = ids(entries);
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (attempts >= MAX_RELAY_ATTEMPTS) {
+                transactionTemplate.executeWithoutResult(
+                    status -> outboxRepository.park(entryIds, owner, now));
+                entriesParked.increment(entryIds.size());
+                log.error("검색 색인 반영을 {}번 실패해 재시도 중단: 아웃박스 {}", attempts, entryIds);
+                return;
+            }
+            LocalDateTime retryAt = attempts == 1 ? now
+                : now.plus(RETRY_DELAY.multipliedBy(1L << (attempts - 2)));
+            transactionTemplate.executeWithoutResult(
+                status -> outboxRepository.releaseFailed(entryIds, owner, retryAt));
+        } catch (RuntimeException e) {
+            log.warn("검색 아웃박스 선점 해제 실패, 선점 만료 후 재시도: {}", e.getMessage());
+        }
+    }
+
+    private List<Long> ids(List<RecordedLectureSearchOutbox> entries) {
+        return entries.stream()
+            .map(RecordedLectureSearchOutbox::getId)
+            .toList();
+    }
+
+    private void withRetry(Runnable write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write.run();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("검색 색인 요청 실패, 재시도 {}/{}: {}", attempt, MAX_ATTEMPTS - 1,
+                    e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void updateLag() {
+        lagSeconds.set(outboxRepository.findFirstByParkedAtIsNullOrderByIdAsc()
+            .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now())
+                .getSeconds())
+            .orElse(0L));
+    }
+}
@@ -3,9 +3,6 @@ package com.yoganavi.lecture.recorded_lecture.service.search;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import com.yoganavi.lecture.common.document.RecordedLectureDocument;
-import com.yoganavi.lecture.common.entity.RecordedLecture;
-import com.yoganavi.lecture.common.entity.Users;
-import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import com.yoganavi.lecture.recorded_lecture.service.recordedLectureServiceUtil.RecordedLectureServiceUtil;
@@ -26,7 +23,6 @@ import org.springframework.data.elasticsearch.core.query.highlight.HighlightFiel
 import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
 import org.springframework.stereotype.Service;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.transaction.annotation.Transactional;
 
 
 @Slf4j
@@ -34,13 +30,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class SearchRecordedLectureImpl implements SearchRecordedLecture {
 
-    RecordedLectureServiceUtil recordedLectureServiceUtil;
+    private final RecordedLectureServiceUtil recordedLectureServiceUtil;
     private final UserRepository userRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-    private final RecordedLectureRepository recordedLectureRepository;
 
+    /**
+     * 강의 검색
+     * <p>
+     * 검색 결과 카드는 검색 문서만으로 만들고, myLike만 사용자의 좋아요 강의 집합으로 한 번에 채운다. 결과는 검색 결과
+     * 순서를 그대로 따른다. (fame: 좋아요 수, latest: 최신순, 그 외: 검색 점수)
+     */
     @Override
-    @Transactional(readOnly = true)
     public List<LectureDto> searchLectures(Long userId, String keyword, String sort, int page,
         int size, boolean title, boolean content) {
 
@@ -50,9 +50,9 @@ public class SearchRecordedLectureImpl implements SearchRecordedLecture {
         }
 
         try {
-            Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(
-                    "사용자를 찾을 수 없습니다. id" + userId));
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id" + userId);
+            }
 
             // 검색 쿼리 생성
             Query query;
@@ -81,8 +81,7 @@ public class SearchRecordedLectureImpl implements SearchRecordedLecture {
             }
 
             // 페이징 설정
-            PageRequest pageable = PageRequest.of(page, size,
-                Sort.by(Sort.Direction.DESC, "createdDate"));
+            PageRequest pageable = PageRequest.of(page, size, searchSort(sort));
 
             // 검색 실행
             try {
@@ -103,37 +102,23 @@ public class SearchRecordedLectureImpl implements SearchRecordedLecture {
                 SearchHits<RecordedLectureDocument> searchHits =
                     elasticsearchOperations.search(searchQuery, RecordedLectureDocument.class);
 
-                List<Long> lectureIds = new ArrayList<>();
+                List<LectureDto> results = new ArrayList<>();
                 for (SearchHit<RecordedLectureDocument> hit : searchHits) {
                     if (hit.getContent() != null && hit.getContent().getId() != null) {
-                        lectureIds.add(hit.getContent().getId());
+                        results.add(hit.getContent().toLectureDto());
                     }
                 }
 
-                if (lectureIds.isEmpty()) {
-                    return new ArrayList<>();
+                if (results.isEmpty()) {
+                    return results;
                 }
 
-                List<LectureDto> results = new ArrayList<>();
-                for (RecordedLecture lecture : recordedLectureRepository.findAllById(lectureIds)) {
-                    try {
-                        LectureDto dto = recordedLectureServiceUtil.convertToDto(lecture);
-                        try {
-                            recordedLectureServiceUtil.getLikeInformation(dto, lecture, user);
-                        } catch (Exception e) {
-                            // 좋아요 정보 조회 실패 시 기본값 사용
-                            log.warn("좋아요 정보 조회 실패: lectureId={}, error={}", lecture.getId(),
-                                e.getMessage());
-                            dto.setLikeCount(0L);
-                            dto.setMyLike(false);
-                        }
-                        results.add(dto);
-                    } catch (Exception e) {
-                        log.warn("강의 정보 변환 중 오류 (계속 진행): lectureId={}, error={}",
-                            lecture.getId(), e.getMessage());
-                    }
+                try {
+                    recordedLectureServiceUtil.applyMyLike(results, userId);
+                } catch (Exception e) {
+                    // 좋아요 정보 조회 실패 시 기본값(false) 사용
+                    log.warn("좋아요 정보 조회 실패: userId={}, error={}", userId, e.getMessage());
                 }
-
                 return results;
 
             } catch (Exception e) {
@@ -148,4 +133,15 @@ public class SearchRecordedLectureImpl implements SearchRecordedLecture {
             throw new ServiceException("강의 검색 중 오류 발생", e);
         }
     }
+
+    private Sort searchSort(String sort) {
+        if ("fame".equals(sort)) {
+            return Sort.by(Sort.Order.desc("likeCount"), Sort.Order.desc("createdDate"));
+        }
+        if ("latest".equals(sort)) {
+            return Sort.by(Sort.Direction.DESC, "createdDate");
+        }
+        // 정렬을 지정하지 않으면 검색 점수 순
+        return Sort.unsorted();
+    }
 }
@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.recorded_lecture.service.show;
 
+import com.yoganavi.lecture.recorded_lecture.dto.LectureCursorPageDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import java.util.List;
 
@@ -12,4 +13,6 @@ public interface ShowRecordedLecture {
     LectureDto getLectureDetails(long recordedId, Long userId);
 
     List<LectureDto> getAllLectures(Long userId, int page, int size, String sort);
+
+    LectureCursorPageDto getFameLecturesByCursor(Long userId, String cursor, int size);
 }
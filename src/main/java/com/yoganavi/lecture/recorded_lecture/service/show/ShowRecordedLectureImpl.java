@@ -7,14 +7,21 @@ import com.yoganavi.lecture.common.repository.MyLikeLectureListRepository;
 import com.yoganavi.lecture.common.repository.RecordedLectureListRepository;
 import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.common.util.FameCursor;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureCursorPageDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
 import com.yoganavi.lecture.recorded_lecture.service.recordedLectureServiceUtil.RecordedLectureServiceUtil;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingLectureRanking;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +38,7 @@ public class ShowRecordedLectureImpl implements ShowRecordedLecture {
     private final RecordedLectureListRepository recordedLectureListRepository;
     private final RecordedLectureRepository recordedLectureRepository;
     private final AllRecordedLecturesRepository allRecordedLecturesRepository;
+    private final TrendingLectureRanking trendingLectureRanking;
 
     /**
      * 사용자가 업로드한 강의 목록을 조회
@@ -46,7 +54,9 @@ public class ShowRecordedLectureImpl implements ShowRecordedLecture {
                 .orElseThrow(() -> new EntityNotFoundException(
                     "사용자를 찾을 수 없습니다. id: " + userId));
 
-            return recordedLectureListRepository.findAllLectures(user);
+            List<LectureDto> lectureDtos = recordedLectureListRepository.findAllLectures(user);
+            recordedLectureServiceUtil.applyMyLike(lectureDtos, userId);
+            return lectureDtos;
 
         } catch (EntityNotFoundException e) {
             log.error("사용자 조회 실패: {}", e.getMessage());
@@ -149,14 +159,16 @@ public class ShowRecordedLectureImpl implements ShowRecordedLecture {
 
         try {
             // 사용자 조회
-            Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException(
-                    "사용자를 찾을 수 없습니다. id" + userId));
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id" + userId);
+            }
 
             try {
                 // 강의 목록 조회
-                List<LectureDto> lectureDtos = allRecordedLecturesRepository.findAllLectures(
-                    user, page, size, sort);
+                List<LectureDto> lectureDtos = "trending".equals(sort)
+                    ? findTrendingLectures(page, size)
+                    : allRecordedLecturesRepository.findAllLectures(page, size, sort);
+                recordedLectureServiceUtil.applyMyLike(lectureDtos, userId);
 
                 log.info("전체 강의 목록 조회 완료: userId={}, page={}, size={}, resultSize={}",
                     userId, page, size, lectureDtos.size());
@@ -176,4 +188,76 @@ public class ShowRecordedLectureImpl implements ShowRecordedLecture {
             throw new ServiceException("강의 목록을 조회하는 중 오류 발생", e);
         }
     }
+
+    /**
+     * 인기순 강의 목록 커서 조회
+     * <p>
+     * 마지막으로 받은 (likeCount, createdDate, recordedId) 다음부터 size건만 인덱스 범위로 읽는다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 값
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LectureCursorPageDto getFameLecturesByCursor(Long userId, String cursor, int size) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+        }
+
+        FameCursor after = FameCursor.decode(cursor);
+
+        try {
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자를 찾을 수 없습니다. id: " + userId);
+            }
+
+            List<LectureDto> lectureDtos = allRecordedLecturesRepository.findFameLectures(after,
+                size);
+            recordedLectureServiceUtil.applyMyLike(lectureDtos, userId);
+            log.info("인기순 강의 목록 커서 조회 완료: userId={}, size={}, resultSize={}",
+                userId, size, lectureDtos.size());
+
+            return new LectureCursorPageDto(lectureDtos, nextFameCursor(lectureDtos, size));
+        } catch (EntityNotFoundException e) {
+            log.error("사용자 조회 실패: {}", e.getMessage());
+            throw e;
+        } catch (DataAccessException e) {
+            log.error("인기순 강의 목록 조회 중 데이터베이스 오류: userId={}, error={}", userId,
+                e.getMessage());
+            throw new ServiceException("강의 목록 조회 중 데이터베이스 오류 발생", e);
+        }
+    }
+
+    /**
+     * 인기 급상승 순위에서 page번째 강의 id를 읽고 강의 정보를 한 번의 쿼리로 채운다
+     * <p>
+     * 순위 저장소를 사용할 수 없으면 인기순으로 대신 조회한다.
+     */
+    private List<LectureDto> findTrendingLectures(int page, int size) {
+        List<Long> lectureIds;
+        try {
+            lectureIds = trendingLectureRanking.findLectureIds(page, size);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("인기 급상승 순위 조회 실패, 인기순으로 조회: {}", e.getMessage());
+            return allRecordedLecturesRepository.findAllLectures(page, size, "fame");
+        }
+
+        List<LectureDto> lectureDtos = allRecordedLecturesRepository.findLecturesInOrder(
+            lectureIds);
+        if (lectureDtos.size() < lectureIds.size()) {
+            // 삭제된 강의는 순위에서도 뺀다
+            Set<Long> missingIds = new HashSet<>(lectureIds);
+            lectureDtos.forEach(dto -> missingIds.remove(dto.getRecordedId()));
+            trendingLectureRanking.remove(missingIds);
+        }
+        return lectureDtos;
+    }
+
+    private String nextFameCursor(List<LectureDto> lectures, int size) {
+        if (lectures.size() < size) {
+            return null;
+        }
+        LectureDto last = lectures.get(lectures.size() - 1);
+        return FameCursor.of(last.getLikeCount(), last.getCreatedDate(), last.getRecordedId())
+            .encode();
+    }
 }
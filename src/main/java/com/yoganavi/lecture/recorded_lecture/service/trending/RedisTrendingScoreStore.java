@@ -0,0 +1,194 @@
+package com.yoganavi.lecture.recorded_lecture.service.trending;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis ZSET 기반 인기 급상승 점수 저장소 (key: recorded:trending, member: 강의 id)
+ * <p>
+ * 기준 시각은 recorded:trending:epoch에, 점수에 더해진 좋아요 수는 recorded:trending:likes(hash)에 둔다. 점수
+ * 계산은 {@link TrendingScore}가 하고, 이 저장소는 세 키를 WATCH한 채 현재 값을 읽고 계산 결과를 MULTI/EXEC로 쓴다.
+ * 그 사이 다른 인스턴스가 점수 추가나 rescale을 하면 EXEC가 취소되므로 다시 읽어서 계산한다. 그래서 두 작업이 서로
+ * 다른 기준 시각으로 섞이지 않는다. rescale은 ZSET 전체를 다시 쓰지만 minScore 미만은 지우므로 최근 반감기 몇 번
+ * 사이에 좋아요를 받은 강의만 남는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTrendingScoreStore implements TrendingScoreStore {
+
+    private static final String KEY = "recorded:trending";
+    private static final String EPOCH_KEY = "recorded:trending:epoch";
+    private static final String LIKES_KEY = "recorded:trending:likes";
+    private static final List<String> WATCHED_KEYS = List.of(KEY, EPOCH_KEY, LIKES_KEY);
+    // 충돌이 이만큼 이어지면 이번 반영은 포기한다 (순위가 그만큼 덜 정확해질 뿐이다)
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void add(Map<Long, Long> likeDeltaByLectureId, long nowMillis, long halfLifeMillis,
+        double minScore) {
+        if (likeDeltaByLectureId.isEmpty()) {
+            return;
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (committed(tryAdd(likeDeltaByLectureId, nowMillis, halfLifeMillis, minScore))) {
+                return;
+            }
+        }
+        throw new RedisSystemException("인기 급상승 점수 갱신 충돌이 계속됩니다", null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> tryAdd(Map<Long, Long> likeDeltaByLectureId, long nowMillis,
+        long halfLifeMillis, double minScore) {
+        return redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                HashOperations<String, String, String> likesOps = ops.opsForHash();
+                ops.watch(WATCHED_KEYS);
+
+                String epoch = ops.opsForValue().get(EPOCH_KEY);
+                double weight = TrendingScore.weight(
+                    epoch == null ? nowMillis : Long.parseLong(epoch), nowMillis, halfLifeMillis);
+                List<String> members = new ArrayList<>();
+                List<TrendingScore> updated = new ArrayList<>();
+                likeDeltaByLectureId.forEach((lectureId, delta) -> {
+                    String member = String.valueOf(lectureId);
+                    members.add(member);
+                    updated.add(read(ops, likesOps, member).apply(delta, weight));
+                });
+
+                ops.multi();
+                if (epoch == null) {
+                    ops.opsForValue().set(EPOCH_KEY, String.valueOf(nowMillis));
+                }
+                for (int i = 0; i < members.size(); i++) {
+                    write(ops, likesOps, members.get(i), updated.get(i), minScore);
+                }
+                return ops.exec();
+            }
+        });
+    }
+
+    @Override
+    public List<Long> top(long offset, long count) {
+        Set<String> members = redisTemplate.opsForZSet()
+            .reverseRange(KEY, offset, offset + count - 1);
+        List<Long> lectureIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                lectureIds.add(Long.valueOf(member));
+            }
+        }
+        return lectureIds;
+    }
+
+    @Override
+    public void remove(Collection<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return;
+        }
+        Object[] members = lectureIds.stream().map(String::valueOf).toArray();
+        redisTemplate.opsForZSet().remove(KEY, members);
+        redisTemplate.opsForHash().delete(LIKES_KEY, members);
+    }
+
+    @Override
+    public long rescale(long nowMillis, long halfLifeMillis, double minScore) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long remaining = tryRescale(nowMillis, halfLifeMillis, minScore);
+            if (remaining != null) {
+                return remaining;
+            }
+        }
+        throw new RedisSystemException("인기 급상승 점수 재조정 충돌이 계속됩니다", null);
+    }
+
+    /**
+     * @return 남은 강의 수, 다른 인스턴스와 충돌해 반영하지 못했으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private Long tryRescale(long nowMillis, long halfLifeMillis, double minScore) {
+        return redisTemplate.execute(new SessionCallback<Long>() {
+            @Override
+            public <K, V> Long execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                HashOperations<String, String, String> likesOps = ops.opsForHash();
+                ops.watch(WATCHED_KEYS);
+
+                String epoch = ops.opsForValue().get(EPOCH_KEY);
+                if (epoch == null || nowMillis <= Long.parseLong(epoch)) {
+                    ops.unwatch();
+                    Long size = ops.opsForZSet().zCard(KEY);
+                    return size != null ? size : 0L;
+                }
+                double factor = TrendingScore.decayFactor(Long.parseLong(epoch), nowMillis,
+                    halfLifeMillis);
+                Set<TypedTuple<String>> entries = ops.opsForZSet().rangeWithScores(KEY, 0, -1);
+                Map<String, String> likes = likesOps.entries(LIKES_KEY);
+
+                ops.multi();
+                long remaining = 0;
+                if (entries != null) {
+                    Set<String> expired = new HashSet<>();
+                    for (TypedTuple<String> entry : entries) {
+                        TrendingScore decayed = new TrendingScore(entry.getScore(),
+                            Long.parseLong(likes.getOrDefault(entry.getValue(), "0")))
+                            .decay(factor);
+                        if (decayed.isRanked(minScore)) {
+                            ops.opsForZSet().add(KEY, entry.getValue(), decayed.getScore());
+                            remaining++;
+                        } else {
+                            expired.add(entry.getValue());
+                        }
+                    }
+                    if (!expired.isEmpty()) {
+                        ops.opsForZSet().remove(KEY, expired.toArray());
+                        likesOps.delete(LIKES_KEY, expired.toArray());
+                    }
+                }
+                ops.opsForValue().set(EPOCH_KEY, String.valueOf(nowMillis));
+                return committed(ops.exec()) ? remaining : null;
+            }
+        });
+    }
+
+    private TrendingScore read(RedisOperations<String, String> ops,
+        HashOperations<String, String, String> likesOps, String member) {
+        String likes = likesOps.get(LIKES_KEY, member);
+        Double score = ops.opsForZSet().score(KEY, member);
+        return new TrendingScore(score == null ? 0 : score,
+            likes == null ? 0 : Long.parseLong(likes));
+    }
+
+    private void write(RedisOperations<String, String> ops,
+        HashOperations<String, String, String> likesOps, String member, TrendingScore score,
+        double minScore) {
+        if (score.isRanked(minScore)) {
+            ops.opsForZSet().add(KEY, member, score.getScore());
+            likesOps.put(LIKES_KEY, member, String.valueOf(score.getLikes()));
+        } else {
+            ops.opsForZSet().remove(KEY, member);
+            likesOps.delete(LIKES_KEY, member);
+        }
+    }
+
+    // WATCH한 키가 바뀌어 트랜잭션이 취소되면 결과가 null이거나 비어 있다 (항상 명령을 하나 이상 보낸다)
+    private static boolean committed(List<Object> results) {
+        return results != null && !results.isEmpty();
+    }
+}
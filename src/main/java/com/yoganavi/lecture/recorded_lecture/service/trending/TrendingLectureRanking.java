@@ -0,0 +1,91 @@
+package com.yoganavi.lecture.recorded_lecture.service.trending;
+
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEvent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 녹화 강의 인기 급상승 순위 (최근 좋아요일수록 크게 반영, 반감기마다 절반으로 감쇠)
+ * <p>
+ * DB에 반영된 좋아요만 점수에 더한다. 점수 저장소에 반영하지 못한 좋아요는 버리며, 순위는 그만큼 덜 정확해질 뿐
+ * 좋아요 자체에는 영향이 없다.
+ */
+@Slf4j
+@Component
+public class TrendingLectureRanking {
+
+    // 좋아요 하나가 반감기 약 7번(1/128)을 지나면 순위에서 뺀다
+    private static final double MIN_SCORE = 1.0 / 128;
+
+    private final TrendingScoreStore trendingScoreStore;
+    private final long halfLifeMillis;
+
+    public TrendingLectureRanking(TrendingScoreStore trendingScoreStore,
+        @Value("${recorded-trending.half-life-hours:24}") long halfLifeHours) {
+        this.trendingScoreStore = trendingScoreStore;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+    }
+
+    /**
+     * DB에 반영된 좋아요/취소를 점수에 더한다
+     */
+    public void liked(Collection<LikeEvent> events) {
+        Map<Long, Long> deltaByLectureId = new HashMap<>();
+        for (LikeEvent event : events) {
+            deltaByLectureId.merge(event.getLectureId(), event.isLiked() ? 1L : -1L, Long::sum);
+        }
+        deltaByLectureId.values().removeIf(delta -> delta == 0);
+        if (deltaByLectureId.isEmpty()) {
+            return;
+        }
+
+        try {
+            trendingScoreStore.add(deltaByLectureId, System.currentTimeMillis(), halfLifeMillis,
+                MIN_SCORE);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("인기 급상승 점수 반영 실패: 강의 {}개, 오류 메시지: {}", deltaByLectureId.size(),
+                e.getMessage());
+        }
+    }
+
+    /**
+     * @return 점수 높은 순 강의 id (page번째 size개)
+     */
+    public List<Long> findLectureIds(int page, int size) {
+        return trendingScoreStore.top((long) page * size, size);
+    }
+
+    /**
+     * 삭제되어 조회되지 않는 강의를 순위에서 뺀다
+     */
+    public void remove(Collection<Long> lectureIds) {
+        try {
+            trendingScoreStore.remove(lectureIds);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("인기 급상승 순위에서 강의 제거 실패: lectureIds={}, 오류 메시지: {}", lectureIds,
+                e.getMessage());
+        }
+    }
+
+    /**
+     * 기준 시각을 현재로 옮겨 점수를 줄이고, 충분히 오래된 강의를 순위에서 뺀다
+     */
+    @Scheduled(fixedDelayString = "${recorded-trending.rescale-delay-ms:3600000}")
+    public void rescale() {
+        try {
+            long remaining = trendingScoreStore.rescale(System.currentTimeMillis(),
+                halfLifeMillis, MIN_SCORE);
+            log.debug("인기 급상승 점수 재조정 완료: 남은 강의 {}개", remaining);
+        } catch (RedisConnectionFailureException | RedisSystemException e) {
+            log.warn("인기 급상승 점수 재조정 실패, 다음 실행에서 재시도: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yoganavi.lecture.recorded_lecture.service.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 강의 하나의 인기 급상승 점수와 점수에 더해진 좋아요 수
+ * <p>
+ * 점수 계산은 모두 이 클래스에서 하고, 저장소는 계산 전 값을 읽고 계산 결과를 쓰는 일만 원자적으로 처리한다.
+ * 취소된 좋아요가 언제 더해졌는지는 알 수 없으므로 현재 가중치가 아니라 남은 좋아요의 평균 가중치(점수 / 좋아요 수)를
+ * 빼서, 점수가 음수가 되거나 아직 좋아요가 남은 강의가 순위에서 빠지지 않게 한다. 점수에 없는 좋아요(순위에서 빠진 뒤
+ * 취소된 좋아요)의 취소는 무시한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TrendingScore {
+
+    private final double score;
+    private final long likes;
+
+    /**
+     * @return 기준 시각 epochMillis에서 nowMillis에 받은 좋아요 하나의 점수
+     */
+    public static double weight(long epochMillis, long nowMillis, long halfLifeMillis) {
+        return Math.pow(2, (double) (nowMillis - epochMillis) / halfLifeMillis);
+    }
+
+    /**
+     * @return 기준 시각을 epochMillis에서 nowMillis로 옮길 때 점수에 곱할 값
+     */
+    public static double decayFactor(long epochMillis, long nowMillis, long halfLifeMillis) {
+        return Math.pow(2, (double) (epochMillis - nowMillis) / halfLifeMillis);
+    }
+
+    /**
+     * 좋아요 증감(취소는 음수)을 반영한 점수
+     */
+    public TrendingScore apply(long delta, double weight) {
+        if (delta > 0) {
+            return new TrendingScore(score + delta * weight, likes + delta);
+        }
+        if (likes == 0) {
+            return this;
+        }
+        long removed = Math.min(-delta, likes);
+        return new TrendingScore(score * (likes - removed) / likes, likes - removed);
+    }
+
+    public TrendingScore decay(double factor) {
+        return new TrendingScore(score * factor, likes);
+    }
+
+    /**
+     * @return 순위에 남길 점수이면 true, 아니면 저장소에서 지운다
+     */
+    public boolean isRanked(double minScore) {
+        return likes > 0 && score >= minScore;
+    }
+}
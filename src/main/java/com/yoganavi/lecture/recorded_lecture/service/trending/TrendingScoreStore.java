@@ -0,0 +1,36 @@
+package com.yoganavi.lecture.recorded_lecture.service.trending;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강의별 인기 급상승 점수 저장소
+ * <p>
+ * 좋아요 하나는 2^((좋아요 시각 - 기준 시각) / 반감기)만큼 점수를 더한다. 같은 기준 시각에서는 나중 좋아요일수록
+ * 크므로, 모든 점수를 시간에 따라 줄이지 않아도 점수 순서가 지수 감쇠한 순서와 같다. 점수가 너무 커지지 않도록
+ * rescale로 기준 시각을 옮기며 모든 점수를 한 번에 줄인다.
+ */
+public interface TrendingScoreStore {
+
+    /**
+     * 강의별 좋아요 증감(취소는 음수)을 nowMillis 시점 점수로 더한다. 취소는 남은 좋아요의 평균 가중치만큼 빼며,
+     * 좋아요가 남지 않았거나 minScore 미만이 된 강의는 제거
+     */
+    void add(Map<Long, Long> likeDeltaByLectureId, long nowMillis, long halfLifeMillis,
+        double minScore);
+
+    /**
+     * @return 점수 높은 순 강의 id
+     */
+    List<Long> top(long offset, long count);
+
+    void remove(Collection<Long> lectureIds);
+
+    /**
+     * 기준 시각을 nowMillis로 옮기고 모든 점수를 그만큼 줄인다. minScore 미만이 된 강의는 제거
+     *
+     * @return 남은 강의 수
+     */
+    long rescale(long nowMillis, long halfLifeMillis, double minScore);
+}
@@ -1,11 +1,13 @@
 package com.yoganavi.lecture.recorded_lecture.service.update;
 import com.yoganavi.lecture.common.entity.RecordedLecture;
 import com.yoganavi.lecture.common.entity.RecordedLectureChapter;
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
 import com.yoganavi.lecture.common.repository.AllRecordedLecturesRepository;
 import com.yoganavi.lecture.common.repository.MyLikeLectureListRepository;
 import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
 import com.yoganavi.lecture.common.repository.RecordedLectureListRepository;
 import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
 import com.yoganavi.lecture.recorded_lecture.dto.ChapterDto;
 import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
@@ -36,6 +38,7 @@ public class UpdateRecordedLectureImpl implements UpdateRecordedLecture{
     private final RecordedLectureRepository recordedLectureRepository;
     private final RecordedLectureLikeRepository lectureLikeRepository;
     private final AllRecordedLecturesRepository allRecordedLecturesRepository;
+    private final RecordedLectureSearchOutboxRepository searchOutboxRepository;
 
     /**
      * 강의 정보를 업데이트
@@ -71,6 +74,7 @@ public class UpdateRecordedLectureImpl implements UpdateRecordedLecture{
 
                 // 변경된 강의 정보를 데이터베이스에 저장
                 recordedLectureRepository.save(lecture);
+                searchOutboxRepository.save(RecordedLectureSearchOutbox.of(lecture.getId()));
 
                 log.info("강의 수정 성공: 강의 ID {}", lectureDto.getRecordedId());
                 return true;
@@ -0,0 +1,235 @@
+package com.yoganavi.lecture.service.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.common.util.TimeUtil;
+import com.yoganavi.lecture.live_lecture.service.enrollment.EnrollmentService;
+import com.yoganavi.lecture.live_lecture.service.schedule.ReservedSeatsBackfill;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 한 일정에 동시에 수강 신청이 몰려도 정원을 넘기지 않는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+class EnrollmentConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+    private static final int REQUESTS = 1_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeUtil timeUtil;
+
+    @Autowired
+    private ReservedSeatsBackfill reservedSeatsBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private HomeTimelineService homeTimelineService;
+
+    private ExecutorService executor;
+    private Long liveId;
+    private LocalDate startDate;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<Users> users = new ArrayList<>();
+        for (long userId = 1; userId <= REQUESTS + 1; userId++) {
+            Users user = new Users();
+            user.setUserId(userId);
+            user.setNickname("사용자" + userId);
+            user.setIsActive(true);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        // 매일 진행, 첫 주만 일정 저장 (그 이후 일정은 신청 시 생성)
+        startDate = LocalDate.now().plusDays(1);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle("테스트 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(CAPACITY);
+        lecture.setUser(users.get(0));
+        lecture.setRegDate(LocalDateTime.now());
+        lecture.setIsOnAir(false);
+        lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusWeeks(20),
+            LocalTime.of(10, 0), LocalTime.of(11, 0), Arrays.asList(DayOfWeek.values())));
+        lecture.materializeUntil(startDate.plusWeeks(1), LocalDateTime.now());
+        liveId = liveLecturesRepository.save(lecture).getLiveId();
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * requests개의 신청을 동시에 실행하고 성공한 수를 반환
+     *
+     * @param userIdOf 요청 순번 → 사용자 ID
+     */
+    private int enrollConcurrently(LocalDate date, int requests, LongFunction<Long> userIdOf)
+        throws InterruptedException {
+        Long epochDate = timeUtil.toEpochMilli(date.atStartOfDay());
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            Long userId = userIdOf.apply(i);
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    enrollmentService.enroll(userId, liveId, epochDate);
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    // 정원 초과, 중복 신청
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        assertThat(unexpected.get()).isZero();
+        return succeeded.get();
+    }
+
+    private LectureSchedule scheduleOn(LocalDate date) {
+        List<LectureSchedule> schedules = lectureScheduleRepository
+            .findByLiveIdAndStartTimeBetween(liveId, date.atStartOfDay(),
+                date.plusDays(1).atStartOfDay());
+        assertThat(schedules).hasSize(1);
+        return schedules.get(0);
+    }
+
+    @Test
+    void 동시_신청_1000건에도_정원_초과_없음() throws InterruptedException {
+        LocalDate date = startDate.plusDays(2);
+
+        int succeeded = enrollConcurrently(date, REQUESTS, i -> i + 2);
+
+        LectureSchedule schedule = scheduleOn(date);
+        assertThat(succeeded).isEqualTo(CAPACITY);
+        assertThat(myLiveLectureRepository.countByLectureSchedule(schedule)).isEqualTo(CAPACITY);
+        assertThat(schedule.getReservedSeats()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void 저장되지_않은_일정도_한_번만_생성하고_정원_유지() throws InterruptedException {
+        LocalDate date = startDate.plusWeeks(10);
+
+        int succeeded = enrollConcurrently(date, REQUESTS / 4, i -> i + 2);
+
+        LectureSchedule schedule = scheduleOn(date);
+        assertThat(succeeded).isEqualTo(CAPACITY);
+        assertThat(schedule.getReservedSeats()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void 같은_사용자의_동시_신청은_한_건만_성공() throws InterruptedException {
+        LocalDate date = startDate.plusDays(3);
+
+        int succeeded = enrollConcurrently(date, 50, i -> 2L);
+
+        LectureSchedule schedule = scheduleOn(date);
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(schedule.getReservedSeats()).isEqualTo(1);
+    }
+
+    @Test
+    void 수강_취소하면_좌석_반환() throws InterruptedException {
+        LocalDate date = startDate.plusDays(4);
+        enrollConcurrently(date, CAPACITY, i -> i + 2);
+        Long epochDate = timeUtil.toEpochMilli(date.atStartOfDay());
+
+        assertThatThrownBy(() -> enrollmentService.enroll(100L, liveId, epochDate))
+            .isInstanceOf(IllegalStateException.class);
+
+        enrollmentService.unenroll(2L, liveId, epochDate);
+        enrollmentService.enroll(100L, liveId, epochDate);
+
+        assertThat(scheduleOn(date).getReservedSeats()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void 예약_좌석_수가_비어_있던_일정도_정원_유지() throws InterruptedException {
+        // given: reserved_seats 컬럼 추가 전에 수강생이 가득 찬 일정
+        LocalDate date = startDate.plusDays(5);
+        enrollConcurrently(date, CAPACITY, i -> i + 2);
+        jdbcTemplate.update("UPDATE lecture_schedules SET reserved_seats = 0");
+
+        // when
+        reservedSeatsBackfill.backfill();
+
+        // then
+        assertThat(scheduleOn(date).getReservedSeats()).isEqualTo(CAPACITY);
+        Long epochDate = timeUtil.toEpochMilli(date.atStartOfDay());
+        assertThatThrownBy(() -> enrollmentService.enroll(100L, liveId, epochDate))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 본인_강의는_신청_불가() {
+        Long epochDate = timeUtil.toEpochMilli(startDate.atStartOfDay());
+
+        assertThatThrownBy(() -> enrollmentService.enroll(1L, liveId, epochDate))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.yoganavi.lecture.service.history;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
+import com.yoganavi.lecture.live_lecture.service.history.AttendanceHistorySweeper;
 import com.yoganavi.lecture.live_lecture.service.history.HistoryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +11,10 @@ import com.yoganavi.lecture.common.entity.LectureSchedule;
 import com.yoganavi.lecture.common.entity.LiveLectures;
 import com.yoganavi.lecture.common.entity.MyLiveLecture;
 import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.live_lecture.dto.HistoryCursorPageDto;
 import com.yoganavi.lecture.live_lecture.dto.LectureHistoryDto;
+import com.yoganavi.lecture.common.repository.AttendanceHistoryRepository;
+import com.yoganavi.lecture.common.repository.JobWatermarkRepository;
 import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
 import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
 import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
@@ -29,7 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "scheduling.enabled=false")
 class HistoryServiceIntegrationTest {
 
     private static final Logger log = LoggerFactory.getLogger(HistoryServiceIntegrationTest.class);
@@ -49,6 +53,15 @@ class HistoryServiceIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AttendanceHistoryRepository attendanceHistoryRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private AttendanceHistorySweeper attendanceHistorySweeper;
+
     private static final LocalTime LECTURE_START_TIME = LocalTime.of(14, 0);
     private static final LocalTime LECTURE_END_TIME = LocalTime.of(16, 0);
     private static final LocalDate START_DATE = LocalDate.of(2024, 12, 1);
@@ -59,6 +72,8 @@ class HistoryServiceIntegrationTest {
     void setUp() {
         log.info("테스트 데이터 초기화 시작");
 
+        attendanceHistoryRepository.deleteAll();
+        jobWatermarkRepository.deleteAll();
         myLiveLectureRepository.deleteAll();
         lectureScheduleRepository.deleteAll();
         liveLecturesRepository.deleteAll();
@@ -82,6 +97,9 @@ class HistoryServiceIntegrationTest {
             myLecture.setCompleted(true);  // 수강 완료로 설정
             myLiveLectureRepository.save(myLecture);
         });
+
+        // 종료된 일정을 수강 내역에 기록
+        attendanceHistorySweeper.sweep();
     }
 
     private Users createUser(Long userId, String nickname) {
@@ -201,6 +219,29 @@ class HistoryServiceIntegrationTest {
         }
     }
 
+    @Test
+    void 커서_페이지네이션은_offset_조회와_같은_순서() {
+        // given
+        List<Long> expected = historyService.getHistory(2L, 0, 20).stream()
+            .map(LectureHistoryDto::getStartTime)
+            .toList();
+
+        // when (월 단위 구간을 넘어가며 nextCursor가 없을 때까지 조회)
+        List<Long> actual = new ArrayList<>();
+        String cursor = "";
+        int requests = 0;
+        do {
+            HistoryCursorPageDto page = historyService.getHistoryByCursor(2L, cursor, 4);
+            assertThat(page.getLectures().size()).isLessThanOrEqualTo(4);
+            page.getLectures().forEach(lecture -> actual.add(lecture.getStartTime()));
+            cursor = page.getNextCursor();
+            requests++;
+        } while (cursor != null && requests < 100);
+
+        // then
+        assertThat(cursor).isNull();
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
 
     @Test
     void 존재하지_않는_사용자_조회_시_예외_발생() {
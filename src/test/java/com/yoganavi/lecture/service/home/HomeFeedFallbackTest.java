@@ -0,0 +1,172 @@
+package com.yoganavi.lecture.service.home;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.HomeFeedRepository;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.common.util.SortedMerge;
+import com.yoganavi.lecture.live_lecture.dto.HomeCursorPageDto;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import com.yoganavi.lecture.live_lecture.service.home.HomeService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+/**
+ * Redis 장애 시 페이지 번호 조회가 커서로 이어 읽어도 한 번에 읽던 결과와 같은지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+class HomeFeedFallbackTest {
+
+    private static final Long TEACHER_ID = 1L;
+    private static final int PAGE_SIZE = 30;
+
+    private static final Comparator<HomeResponseDto> HOME_ORDER = Comparator
+        .comparing(HomeResponseDto::getScheduleStartTime)
+        .thenComparing(HomeResponseDto::getScheduleId);
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private HomeFeedRepository homeFeedRepository;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private HomeTimelineService homeTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users teacher = createUser(TEACHER_ID, "김강사");
+        Users otherTeacher = createUser(3L, "박강사");
+        userRepository.saveAll(Arrays.asList(teacher, otherTeacher));
+
+        // 자신의 강의도 수강 중이라 강의 일정과 수강 일정이 겹친다
+        LiveLectures teaching = createLecture(teacher, 120);
+        LiveLectures other = createLecture(otherTeacher, 60);
+        enroll(teacher, teaching.getSchedules().get(0));
+        enroll(teacher, other.getSchedules().get(0));
+
+        when(homeTimelineService.getHomeData(anyLong(), any(), anyInt(), anyInt()))
+            .thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return user;
+    }
+
+    /**
+     * 내일부터 days일 동안 매일 같은 시각에 진행되는 강의
+     */
+    private LiveLectures createLecture(Users teacher, int days) {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle(teacher.getNickname() + " 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(10);
+        lecture.setUser(teacher);
+        lecture.setRegDate(LocalDateTime.now());
+        lecture.setIsOnAir(false);
+        lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusDays(days - 1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0), Arrays.asList(DayOfWeek.values())));
+        lecture.materializeUntil(startDate.plusDays(days - 1), LocalDateTime.now());
+        return liveLecturesRepository.save(lecture);
+    }
+
+    private void enroll(Users user, LectureSchedule schedule) {
+        MyLiveLecture enrollment = new MyLiveLecture();
+        enrollment.setUser(user);
+        enrollment.setLectureSchedule(schedule);
+        enrollment.setCompleted(false);
+        myLiveLectureRepository.save(enrollment);
+    }
+
+    /**
+     * 이전 방식: 두 목록에서 offset + size건씩 한 번에 읽어 병합
+     */
+    private List<Long> pageAtOnce(int page) {
+        LocalDateTime now = LocalDateTime.now();
+        int offset = page * PAGE_SIZE;
+        List<HomeResponseDto> teaching = homeFeedRepository.findTeachingSchedules(TEACHER_ID,
+            now, null, offset + PAGE_SIZE);
+        List<HomeResponseDto> enrolled = homeFeedRepository.findEnrolledSchedules(TEACHER_ID,
+            now, null, offset + PAGE_SIZE);
+        return scheduleIds(SortedMerge.merge(List.of(teaching, enrolled), HOME_ORDER, offset,
+            PAGE_SIZE));
+    }
+
+    private List<Long> scheduleIds(List<HomeResponseDto> rows) {
+        return rows.stream().map(HomeResponseDto::getScheduleId).toList();
+    }
+
+    @Test
+    void 깊은_페이지도_한_번에_읽던_결과와_같음() {
+        List<Long> all = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<Long> expected = pageAtOnce(page);
+            List<Long> actual = scheduleIds(homeService.getHomeData(TEACHER_ID, page, PAGE_SIZE));
+
+            assertThat(actual).isEqualTo(expected);
+            if (actual.isEmpty()) {
+                break;
+            }
+            all.addAll(actual);
+        }
+
+        // 겹치는 일정은 한 번만 나오고, 커서 조회로 끝까지 읽은 결과와 같다
+        assertThat(all).hasSize(180).doesNotHaveDuplicates();
+        List<Long> byCursor = new ArrayList<>();
+        String cursor = null;
+        do {
+            HomeCursorPageDto page = homeService.getHomeDataByCursor(TEACHER_ID, cursor,
+                PAGE_SIZE);
+            byCursor.addAll(scheduleIds(page.getLectures()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(all).isEqualTo(byCursor);
+    }
+}
@@ -0,0 +1,164 @@
+package com.yoganavi.lecture.service.home;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.dto.HomeCursorPageDto;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import com.yoganavi.lecture.live_lecture.service.home.HomeService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import com.yoganavi.lecture.service.timeline.InMemoryHomeTimelineConfig;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 홈 화면 offset 페이지네이션과 커서 페이지네이션 비교 (스케줄 10만 건)
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Import(InMemoryHomeTimelineConfig.class)
+class HomeFeedPaginationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(HomeFeedPaginationBenchmark.class);
+
+    private static final int LECTURE_COUNT = 100;
+    private static final int SCHEDULES_PER_LECTURE = 1_000;
+    private static final int PAGE_SIZE = 30;
+    private static final int ITERATIONS = 20;
+    private static final Long TEACHER_ID = 1L;
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private HomeTimelineService homeTimelineService;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAllInBatch();
+        lectureScheduleRepository.deleteAllInBatch();
+        liveLecturesRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        Users teacher = new Users();
+        teacher.setUserId(TEACHER_ID);
+        teacher.setNickname("김강사");
+        teacher.setIsActive(true);
+        userRepository.save(teacher);
+
+        List<LiveLectures> lectures = new ArrayList<>();
+        for (int i = 0; i < LECTURE_COUNT; i++) {
+            LiveLectures lecture = new LiveLectures();
+            lecture.setLiveTitle("벤치마크 강의 " + i);
+            lecture.setLiveContent("벤치마크");
+            lecture.setMaxLiveNum(10);
+            lecture.setRegDate(LocalDateTime.now());
+            lecture.setUser(teacher);
+            lecture.setIsOnAir(false);
+            lectures.add(lecture);
+        }
+        liveLecturesRepository.saveAll(lectures);
+
+        // 스케줄은 JDBC 배치로 직접 적재
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        long scheduleId = 1;
+        List<Object[]> rows = new ArrayList<>();
+        for (LiveLectures lecture : lectures) {
+            for (int day = 0; day < SCHEDULES_PER_LECTURE; day++) {
+                LocalDateTime start = firstDay.plusDays(day).atTime(9, 0)
+                    .plusMinutes(lecture.getLiveId() % 600);
+                rows.add(new Object[]{scheduleId++, lecture.getLiveId(),
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1))});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO lecture_schedules (schedule_id, live_id, start_time, end_time) "
+                + "VALUES (?, ?, ?, ?)", rows);
+        log.info("시드 데이터 적재 완료: 강의 {}개, 스케줄 {}건", LECTURE_COUNT, rows.size());
+
+        // 저장소에 직접 적재했으므로 타임라인은 재구성
+        homeTimelineService.rebuild(TEACHER_ID);
+    }
+
+    @Test
+    void offset_커서_페이지네이션_비교() {
+        for (int page : Arrays.asList(0, 50, 500)) {
+            String cursor = cursorForPage(page);
+
+            List<HomeResponseDto> offsetPage = homeService.getHomeData(TEACHER_ID, page, PAGE_SIZE);
+            HomeCursorPageDto cursorPage = homeService.getHomeDataByCursor(TEACHER_ID, cursor,
+                PAGE_SIZE);
+            assertThat(cursorPage.getLectures())
+                .extracting(HomeResponseDto::getScheduleId)
+                .containsExactlyElementsOf(
+                    offsetPage.stream().map(HomeResponseDto::getScheduleId).toList());
+
+            long offsetNanos = median(
+                () -> homeService.getHomeData(TEACHER_ID, page, PAGE_SIZE));
+            long cursorNanos = median(
+                () -> homeService.getHomeDataByCursor(TEACHER_ID, cursor, PAGE_SIZE));
+
+            log.info("page {}: offset {} us, cursor {} us", page, offsetNanos / 1_000,
+                cursorNanos / 1_000);
+        }
+    }
+
+    private String cursorForPage(int page) {
+        String cursor = "";
+        for (int i = 0; i < page; i++) {
+            cursor = homeService.getHomeDataByCursor(TEACHER_ID, cursor, PAGE_SIZE)
+                .getNextCursor();
+        }
+        return cursor;
+    }
+
+    private long median(Supplier<?> call) {
+        for (int i = 0; i < 3; i++) {
+            call.get();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[ITERATIONS / 2];
+    }
+}
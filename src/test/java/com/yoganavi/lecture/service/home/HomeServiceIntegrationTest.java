@@ -4,6 +4,8 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 import com.yoganavi.lecture.live_lecture.service.home.HomeService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import com.yoganavi.lecture.service.timeline.InMemoryHomeTimelineConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.yoganavi.lecture.common.entity.LectureSchedule;
@@ -28,8 +30,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 
 @SpringBootTest
+@Import(InMemoryHomeTimelineConfig.class)
 class HomeServiceIntegrationTest {
 
     private static final Logger log = LoggerFactory.getLogger(HomeServiceIntegrationTest.class);
@@ -37,6 +41,9 @@ class HomeServiceIntegrationTest {
     @Autowired
     private HomeService homeService;
 
+    @Autowired
+    private HomeTimelineService homeTimelineService;
+
     @Autowired
     private LiveLecturesRepository liveLecturesRepository;
 
@@ -88,6 +95,10 @@ class HomeServiceIntegrationTest {
         log.info("수강신청 완료: 학생 ID={}, 스케줄 ID={}", student.getUserId(),
             schedules.get(0).getScheduleId());
 
+        // 저장소에 직접 적재했으므로 타임라인은 재구성
+        homeTimelineService.rebuild(teacher.getUserId());
+        homeTimelineService.rebuild(student.getUserId());
+
         // 첫 번째 스케줄 정보
         LectureSchedule firstSchedule = schedules.get(0);
         log.info("첫 번째 강의 일정: 시작={}, 종료={}",
@@ -0,0 +1,151 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.EnrollmentBulkRepository;
+import com.yoganavi.lecture.common.repository.EnrollmentMoveResult;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수강 정보 일괄 이동이 중복 수강을 건너뛰고, 정원을 넘으면 아무것도 바꾸지 않는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+class EnrollmentMoveTest {
+
+    @Autowired
+    private EnrollmentBulkRepository enrollmentBulkRepository;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Users teacher;
+    private List<Users> students;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        teacher = createUser(1L, "김강사");
+        students = Arrays.asList(createUser(2L, "이학생"), createUser(3L, "박학생"),
+            createUser(4L, "최학생"));
+        userRepository.save(teacher);
+        userRepository.saveAll(students);
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return user;
+    }
+
+    /**
+     * 이틀 동안 진행되는 강의 생성 (둘째 날 일정에는 좌석 하나가 이미 예약되어 있다)
+     */
+    private LiveLectures createLecture(int maxLiveNum) {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle("테스트 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(maxLiveNum);
+        lecture.setUser(teacher);
+        lecture.setRegDate(LocalDateTime.now());
+        lecture.setIsOnAir(false);
+        lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusDays(1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0), Arrays.asList(DayOfWeek.values())));
+        lecture.materializeUntil(startDate.plusDays(1), LocalDateTime.now());
+        // reserved_seats는 저장 후 UPDATE로 바뀌지 않으므로 저장 전에 채운다
+        lecture.getSchedules().get(1).setReservedSeats(1);
+        return liveLecturesRepository.save(lecture);
+    }
+
+    private void enroll(Users student, LectureSchedule schedule) {
+        MyLiveLecture enrollment = new MyLiveLecture();
+        enrollment.setUser(student);
+        enrollment.setLectureSchedule(schedule);
+        myLiveLectureRepository.save(enrollment);
+    }
+
+    @Test
+    void 중복_수강은_옮기지_않고_남은_수강생만_이동() {
+        // given: 정원 3명, 대상 일정에 이미 2명 수강 중 (1명은 미리 예약된 좌석)
+        LiveLectures lecture = createLecture(3);
+        LectureSchedule source = lecture.getSchedules().get(0);
+        LectureSchedule target = lecture.getSchedules().get(1);
+        enroll(students.get(0), target);
+        enroll(students.get(0), source);
+        enroll(students.get(1), source);
+
+        // when
+        EnrollmentMoveResult result = transactionTemplate.execute(status ->
+            enrollmentBulkRepository.moveEnrollments(
+                Map.of(source.getScheduleId(), target.getScheduleId())));
+
+        // then
+        assertThat(result.getMoved()).isEqualTo(1);
+        assertThat(result.getDuplicated()).isEqualTo(1);
+        assertThat(myLiveLectureRepository.existsByUserIdAndScheduleId(
+            students.get(1).getUserId(), target.getScheduleId())).isTrue();
+        assertThat(lectureScheduleRepository.findById(target.getScheduleId()).orElseThrow()
+            .getReservedSeats()).isEqualTo(2);
+    }
+
+    @Test
+    void 좌석이_부족하면_아무도_옮기지_않음() {
+        // given: 정원 2명, 대상 일정에 미리 예약된 좌석 1개, 옮길 수강생 2명
+        LiveLectures lecture = createLecture(2);
+        LectureSchedule source = lecture.getSchedules().get(0);
+        LectureSchedule target = lecture.getSchedules().get(1);
+        enroll(students.get(0), source);
+        enroll(students.get(1), source);
+
+        // when & then
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+            enrollmentBulkRepository.moveEnrollments(
+                Map.of(source.getScheduleId(), target.getScheduleId()))))
+            .isInstanceOf(IllegalStateException.class);
+        for (Users student : students.subList(0, 2)) {
+            assertThat(myLiveLectureRepository.existsByUserIdAndScheduleId(
+                student.getUserId(), source.getScheduleId())).isTrue();
+        }
+        assertThat(lectureScheduleRepository.findById(target.getScheduleId()).orElseThrow()
+            .getReservedSeats()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.JobWatermarkRepository;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.service.lecture.LectureCompletionSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "scheduling.enabled=false")
+class LectureCompletionSweeperTest {
+
+    @Autowired
+    private LectureCompletionSweeper lectureCompletionSweeper;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long liveId;
+    private Long endedEnrollmentId;
+    private Long upcomingEnrollmentId;
+
+    @BeforeEach
+    void setUp() {
+        jobWatermarkRepository.deleteAll();
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Users teacher = createUser(1L, "김강사");
+        Users student = createUser(2L, "이학생");
+        userRepository.saveAll(Arrays.asList(teacher, student));
+
+        LocalDateTime now = LocalDateTime.now();
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle("테스트 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(10);
+        lecture.setUser(teacher);
+        lecture.setRegDate(now);
+        lecture.setIsOnAir(true);   // 종료 처리가 되지 않고 남아있는 방송 상태
+
+        LectureSchedule ended = createSchedule(lecture, now.toLocalDate().minusDays(1));
+        LectureSchedule upcoming = createSchedule(lecture, now.toLocalDate().plusDays(1));
+        lecture.setSchedules(new ArrayList<>(List.of(ended, upcoming)));
+        liveId = liveLecturesRepository.save(lecture).getLiveId();
+
+        endedEnrollmentId = enroll(student, ended);
+        upcomingEnrollmentId = enroll(student, upcoming);
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private LectureSchedule createSchedule(LiveLectures lecture, LocalDate date) {
+        LectureSchedule schedule = LectureSchedule.createSchedule(date, LocalTime.of(10, 0),
+            LocalTime.of(11, 0));
+        schedule.setLecture(lecture);
+        return schedule;
+    }
+
+    private Long enroll(Users student, LectureSchedule schedule) {
+        MyLiveLecture myLecture = new MyLiveLecture();
+        myLecture.setUser(student);
+        myLecture.setLectureSchedule(schedule);
+        myLecture.setCompleted(false);
+        return myLiveLectureRepository.save(myLecture).getMyListId();
+    }
+
+    private double processed(String type) {
+        return meterRegistry.counter("lecture.completion.processed", "type", type).count();
+    }
+
+    @Test
+    void 종료된_일정만_수강_완료_처리() {
+        double before = processed("enrollment");
+
+        lectureCompletionSweeper.sweep();
+
+        assertThat(myLiveLectureRepository.findById(endedEnrollmentId).orElseThrow()
+            .isCompleted()).isTrue();
+        assertThat(myLiveLectureRepository.findById(upcomingEnrollmentId).orElseThrow()
+            .isCompleted()).isFalse();
+        assertThat(processed("enrollment") - before).isEqualTo(1);
+    }
+
+    @Test
+    void 진행_중인_일정이_없으면_방송_상태_해제() {
+        lectureCompletionSweeper.sweep();
+
+        assertThat(liveLecturesRepository.findById(liveId).orElseThrow().getIsOnAir()).isFalse();
+    }
+
+    @Test
+    void 워터마크_이후_일정만_처리() {
+        lectureCompletionSweeper.sweep();
+        double before = processed("schedule");
+
+        // 새로 종료된 일정이 없으면 아무것도 처리하지 않는다
+        lectureCompletionSweeper.sweep();
+
+        assertThat(processed("schedule") - before).isZero();
+        assertThat(meterRegistry.get("lecture.completion.lag.seconds").gauge().value()).isZero();
+    }
+
+    @Test
+    void 첫_실행이_동시에_시작되어도_워터마크는_하나() {
+        CompletableFuture<Void> first = CompletableFuture.runAsync(lectureCompletionSweeper::sweep);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(lectureCompletionSweeper::sweep);
+
+        CompletableFuture.allOf(first, second).join();
+
+        assertThat(jobWatermarkRepository.count()).isEqualTo(1);
+        assertThat(myLiveLectureRepository.findById(endedEnrollmentId).orElseThrow()
+            .isCompleted()).isTrue();
+    }
+}
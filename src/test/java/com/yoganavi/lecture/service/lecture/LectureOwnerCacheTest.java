@@ -0,0 +1,64 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.live_lecture.service.lecture.LectureOwnerCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LectureOwnerCacheTest {
+
+    private LiveLecturesRepository liveLecturesRepository;
+    private MeterRegistry meterRegistry;
+    private LectureOwnerCache lectureOwnerCache;
+
+    @BeforeEach
+    void setUp() {
+        liveLecturesRepository = mock(LiveLecturesRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        lectureOwnerCache = new LectureOwnerCache(liveLecturesRepository, meterRegistry);
+
+        when(liveLecturesRepository.findOwnerIdByLiveId(1L)).thenReturn(Optional.of(10L));
+        when(liveLecturesRepository.findOwnerIdByLiveId(2L)).thenReturn(Optional.empty());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "lecture.owner")
+            .tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void 두_번째_조회부터_캐시_사용() {
+        assertThat(lectureOwnerCache.getOwnerId(1L)).contains(10L);
+        assertThat(lectureOwnerCache.getOwnerId(1L)).contains(10L);
+
+        verify(liveLecturesRepository, times(1)).findOwnerIdByLiveId(1L);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제되면_다시_조회() {
+        lectureOwnerCache.getOwnerId(1L);
+        lectureOwnerCache.evict(1L);
+        lectureOwnerCache.getOwnerId(1L);
+
+        verify(liveLecturesRepository, times(2)).findOwnerIdByLiveId(1L);
+    }
+
+    @Test
+    void 없는_강의는_캐시하지_않음() {
+        assertThat(lectureOwnerCache.getOwnerId(2L)).isEmpty();
+        assertThat(lectureOwnerCache.getOwnerId(2L)).isEmpty();
+
+        verify(liveLecturesRepository, times(2)).findOwnerIdByLiveId(2L);
+    }
+}
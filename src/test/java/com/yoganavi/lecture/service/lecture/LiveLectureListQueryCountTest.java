@@ -0,0 +1,155 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.dto.LiveLectureResponseDto;
+import com.yoganavi.lecture.live_lecture.service.lecture.LiveLectureService;
+import com.yoganavi.lecture.live_lecture.service.schedule.LectureSummaryBackfill;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 강사의 강의 목록 조회가 강의 수와 관계없이 쿼리 한 번으로 끝나는지 확인
+ */
+@SpringBootTest(properties = {
+    "scheduling.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LiveLectureListQueryCountTest {
+
+    @Autowired
+    private LiveLectureService liveLectureService;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LectureSummaryBackfill lectureSummaryBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Users teacher;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        teacher = new Users();
+        teacher.setUserId(1L);
+        teacher.setNickname("김강사");
+        teacher.setIsActive(true);
+        userRepository.save(teacher);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void createLectures(int count) {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        for (int i = 0; i < count; i++) {
+            LiveLectures lecture = new LiveLectures();
+            lecture.setLiveTitle("테스트 강의 " + i);
+            lecture.setLiveContent("테스트 강의입니다");
+            lecture.setMaxLiveNum(10);
+            lecture.setUser(teacher);
+            lecture.setRegDate(LocalDateTime.now());
+            lecture.setIsOnAir(false);
+            lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusWeeks(4),
+                LocalTime.of(10, 0), LocalTime.of(11, 0),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY)));
+            lecture.materializeUntil(startDate.plusWeeks(4), LocalDateTime.now());
+            liveLecturesRepository.save(lecture);
+        }
+    }
+
+    private long countStatements() {
+        statistics.clear();
+        liveLectureService.getLiveLecturesByUserId(teacher.getUserId());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void 강의_수와_관계없이_쿼리_한_번() {
+        createLectures(3);
+        assertThat(countStatements()).isEqualTo(1);
+
+        createLectures(20);
+        assertThat(countStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void 일정_요약_정보_조회() {
+        createLectures(1);
+
+        List<LiveLectureResponseDto> lectures = liveLectureService.getLiveLecturesByUserId(
+            teacher.getUserId());
+
+        assertThat(lectures).hasSize(1);
+        LiveLectureResponseDto lecture = lectures.get(0);
+        assertThat(lecture.getNickname()).isEqualTo("김강사");
+        assertThat(lecture.getAvailableDay()).isEqualTo("MON,WED");
+        assertThat(lecture.getStartDate()).isNotNull();
+        assertThat(lecture.getEndDate()).isGreaterThan(lecture.getStartDate());
+    }
+
+    @Test
+    void 요약_컬럼이_비어_있는_강의는_일정으로_계산() {
+        // given: 요약 컬럼이 추가되기 전에 만들어진 강의
+        createLectures(1);
+        LiveLectureResponseDto summarized = liveLectureService.getLiveLecturesByUserId(
+            teacher.getUserId()).get(0);
+        jdbcTemplate.update("UPDATE live_lectures SET first_start_time = NULL, "
+            + "last_end_time = NULL, daily_start_time = NULL, daily_end_time = NULL, "
+            + "available_day_mask = NULL");
+
+        // when
+        LiveLectureResponseDto lecture = liveLectureService.getLiveLecturesByUserId(
+            teacher.getUserId()).get(0);
+
+        // then: 요약 컬럼을 읽은 결과와 같고, 배치 작업이 컬럼을 채운다
+        assertThat(lecture.getAvailableDay()).isEqualTo("MON,WED");
+        assertThat(lecture.getStartDate()).isEqualTo(summarized.getStartDate());
+        assertThat(lecture.getEndDate()).isEqualTo(summarized.getEndDate());
+        assertThat(lecture.getStartTime()).isEqualTo(summarized.getStartTime());
+        assertThat(lecture.getEndTime()).isEqualTo(summarized.getEndTime());
+
+        lectureSummaryBackfill.backfill();
+        assertThat(liveLecturesRepository.findAll()).allSatisfy(
+            saved -> assertThat(saved.getAvailableDayMask()).isNotNull());
+        assertThat(countStatements()).isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.yoganavi.lecture.service.lecture;
 
+import com.yoganavi.lecture.live_lecture.service.lecture.LectureOwnerCache;
 import com.yoganavi.lecture.live_lecture.service.lecture.LiveLectureServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,20 +18,29 @@ import static org.mockito.Mockito.*;
 
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
 import com.yoganavi.lecture.common.entity.LectureSchedule;
 import com.yoganavi.lecture.common.entity.LiveLectures;
 import com.yoganavi.lecture.common.entity.MyLiveLecture;
 import com.yoganavi.lecture.common.entity.Users;
 
+import com.yoganavi.lecture.common.repository.EnrollmentBulkRepository;
+import com.yoganavi.lecture.common.repository.EnrollmentMoveResult;
+import com.yoganavi.lecture.common.repository.LiveLectureListRepository;
 import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
 import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
 import com.yoganavi.lecture.common.repository.UserRepository;
 
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureInfoDto;
 import com.yoganavi.lecture.live_lecture.dto.LiveLectureResponseDto;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
 import com.yoganavi.lecture.common.util.TimeUtil;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.*;
 
@@ -40,11 +50,21 @@ class LiveLectureServiceTest {
     @Mock
     private LiveLecturesRepository liveLecturesRepository;
     @Mock
+    private LiveLectureListRepository liveLectureListRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private MyLiveLectureRepository myLiveLectureRepository;
     @Mock
+    private EnrollmentBulkRepository enrollmentBulkRepository;
+    @Mock
     private TimeUtil timeUtil;
+    @Mock
+    private HomeTimelineService homeTimelineService;
+    @Mock
+    private LectureOwnerCache lectureOwnerCache;
+    @Mock
+    private LiveStateRegistry liveStateRegistry;
     @InjectMocks
     private LiveLectureServiceImpl liveLectureService;
 
@@ -89,6 +109,8 @@ class LiveLectureServiceTest {
         when(timeUtil.toLocalTime(anyLong())).thenReturn(now.toLocalTime());
         when(timeUtil.toEpochMilli(any())).thenReturn(
             now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        when(enrollmentBulkRepository.moveEnrollments(any()))
+            .thenReturn(new EnrollmentMoveResult(1, 0));
     }
 
     /**
@@ -250,8 +272,10 @@ class LiveLectureServiceTest {
             @Test
             void 강사_강의목록_조회() {
                 // given
-                List<LiveLectures> lectures = Arrays.asList(testLecture);
-                when(liveLecturesRepository.findByUserId(1L)).thenReturn(lectures);
+                LiveLectureResponseDto lecture = new LiveLectureResponseDto();
+                lecture.setLiveId(testLecture.getLiveId());
+                when(liveLectureListRepository.findByUserId(1L)).thenReturn(
+                    Arrays.asList(lecture));
 
                 // when
                 List<LiveLectureResponseDto> results = liveLectureService.getLiveLecturesByUserId(
@@ -272,11 +296,15 @@ class LiveLectureServiceTest {
             @Test
             void 수강생_근접시간_재배치() {
                 // given
+                Users student = new Users();
+                student.setUserId(2L);
+
                 MyLiveLecture enrollment = new MyLiveLecture();
-                enrollment.setUser(userRepository.findById(2L).get());
+                enrollment.setUser(student);
                 enrollment.setLectureSchedule(testSchedule);
 
                 LectureSchedule newSchedule = new LectureSchedule();
+                newSchedule.setScheduleId(2L);
                 newSchedule.setStartTime(testSchedule.getStartTime().plusHours(1));
                 newSchedule.setEndTime(testSchedule.getEndTime().plusHours(1));
 
@@ -289,7 +317,97 @@ class LiveLectureServiceTest {
                     Collections.singletonList(newSchedule));
 
                 // then
-                verify(myLiveLectureRepository, times(1)).save(any(MyLiveLecture.class));
+                verify(enrollmentBulkRepository, times(1)).moveEnrollments(Map.of(1L, 2L));
+                verify(myLiveLectureRepository, never()).save(any(MyLiveLecture.class));
+            }
+
+            @Test
+            void 요일_추가시_기존_일정_유지() {
+                // given
+                LocalDate firstDate = now.toLocalDate().plusDays(1);
+                DayOfWeek firstDay = firstDate.getDayOfWeek();
+                DayOfWeek addedDay = firstDay.plus(1);
+
+                testLecture.getSchedules().clear();
+                testLecture.setRecurrence(LectureRecurrence.of(firstDate, firstDate.plusWeeks(4).minusDays(1),
+                    LocalTime.of(10, 0), LocalTime.of(11, 0), List.of(firstDay)));
+                testLecture.materializeUntil(firstDate.plusWeeks(4), now);
+                List<LectureSchedule> existingSchedules = new ArrayList<>(
+                    testLecture.getSchedules());
+
+                LiveLectureInfoDto dto = new LiveLectureInfoDto();
+                dto.setLiveId(1L);
+                dto.setAvailableDay(firstDay.name().substring(0, 3) + ","
+                    + addedDay.name().substring(0, 3));
+
+                when(liveLecturesRepository.findById(1L)).thenReturn(Optional.of(testLecture));
+                when(liveLecturesRepository.save(any(LiveLectures.class))).thenReturn(testLecture);
+
+                // when
+                liveLectureService.updateLiveLecture(dto);
+
+                // then
+                assertTrue(testLecture.getSchedules().containsAll(existingSchedules));
+                assertEquals(existingSchedules.size() * 2, testLecture.getSchedules().size());
+                verify(myLiveLectureRepository, never()).findAllByScheduleIds(any());
+                verify(enrollmentBulkRepository, never()).moveEnrollments(any());
+            }
+
+            @Test
+            void 생성_기간_밖으로_시작일_변경시_첫_일정으로_재배치() {
+                // given
+                LocalDate firstDate = now.toLocalDate().plusDays(1);
+                DayOfWeek day = firstDate.getDayOfWeek();
+                LocalDate newStartDate = firstDate.plusWeeks(10);
+
+                testLecture.getSchedules().clear();
+                testLecture.setRecurrence(LectureRecurrence.of(firstDate, firstDate.plusWeeks(4).minusDays(1),
+                    LocalTime.of(10, 0), LocalTime.of(11, 0), List.of(day)));
+                testLecture.materializeUntil(firstDate.plusWeeks(4), now);
+                long id = 1;
+                for (LectureSchedule schedule : testLecture.getSchedules()) {
+                    schedule.setScheduleId(id++);
+                }
+                LectureSchedule enrolledSchedule = testLecture.getSchedules().get(0);
+
+                Users student = new Users();
+                student.setUserId(2L);
+                MyLiveLecture enrollment = new MyLiveLecture();
+                enrollment.setUser(student);
+                enrollment.setLectureSchedule(enrolledSchedule);
+
+                LiveLectureInfoDto dto = new LiveLectureInfoDto();
+                dto.setLiveId(1L);
+                dto.setStartDate(100L);
+                dto.setEndDate(200L);
+
+                when(timeUtil.toLocalDate(100L)).thenReturn(newStartDate);
+                when(timeUtil.toLocalDate(200L)).thenReturn(newStartDate.plusWeeks(4));
+                when(liveLecturesRepository.findById(1L)).thenReturn(Optional.of(testLecture));
+                when(liveLecturesRepository.save(any(LiveLectures.class))).thenReturn(testLecture);
+                when(myLiveLectureRepository.findAllByScheduleIds(any()))
+                    .thenReturn(List.of(enrollment));
+                // flush 시 새 일정에 id 부여
+                doAnswer(invocation -> {
+                    long nextId = 100;
+                    for (LectureSchedule schedule : testLecture.getSchedules()) {
+                        if (schedule.getScheduleId() == null) {
+                            schedule.setScheduleId(nextId++);
+                        }
+                    }
+                    return null;
+                }).when(liveLecturesRepository).flush();
+
+                // when
+                liveLectureService.updateLiveLecture(dto);
+
+                // then
+                LectureSchedule firstNewSchedule = testLecture.getSchedules().stream()
+                    .filter(schedule -> schedule.getLectureDate().equals(newStartDate))
+                    .findFirst()
+                    .orElseThrow();
+                verify(enrollmentBulkRepository).moveEnrollments(
+                    Map.of(enrolledSchedule.getScheduleId(), firstNewSchedule.getScheduleId()));
             }
         }
     }
@@ -0,0 +1,132 @@
+package com.yoganavi.lecture.service.lecture;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강의 생성 시 일정 저장 지연 시간 측정 (일정 10/100/1000건)
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "scheduling.enabled=false",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ScheduleInsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleInsertBenchmark.class);
+
+    private static final int[] SCHEDULE_COUNTS = {10, 100, 1_000};
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Users teacher;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAllInBatch();
+        lectureScheduleRepository.deleteAllInBatch();
+        liveLecturesRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        teacher = new Users();
+        teacher.setUserId(1L);
+        teacher.setNickname("김강사");
+        teacher.setIsActive(true);
+        userRepository.save(teacher);
+    }
+
+    @Test
+    void 일정_저장_지연_시간() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+
+        for (int count : SCHEDULE_COUNTS) {
+            for (int i = 0; i < WARMUP; i++) {
+                saveLecture(count);
+            }
+
+            long[] elapsed = new long[ITERATIONS];
+            statistics.clear();
+            for (int i = 0; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                saveLecture(count);
+                elapsed[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(elapsed);
+
+            log.info("일정 {}건 저장: 중앙값 {}ms, 최대 {}ms, 저장당 JDBC 문장 수 {}, 저장당 엔티티 수 {}",
+                count,
+                elapsed[ITERATIONS / 2] / 1_000_000.0,
+                elapsed[ITERATIONS - 1] / 1_000_000.0,
+                statistics.getPrepareStatementCount() / ITERATIONS,
+                statistics.getEntityInsertCount() / ITERATIONS);
+        }
+    }
+
+    private void saveLecture(int scheduleCount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LiveLectures lecture = new LiveLectures();
+            lecture.setLiveTitle("벤치마크 강의");
+            lecture.setLiveContent("벤치마크");
+            lecture.setMaxLiveNum(10);
+            lecture.setRegDate(LocalDateTime.now());
+            lecture.setUser(teacher);
+            lecture.setIsOnAir(false);
+
+            List<LectureSchedule> schedules = new ArrayList<>();
+            LocalDate date = LocalDate.now().plusDays(1);
+            for (int i = 0; i < scheduleCount; i++) {
+                LectureSchedule schedule = LectureSchedule.createSchedule(date.plusDays(i),
+                    LocalTime.of(9, 0), LocalTime.of(10, 0));
+                schedule.setLecture(lecture);
+                schedules.add(schedule);
+            }
+            lecture.setSchedules(schedules);
+
+            liveLecturesRepository.save(lecture);
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.yoganavi.lecture.service.lecture;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.live_lecture.service.lecture.ScheduleSlotIndex;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 가장 가까운 스케줄 찾기: 선형 탐색(findClosestSchedule)과 ScheduleSlotIndex 비교 (기존 500 × 새 500)
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class ScheduleSlotIndexBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleSlotIndexBenchmark.class);
+
+    private static final int SCHEDULE_COUNT = 500;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 200;
+
+    // JIT가 결과를 버리지 않도록 누적
+    private long sink;
+
+    @Test
+    void 가장_가까운_스케줄_찾기() {
+        Random random = new Random(7);
+        List<LectureSchedule> oldSchedules = ScheduleSlotIndexTest.randomSchedules(random,
+            SCHEDULE_COUNT, 365);
+        List<LectureSchedule> newSchedules = ScheduleSlotIndexTest.randomSchedules(random,
+            SCHEDULE_COUNT, 365);
+
+        for (int i = 0; i < WARMUP; i++) {
+            linear(oldSchedules, newSchedules);
+            indexed(oldSchedules, newSchedules);
+        }
+
+        long[] linear = new long[ITERATIONS];
+        long[] indexed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            linear(oldSchedules, newSchedules);
+            linear[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            indexed(oldSchedules, newSchedules);
+            indexed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(linear);
+        Arrays.sort(indexed);
+
+        log.info("{} x {} 선형 탐색 중앙값 {}us, 인덱스(생성 포함) 중앙값 {}us, 배율 {}x ({})",
+            SCHEDULE_COUNT, SCHEDULE_COUNT,
+            linear[ITERATIONS / 2] / 1_000.0,
+            indexed[ITERATIONS / 2] / 1_000.0,
+            String.format("%.1f", (double) linear[ITERATIONS / 2] / indexed[ITERATIONS / 2]),
+            sink);
+    }
+
+    private void linear(List<LectureSchedule> oldSchedules, List<LectureSchedule> newSchedules) {
+        for (LectureSchedule oldSchedule : oldSchedules) {
+            sink += LectureSchedule.findClosestSchedule(oldSchedule, newSchedules).getScheduleId();
+        }
+    }
+
+    private void indexed(List<LectureSchedule> oldSchedules, List<LectureSchedule> newSchedules) {
+        ScheduleSlotIndex index = ScheduleSlotIndex.of(newSchedules);
+        for (LectureSchedule oldSchedule : oldSchedules) {
+            sink += index.findClosest(oldSchedule).getScheduleId();
+        }
+    }
+}
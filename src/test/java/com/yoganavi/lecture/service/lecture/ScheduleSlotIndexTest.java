@@ -0,0 +1,86 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.live_lecture.service.lecture.ScheduleSlotIndex;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ScheduleSlotIndexTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 6);
+
+    /**
+     * 30분 단위 시작 시간의 임의 스케줄 (같은 시작 시간이 자주 겹치도록)
+     */
+    static List<LectureSchedule> randomSchedules(Random random, int count, int dayRange) {
+        List<LectureSchedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(6, 0).plusMinutes(30L * random.nextInt(30));
+            LectureSchedule schedule = LectureSchedule.createSchedule(
+                BASE_DATE.plusDays(random.nextInt(dayRange)), start, start.plusHours(1));
+            schedule.setScheduleId((long) i);
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+
+    @Test
+    void 선형_탐색과_같은_결과() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<LectureSchedule> oldSchedules = randomSchedules(random, 200, 60);
+            // 일부 라운드는 요일이 적게 겹치도록 새 스케줄 기간을 좁힌다
+            List<LectureSchedule> newSchedules = randomSchedules(random, 1 + random.nextInt(200),
+                round % 3 == 0 ? 2 : 60);
+
+            ScheduleSlotIndex index = ScheduleSlotIndex.of(newSchedules);
+            for (LectureSchedule oldSchedule : oldSchedules) {
+                assertThat(index.findClosest(oldSchedule))
+                    .isSameAs(LectureSchedule.findClosestSchedule(oldSchedule, newSchedules));
+            }
+        }
+    }
+
+    @Test
+    void 같은_요일_우선() {
+        LectureSchedule monday = LectureSchedule.createSchedule(BASE_DATE, LocalTime.of(20, 0),
+            LocalTime.of(21, 0));
+        LectureSchedule tuesday = LectureSchedule.createSchedule(BASE_DATE.plusDays(1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0));
+        LectureSchedule old = LectureSchedule.createSchedule(BASE_DATE.plusWeeks(1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertThat(old.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(ScheduleSlotIndex.of(List.of(tuesday, monday)).findClosest(old))
+            .isSameAs(monday);
+    }
+
+    @Test
+    void 시간_차이가_같으면_먼저_나온_스케줄() {
+        LectureSchedule later = LectureSchedule.createSchedule(BASE_DATE, LocalTime.of(11, 0),
+            LocalTime.of(12, 0));
+        LectureSchedule earlier = LectureSchedule.createSchedule(BASE_DATE, LocalTime.of(9, 0),
+            LocalTime.of(10, 0));
+        LectureSchedule old = LectureSchedule.createSchedule(BASE_DATE, LocalTime.of(10, 0),
+            LocalTime.of(11, 0));
+
+        assertThat(ScheduleSlotIndex.of(List.of(later, earlier)).findClosest(old)).isSameAs(later);
+    }
+
+    @Test
+    void 새_스케줄이_없으면_예외() {
+        LectureSchedule old = LectureSchedule.createSchedule(BASE_DATE, LocalTime.of(10, 0),
+            LocalTime.of(11, 0));
+
+        assertThrows(IllegalStateException.class,
+            () -> ScheduleSlotIndex.of(List.of()).findClosest(old));
+    }
+}
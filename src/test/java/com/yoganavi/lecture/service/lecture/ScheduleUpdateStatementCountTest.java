@@ -0,0 +1,175 @@
+package com.yoganavi.lecture.service.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.MyLiveLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.common.util.TimeUtil;
+import com.yoganavi.lecture.live_lecture.dto.LiveLectureInfoDto;
+import com.yoganavi.lecture.live_lecture.service.lecture.LiveLectureService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+/**
+ * 강의 일정 변경 시 실행되는 SQL 문장 수가 일정/수강생 수에 비례하지 않는지 확인
+ */
+@SpringBootTest(properties = {
+    "scheduling.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ScheduleUpdateStatementCountTest {
+
+    // 풀링된 시퀀스가 새 구간을 할당받으면 문장이 최대 2개(SELECT, UPDATE) 늘어날 수 있다
+    private static final int SEQUENCE_ALLOWANCE = 2;
+
+    @Autowired
+    private LiveLectureService liveLectureService;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TimeUtil timeUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private HomeTimelineService homeTimelineService;
+
+    private Users teacher;
+    private Users student;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        teacher = createUser(1L, "김강사");
+        student = createUser(2L, "이학생");
+        userRepository.saveAll(Arrays.asList(teacher, student));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return user;
+    }
+
+    /**
+     * 매일 진행되는 days일짜리 강의를 만들고 모든 일정에 수강생을 등록
+     */
+    private LiveLectures createLectureWithEnrollments(int days) {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle("테스트 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(10);
+        lecture.setUser(teacher);
+        lecture.setRegDate(LocalDateTime.now());
+        lecture.setIsOnAir(false);
+        lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusDays(days - 1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0), Arrays.asList(DayOfWeek.values())));
+        lecture.materializeUntil(startDate.plusDays(days - 1), LocalDateTime.now());
+        LiveLectures saved = liveLecturesRepository.save(lecture);
+
+        List<MyLiveLecture> enrollments = new ArrayList<>();
+        for (LectureSchedule schedule : saved.getSchedules()) {
+            MyLiveLecture enrollment = new MyLiveLecture();
+            enrollment.setUser(student);
+            enrollment.setLectureSchedule(schedule);
+            enrollment.setCompleted(false);
+            enrollments.add(enrollment);
+        }
+        myLiveLectureRepository.saveAll(enrollments);
+        return saved;
+    }
+
+    /**
+     * 강의 시간을 바꿔 모든 미래 일정이 교체되도록 수정하고 실행된 SQL 문장 수를 반환
+     */
+    private long updateLectureTime(LiveLectures lecture, int days) {
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LiveLectureInfoDto dto = new LiveLectureInfoDto();
+        dto.setLiveId(lecture.getLiveId());
+        dto.setStartDate(timeUtil.toEpochMilli(startDate.atStartOfDay()));
+        dto.setEndDate(timeUtil.toEpochMilli(startDate.plusDays(days - 1).atStartOfDay()));
+        dto.setStartTime(timeUtil.toEpochMilli(startDate.atTime(14, 0)));
+        dto.setEndTime(timeUtil.toEpochMilli(startDate.atTime(15, 0)));
+        dto.setAvailableDay("MON,TUE,WED,THU,FRI,SAT,SUN");
+
+        statistics.clear();
+        liveLectureService.updateLiveLecture(dto);
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void 일정_변경_SQL_문장_수는_일정_수와_무관() {
+        LiveLectures small = createLectureWithEnrollments(5);
+        long smallCount = updateLectureTime(small, 5);
+        long smallQueries = statistics.getQueryExecutionCount();
+
+        LiveLectures large = createLectureWithEnrollments(40);
+        long largeCount = updateLectureTime(large, 40);
+        long largeQueries = statistics.getQueryExecutionCount();
+
+        assertThat(largeQueries).isEqualTo(smallQueries);
+        assertThat(largeCount).isLessThanOrEqualTo(smallCount + SEQUENCE_ALLOWANCE);
+        // 수강생은 한 건씩 저장하지 않고 일괄 UPDATE로 이동한다
+        assertThat(statistics.getEntityStatistics(MyLiveLecture.class.getName()).getInsertCount())
+            .isZero();
+    }
+
+    @Test
+    void 수강생은_새_일정으로_이동() {
+        LiveLectures lecture = createLectureWithEnrollments(5);
+
+        updateLectureTime(lecture, 5);
+
+        List<MyLiveLecture> enrollments = myLiveLectureRepository.findActiveLecturesByLiveId(
+            lecture.getLiveId());
+        assertThat(enrollments).hasSize(5);
+        assertThat(lectureScheduleRepository.findAllById(enrollments.stream()
+                .map(enrollment -> enrollment.getLectureSchedule().getScheduleId())
+                .toList()))
+            .allSatisfy(schedule ->
+                assertThat(schedule.getStartTime().toLocalTime()).isEqualTo(LocalTime.of(14, 0)));
+    }
+}
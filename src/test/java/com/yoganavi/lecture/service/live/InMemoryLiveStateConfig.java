@@ -0,0 +1,19 @@
+package com.yoganavi.lecture.service.live;
+
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 통합 테스트에서 Redis 없이 방송 상태 저장소를 사용하기 위한 설정
+ */
+@TestConfiguration
+public class InMemoryLiveStateConfig {
+
+    @Bean
+    @Primary
+    public LiveStateRegistry inMemoryLiveStateRegistry() {
+        return new InMemoryLiveStateRegistry();
+    }
+}
@@ -0,0 +1,67 @@
+package com.yoganavi.lecture.service.live;
+
+import com.yoganavi.lecture.live_lecture.service.live.LiveState;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateUpdate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 방송 상태 저장소, RedisLiveStateRegistry와 같이 상태 비교는 LiveStateUpdate에 맡긴다.
+ */
+public class InMemoryLiveStateRegistry implements LiveStateRegistry {
+
+    private final Map<Long, LiveState> states = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public synchronized LiveStateUpdate update(Long liveId, boolean onAir,
+        Integer participantCount, long now) {
+        LiveStateUpdate update = LiveStateUpdate.of(states.get(liveId), onAir, participantCount,
+            now);
+        states.put(liveId, update.getState());
+        if (update.isOnAirChanged()) {
+            dirty.add(liveId);
+        }
+        return update;
+    }
+
+    @Override
+    public Map<Long, LiveState> findAll(Collection<Long> liveIds) {
+        Map<Long, LiveState> found = new HashMap<>();
+        for (Long liveId : liveIds) {
+            LiveState state = states.get(liveId);
+            if (state != null) {
+                found.put(liveId, state);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Long> pollDirty(int count) {
+        List<Long> polled = new ArrayList<>();
+        Iterator<Long> iterator = dirty.iterator();
+        while (iterator.hasNext() && polled.size() < count) {
+            polled.add(iterator.next());
+            iterator.remove();
+        }
+        return polled;
+    }
+
+    @Override
+    public void markDirty(Collection<Long> liveIds) {
+        dirty.addAll(liveIds);
+    }
+
+    public void clear() {
+        states.clear();
+        dirty.clear();
+    }
+}
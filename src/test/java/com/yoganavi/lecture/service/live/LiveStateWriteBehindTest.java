@@ -0,0 +1,162 @@
+package com.yoganavi.lecture.service.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.LectureScheduleRepository;
+import com.yoganavi.lecture.common.repository.LiveLecturesRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import com.yoganavi.lecture.live_lecture.service.home.HomeService;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateRegistry;
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateWriteBehind;
+import com.yoganavi.lecture.live_lecture.service.push.LivePushService;
+import com.yoganavi.lecture.service.timeline.InMemoryHomeTimelineConfig;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 방송 상태가 저장소에 먼저 기록되고 is_on_air에는 모아서 반영되는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import({InMemoryHomeTimelineConfig.class, InMemoryLiveStateConfig.class})
+class LiveStateWriteBehindTest {
+
+    @Autowired
+    private HomeService homeService;
+
+    @Autowired
+    private LiveStateWriteBehind liveStateWriteBehind;
+
+    @Autowired
+    private LiveStateRegistry liveStateRegistry;
+
+    @Autowired
+    private LiveLecturesRepository liveLecturesRepository;
+
+    @Autowired
+    private LectureScheduleRepository lectureScheduleRepository;
+
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private LivePushService livePushService;
+
+    private Users teacher;
+    private Long liveId;
+
+    @BeforeEach
+    void setUp() {
+        ((InMemoryLiveStateRegistry) liveStateRegistry).clear();
+        myLiveLectureRepository.deleteAll();
+        lectureScheduleRepository.deleteAll();
+        liveLecturesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        teacher = new Users();
+        teacher.setUserId(1L);
+        teacher.setNickname("김강사");
+        teacher.setIsActive(true);
+        userRepository.save(teacher);
+
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveTitle("테스트 강의");
+        lecture.setLiveContent("테스트 강의입니다");
+        lecture.setMaxLiveNum(10);
+        lecture.setUser(teacher);
+        lecture.setRegDate(LocalDateTime.now());
+        lecture.setIsOnAir(false);
+        lecture.setRecurrence(LectureRecurrence.of(startDate, startDate.plusWeeks(1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0), Arrays.asList(DayOfWeek.values())));
+        lecture.materializeUntil(startDate.plusWeeks(1), LocalDateTime.now());
+        liveId = liveLecturesRepository.save(lecture).getLiveId();
+    }
+
+    private boolean rowOnAir() {
+        return liveLecturesRepository.findById(liveId).orElseThrow().getIsOnAir();
+    }
+
+    @Test
+    void 방송_상태는_저장소에_먼저_기록() {
+        assertThat(homeService.updateLiveState(liveId, true, 3)).isTrue();
+
+        assertThat(rowOnAir()).isFalse();
+        List<HomeResponseDto> lectures = homeService.getHomeDataByCursor(teacher.getUserId(), "",
+            10).getLectures();
+        assertThat(lectures).isNotEmpty()
+            .allSatisfy(lecture -> assertThat(lecture.getIsOnAir()).isTrue());
+    }
+
+    @Test
+    void 같은_상태_반복시_변경_없음() {
+        homeService.updateLiveState(liveId, true, 3);
+
+        assertThat(homeService.updateLiveState(liveId, true, 3)).isFalse();
+        assertThat(homeService.updateLiveState(liveId, true, null)).isFalse();
+        assertThat(homeService.updateLiveState(liveId, true, 4)).isTrue();
+    }
+
+    @Test
+    void 참여자_수만_바뀌면_강의_구독자에게만_알림() {
+        homeService.updateLiveState(liveId, true, 3);
+        homeService.updateLiveState(liveId, true, 4);
+        homeService.updateLiveState(liveId, true, 5);
+
+        verify(livePushService, times(1)).onAirChanged(eq(liveId), eq(true), eq(3), any());
+        verify(livePushService).participantsChanged(liveId, true, 4);
+        verify(livePushService).participantsChanged(liveId, true, 5);
+
+        homeService.updateLiveState(liveId, false, null);
+
+        verify(livePushService).onAirChanged(eq(liveId), eq(false), eq(5), any());
+        verify(livePushService, times(2)).participantsChanged(eq(liveId), anyBoolean(), any());
+    }
+
+    @Test
+    void 반복된_상태_변경은_마지막_상태만_반영() {
+        homeService.updateLiveState(liveId, true, null);
+        homeService.updateLiveState(liveId, false, null);
+        homeService.updateLiveState(liveId, true, null);
+
+        liveStateWriteBehind.flush();
+
+        assertThat(rowOnAir()).isTrue();
+        assertThat(liveStateRegistry.pollDirty(10)).isEmpty();
+
+        homeService.updateLiveState(liveId, false, null);
+        liveStateWriteBehind.flush();
+
+        assertThat(rowOnAir()).isFalse();
+    }
+
+    @Test
+    void 없는_강의는_예외() {
+        assertThatThrownBy(() -> homeService.updateLiveState(liveId + 1000, true, null))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.yoganavi.lecture.service.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.lecture.live_lecture.service.live.LiveStateUpdate;
+import com.yoganavi.lecture.live_lecture.service.live.RedisLiveStateRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * RedisLiveStateRegistry가 같은 상태의 반복 요청은 변경 없음으로 처리하고, 방송 여부가 바뀔 때만 반영 대상으로
+ * 등록하는지 확인 (MULTI로 보낸 명령은 EXEC에서 한 번에 적용하는 가짜 Redis 연결 사용)
+ */
+class RedisLiveStateRegistryTest {
+
+    private static final Long LIVE_ID = 7L;
+    private static final String KEY = "live:state:7";
+    private static final String DIRTY_KEY = "live:state:dirty";
+
+    private final Map<String, String> hash = new HashMap<>();
+    private final List<Runnable> queued = new ArrayList<>();
+    // EXEC 전에 다른 요청이 상태를 바꿔 트랜잭션이 취소되는 경우
+    private final Queue<Runnable> conflicts = new ArrayDeque<>();
+
+    private RedisOperations<String, String> operations;
+    private HashOperations<String, Object, Object> hashOperations;
+    private SetOperations<String, String> setOperations;
+    private RedisLiveStateRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        operations = mock(RedisOperations.class);
+        hashOperations = mock(HashOperations.class);
+        setOperations = mock(SetOperations.class);
+
+        when(redisTemplate.execute(any(SessionCallback.class))).thenAnswer(
+            invocation -> ((SessionCallback<?>) invocation.getArgument(0)).execute(operations));
+        when(operations.opsForHash()).thenReturn(hashOperations);
+        when(operations.opsForSet()).thenReturn(setOperations);
+        when(hashOperations.entries(KEY)).thenAnswer(invocation -> new HashMap<>(hash));
+        doAnswer(invocation -> {
+            queued.add(() -> hash.put(invocation.getArgument(1), invocation.getArgument(2)));
+            return null;
+        }).when(hashOperations).put(eq(KEY), anyString(), anyString());
+        doAnswer(invocation -> {
+            queued.add(() -> hash.remove((String) invocation.getArgument(1)));
+            return 1L;
+        }).when(hashOperations).delete(eq(KEY), any());
+        when(operations.exec()).thenAnswer(invocation -> {
+            Runnable conflict = conflicts.poll();
+            if (conflict != null) {
+                queued.clear();
+                conflict.run();
+                return List.of();
+            }
+            queued.forEach(Runnable::run);
+            int executed = queued.size();
+            queued.clear();
+            return new ArrayList<>(List.of(executed));
+        });
+
+        registry = new RedisLiveStateRegistry(redisTemplate);
+    }
+
+    @Test
+    void 같은_상태를_다시_알리면_변경_없음() {
+        LiveStateUpdate first = registry.update(LIVE_ID, true, 3, 1000L);
+        LiveStateUpdate repeated = registry.update(LIVE_ID, true, 3, 2000L);
+
+        assertThat(first.isChanged()).isTrue();
+        assertThat(first.isOnAirChanged()).isTrue();
+        assertThat(repeated.isChanged()).isFalse();
+        assertThat(hash).containsEntry("onAir", "1").containsEntry("startedAt", "1000")
+            .containsEntry("participants", "3");
+        verify(setOperations, times(1)).add(DIRTY_KEY, "7");
+        // 변경이 없어도 TTL은 매번 갱신한다
+        verify(operations, times(2)).expire(eq(KEY), any(Duration.class));
+    }
+
+    @Test
+    void 방송_여부가_바뀔_때만_반영_대상으로_등록() {
+        registry.update(LIVE_ID, true, 3, 1000L);
+
+        LiveStateUpdate participants = registry.update(LIVE_ID, true, 5, 2000L);
+        assertThat(participants.isChanged()).isTrue();
+        assertThat(participants.isOnAirChanged()).isFalse();
+        assertThat(hash).containsEntry("participants", "5").containsEntry("startedAt", "1000");
+        verify(setOperations, times(1)).add(DIRTY_KEY, "7");
+
+        LiveStateUpdate turnedOff = registry.update(LIVE_ID, false, null, 3000L);
+        assertThat(turnedOff.isOnAirChanged()).isTrue();
+        assertThat(turnedOff.isParticipantsChanged()).isFalse();
+        assertThat(hash).containsEntry("onAir", "0").doesNotContainKey("startedAt")
+            .containsEntry("participants", "5");
+        verify(setOperations, times(2)).add(DIRTY_KEY, "7");
+    }
+
+    @Test
+    void 충돌하면_다시_읽어서_비교() {
+        registry.update(LIVE_ID, false, null, 1000L);
+        // 같은 강의의 다른 요청이 먼저 방송 시작을 기록
+        conflicts.add(() -> {
+            hash.put("onAir", "1");
+            hash.put("startedAt", "1500");
+        });
+
+        LiveStateUpdate update = registry.update(LIVE_ID, true, null, 2000L);
+
+        assertThat(update.isChanged()).isFalse();
+        assertThat(hash).containsEntry("onAir", "1").containsEntry("startedAt", "1500");
+    }
+}
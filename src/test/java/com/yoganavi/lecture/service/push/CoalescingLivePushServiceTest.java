@@ -0,0 +1,122 @@
+package com.yoganavi.lecture.service.push;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.yoganavi.lecture.live_lecture.dto.LivePushDto;
+import com.yoganavi.lecture.live_lecture.service.push.CoalescingLivePushService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class CoalescingLivePushServiceTest {
+
+    private SimpMessagingTemplate messagingTemplate;
+    private CoalescingLivePushService livePushService;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        livePushService = new CoalescingLivePushService(messagingTemplate);
+    }
+
+    @Test
+    void 연속된_방송_상태_변경은_마지막_상태만_전송() {
+        livePushService.onAirChanged(1L, true, 1, List.of());
+        livePushService.onAirChanged(1L, false, null, List.of());
+        livePushService.onAirChanged(1L, true, 5, List.of());
+
+        livePushService.flush();
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/lectures/1"),
+            message.capture());
+        LivePushDto sent = (LivePushDto) message.getValue();
+        assertThat(sent.getType()).isEqualTo(LivePushDto.ON_AIR);
+        assertThat(sent.getOnAir()).isTrue();
+        assertThat(sent.getParticipantCount()).isEqualTo(5);
+    }
+
+    @Test
+    void 강의별로_따로_전송() {
+        livePushService.onAirChanged(1L, true, null, List.of());
+        livePushService.onAirChanged(2L, true, null, List.of());
+
+        livePushService.flush();
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/lectures/1"), any(Object.class));
+        verify(messagingTemplate).convertAndSend(eq("/topic/lectures/2"), any(Object.class));
+    }
+
+    @Test
+    void 일정_변경은_강의_구독자와_사용자별로_전송() {
+        livePushService.schedulesChanged(1L, List.of(10L, 20L));
+        livePushService.schedulesChanged(1L, List.of(10L, 20L));
+
+        livePushService.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/lectures/1"),
+            any(Object.class));
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("10"), eq("/queue/home"),
+            any(Object.class));
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("20"), eq("/queue/home"),
+            any(Object.class));
+    }
+
+    @Test
+    void 방송_상태_변경은_강의_구독자와_사용자별로_전송() {
+        livePushService.onAirChanged(1L, true, 1, List.of(10L, 20L));
+        livePushService.onAirChanged(1L, false, null, List.of(10L, 20L));
+
+        livePushService.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/lectures/1"),
+            any(Object.class));
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("10"), eq("/queue/home"),
+            message.capture());
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("20"), eq("/queue/home"),
+            any(Object.class));
+        LivePushDto sent = (LivePushDto) message.getValue();
+        assertThat(sent.getType()).isEqualTo(LivePushDto.ON_AIR);
+        assertThat(sent.getOnAir()).isFalse();
+    }
+
+    @Test
+    void 참여자_수_변경은_강의_구독자에게만_전송() {
+        livePushService.onAirChanged(1L, true, 1, List.of(10L));
+        livePushService.flush();
+        livePushService.participantsChanged(1L, true, 2);
+        livePushService.participantsChanged(1L, true, 3);
+
+        livePushService.flush();
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/lectures/1"),
+            message.capture());
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("10"), eq("/queue/home"),
+            any(Object.class));
+        LivePushDto sent = (LivePushDto) message.getValue();
+        assertThat(sent.getOnAir()).isTrue();
+        assertThat(sent.getParticipantCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 전송한_알림은_다시_전송하지_않음() {
+        livePushService.onAirChanged(1L, true, null, List.of());
+        livePushService.flush();
+        livePushService.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(),
+            any(Object.class));
+    }
+}
@@ -0,0 +1,141 @@
+package com.yoganavi.lecture.service.push;
+
+import com.yoganavi.lecture.live_lecture.service.push.CoalescingLivePushService;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 유휴 WebSocket(STOMP) 연결 10,000개를 한 JVM에서 유지할 때 연결당 메모리 측정
+ * <p>
+ * 서버와 클라이언트가 같은 JVM에 있으므로 측정값은 양쪽 세션을 합한 상한이다.
+ * 파일 디스크립터 한도가 연결 수의 두 배 이상이어야 한다. (ulimit -n)
+ * <p>
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "scheduling.enabled=false",
+    "server.tomcat.max-connections=20000",
+    "server.tomcat.accept-count=1000"
+})
+class WebSocketIdleConnectionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(
+        WebSocketIdleConnectionBenchmark.class);
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int CONNECT_BATCH = 500;
+    private static final int LECTURES = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CoalescingLivePushService livePushService;
+
+    @Test
+    void 유휴_연결당_메모리() throws Exception {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(scheduler);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+
+        String url = "ws://localhost:" + port + "/live-lecture/ws";
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeap(memory);
+
+        // 강의 0번 구독자에게 방송 알림이 실제로 도착하는지 확인
+        CountDownLatch delivered = new CountDownLatch(CONNECTIONS / LECTURES);
+        List<StompSession> sessions = new ArrayList<>(CONNECTIONS);
+        long start = System.nanoTime();
+        for (int from = 0; from < CONNECTIONS; from += CONNECT_BATCH) {
+            List<CompletableFuture<StompSession>> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + CONNECT_BATCH, CONNECTIONS); i++) {
+                WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+                headers.add("X-User-Id", String.valueOf(i + 1));
+                batch.add(stompClient.connectAsync(url, headers,
+                    new StompSessionHandlerAdapter() {
+                    }));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                StompSession session = batch.get(i).get(30, TimeUnit.SECONDS);
+                long liveId = (from + i) % LECTURES;
+                session.subscribe("/topic/lectures/" + liveId, new CountingHandler(delivered));
+                sessions.add(session);
+            }
+        }
+        double connectSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // 구독 처리가 끝나도록 잠시 대기한 뒤 측정
+        Thread.sleep(2_000);
+        long after = usedHeap(memory);
+
+        livePushService.onAirChanged(0L, true, sessions.size(), List.of());
+        livePushService.flush();
+        boolean allDelivered = delivered.await(30, TimeUnit.SECONDS);
+
+        log.info("유휴 연결 {}개: 연결 시간 {}초, 힙 증가 {}MB, 연결당 {}KB (서버+클라이언트), 알림 전달 {}",
+            sessions.size(), connectSeconds,
+            (after - before) / (1024.0 * 1024.0),
+            (after - before) / 1024.0 / sessions.size(),
+            allDelivered ? "성공" : "미완료 " + delivered.getCount() + "건");
+
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        scheduler.shutdown();
+    }
+
+    private long usedHeap(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static class CountingHandler implements StompFrameHandler {
+
+        private final CountDownLatch latch;
+
+        CountingHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Object.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeCountRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureCursorPageDto;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.show.ShowRecordedLecture;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인기순 커서 조회가 페이지 기반 조회와 같은 순서로 빠짐/중복 없이 이어지는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import(InMemoryLikedLectureConfig.class)
+class FameCursorPaginationTest {
+
+    private static final long[] LIKE_COUNTS = {3, 3, 1, 0, 5, 3, 0};
+
+    @Autowired
+    private ShowRecordedLecture showRecordedLecture;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private RecordedLectureLikeCountRepository likeCountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Users teacher;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        teacher = new Users();
+        teacher.setUserId(1L);
+        teacher.setNickname("김강사");
+        teacher.setIsActive(true);
+        userRepository.save(teacher);
+
+        // 같은 좋아요 수에서 생성일이 같은 강의도 섞이도록 생성일을 두 개만 사용
+        LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 10, 0);
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (int i = 0; i < LIKE_COUNTS.length; i++) {
+            RecordedLecture lecture = new RecordedLecture();
+            lecture.setUser(teacher);
+            lecture.setTitle("녹화 강의 " + i);
+            lecture.setContent("녹화 강의입니다");
+            lecture.setCreatedDate(createdDate.plusDays(i % 2));
+            likeCounts.put(recordedLectureRepository.save(lecture).getId(), LIKE_COUNTS[i]);
+        }
+        transactionTemplate.executeWithoutResult(
+            status -> likeCountRepository.addLikeCounts(likeCounts));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 커서_조회는_페이지_조회와_같은_순서() {
+        List<Long> expected = showRecordedLecture.getAllLectures(teacher.getUserId(), 0,
+                LIKE_COUNTS.length, "fame").stream()
+            .map(LectureDto::getRecordedId)
+            .toList();
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            LectureCursorPageDto page = showRecordedLecture.getFameLecturesByCursor(
+                teacher.getUserId(), cursor, 3);
+            page.getLectures().forEach(lecture -> actual.add(lecture.getRecordedId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 인기순_정렬() {
+        List<Long> likeCounts = showRecordedLecture.getFameLecturesByCursor(teacher.getUserId(),
+                "", LIKE_COUNTS.length).getLectures().stream()
+            .map(LectureDto::getLikeCount)
+            .toList();
+
+        assertThat(likeCounts).containsExactly(5L, 3L, 3L, 3L, 1L, 0L, 0L);
+    }
+
+    @Test
+    void 잘못된_커서() {
+        assertThatThrownBy(() -> showRecordedLecture.getFameLecturesByCursor(teacher.getUserId(),
+            "not-a-cursor", 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.recorded_lecture.service.like.FileLikeEventLog;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEvent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 로컬 좋아요 기록이 반영되지 않은 이벤트만 복구하는지 확인
+ */
+class FileLikeEventLogTest {
+
+    @TempDir
+    Path dir;
+
+    private FileLikeEventLog likeEventLog;
+
+    @BeforeEach
+    void setUp() {
+        likeEventLog = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeEventLog.close();
+    }
+
+    private FileLikeEventLog open() {
+        return open(false);
+    }
+
+    private FileLikeEventLog open(boolean fsync) {
+        FileLikeEventLog opened = new FileLikeEventLog(dir.toString(), fsync);
+        opened.open();
+        return opened;
+    }
+
+    /**
+     * 재시작한 것처럼 기록 파일을 다시 열어 복구
+     */
+    private List<LikeEvent> recoverAfterRestart() {
+        likeEventLog.close();
+        likeEventLog = open();
+        return likeEventLog.recover();
+    }
+
+    @Test
+    void 반영된_기록은_복구하지_않음() {
+        likeEventLog.append(new LikeEvent(1L, 2L, true));
+        likeEventLog.rotate();
+        likeEventLog.append(new LikeEvent(1L, 3L, true));
+        likeEventLog.commit();
+
+        List<LikeEvent> events = recoverAfterRestart();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getUserId()).isEqualTo(3L);
+    }
+
+    @Test
+    void 반영에_실패한_기록은_이어_붙여_순서대로_복구() {
+        likeEventLog.append(new LikeEvent(1L, 2L, true));
+        likeEventLog.rotate();
+        likeEventLog.append(new LikeEvent(1L, 2L, false));
+        likeEventLog.rotate();
+        likeEventLog.append(new LikeEvent(1L, 3L, true));
+
+        List<LikeEvent> events = recoverAfterRestart();
+
+        assertThat(events).extracting(LikeEvent::getUserId).containsExactly(2L, 2L, 3L);
+        assertThat(events).extracting(LikeEvent::isLiked).containsExactly(true, false, true);
+    }
+
+    @Test
+    void 잘린_마지막_줄은_건너뜀() throws IOException {
+        likeEventLog.append(new LikeEvent(1L, 2L, true));
+        likeEventLog.close();
+        Files.writeString(dir.resolve("like-events.log"), "1,3,", StandardCharsets.US_ASCII,
+            StandardOpenOption.APPEND);
+
+        List<LikeEvent> events = recoverAfterRestart();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 동시_기록도_동기화_후_모두_복구() throws InterruptedException {
+        likeEventLog.close();
+        likeEventLog = open(true);
+        int threads = 8;
+        int eventsPerThread = 100;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (long userId = 0; userId < threads; userId++) {
+            long user = userId;
+            executor.execute(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    long position = likeEventLog.append(new LikeEvent((long) i, user, true));
+                    likeEventLog.awaitDurable(position);
+                    if (i == eventsPerThread / 2) {
+                        likeEventLog.rotate();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(recoverAfterRestart()).hasSize(threads * eventsPerThread);
+    }
+}
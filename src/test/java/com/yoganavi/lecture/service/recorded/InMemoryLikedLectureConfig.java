@@ -0,0 +1,26 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureStore;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingScoreStore;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 통합 테스트에서 Redis 없이 좋아요 강의 저장소와 인기 급상승 점수 저장소를 사용하기 위한 설정
+ */
+@TestConfiguration
+public class InMemoryLikedLectureConfig {
+
+    @Bean
+    @Primary
+    public LikedLectureStore inMemoryLikedLectureStore() {
+        return new InMemoryLikedLectureStore();
+    }
+
+    @Bean
+    @Primary
+    public TrendingScoreStore inMemoryTrendingScoreStore() {
+        return new InMemoryTrendingScoreStore();
+    }
+}
@@ -0,0 +1,65 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureSet;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureStore;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 좋아요 강의 저장소, RedisLikedLectureStore와 같이 저장된 집합만 add/remove로 갱신한다.
+ */
+public class InMemoryLikedLectureStore implements LikedLectureStore {
+
+    private final Map<Long, Set<Long>> likedByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger putCount = new AtomicInteger();
+
+    @Override
+    public LikedLectureSet find(Long userId) {
+        Set<Long> liked = likedByUser.get(userId);
+        return liked == null ? null : LikedLectureSet.of(liked);
+    }
+
+    @Override
+    public void put(Long userId, Collection<Long> lectureIds) {
+        Set<Long> liked = ConcurrentHashMap.newKeySet();
+        liked.addAll(lectureIds);
+        likedByUser.put(userId, liked);
+        putCount.incrementAndGet();
+    }
+
+    @Override
+    public void add(Long userId, Long lectureId) {
+        likedByUser.computeIfPresent(userId, (id, liked) -> {
+            liked.add(lectureId);
+            return liked;
+        });
+    }
+
+    @Override
+    public void remove(Long userId, Long lectureId) {
+        likedByUser.computeIfPresent(userId, (id, liked) -> {
+            liked.remove(lectureId);
+            return liked;
+        });
+    }
+
+    @Override
+    public void evict(Long userId) {
+        likedByUser.remove(userId);
+    }
+
+    /**
+     * DB에서 읽어 집합을 채운 횟수
+     */
+    public int getPutCount() {
+        return putCount.get();
+    }
+
+    public void clear() {
+        likedByUser.clear();
+        putCount.set(0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import com.yoganavi.lecture.recorded_lecture.service.search.RecordedLectureSearchIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 테스트용 검색 색인, Elasticsearch 외부 버전과 같이 저장된 버전보다 큰 문서만 반영한다.
+ * <p>
+ * 삭제한 문서의 버전도 남겨 그보다 이전 버전의 색인 요청은 무시한다.
+ */
+public class InMemoryRecordedLectureSearchIndex implements RecordedLectureSearchIndex {
+
+    private final Map<Long, RecordedLectureDocument> documents = new ConcurrentHashMap<>();
+    private final Map<Long, Long> deletedVersions = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Set<Long> failingLectureIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean writtenInTransaction;
+
+    @Override
+    public void index(List<RecordedLectureDocument> batch) {
+        failIfRequested();
+        for (RecordedLectureDocument document : batch) {
+            failIfRequested(document.getId());
+        }
+        for (RecordedLectureDocument document : batch) {
+            Long deletedVersion = deletedVersions.get(document.getId());
+            if (deletedVersion != null && document.getVersion() <= deletedVersion) {
+                continue;
+            }
+            documents.merge(document.getId(), document,
+                (stored, incoming) -> incoming.getVersion() > stored.getVersion() ? incoming
+                    : stored);
+        }
+    }
+
+    @Override
+    public void delete(Map<Long, Long> versionByLectureId) {
+        failIfRequested();
+        versionByLectureId.keySet().forEach(this::failIfRequested);
+        versionByLectureId.forEach((lectureId, version) -> {
+            RecordedLectureDocument stored = documents.get(lectureId);
+            if (stored != null && stored.getVersion() >= version) {
+                return;
+            }
+            documents.remove(lectureId);
+            deletedVersions.merge(lectureId, version, Math::max);
+        });
+    }
+
+    public RecordedLectureDocument find(Long lectureId) {
+        return documents.get(lectureId);
+    }
+
+    public void put(RecordedLectureDocument document) {
+        documents.put(document.getId(), document);
+    }
+
+    /**
+     * 다음 요청 count번을 실패시킨다
+     */
+    public void failNext(int count) {
+        failures.set(count);
+    }
+
+    /**
+     * 이 강의가 들어 있는 요청은 모두 실패시킨다 (색인되지 않는 문서)
+     */
+    public void failAlways(Long lectureId) {
+        failingLectureIds.add(lectureId);
+    }
+
+    public void clear() {
+        documents.clear();
+        deletedVersions.clear();
+        failures.set(0);
+        failingLectureIds.clear();
+        writtenInTransaction = false;
+    }
+
+    /**
+     * 트랜잭션 안에서 색인 요청을 받은 적이 있는지
+     */
+    public boolean isWrittenInTransaction() {
+        return writtenInTransaction;
+    }
+
+    private void failIfRequested() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            writtenInTransaction = true;
+        }
+        if (failures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            throw new IllegalStateException("검색 색인 요청 실패");
+        }
+    }
+
+    private void failIfRequested(Long lectureId) {
+        if (failingLectureIds.contains(lectureId)) {
+            throw new IllegalStateException("검색 색인 요청 실패: 강의 ID " + lectureId);
+        }
+    }
+}
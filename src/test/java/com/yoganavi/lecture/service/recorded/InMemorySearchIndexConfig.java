@@ -0,0 +1,19 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.recorded_lecture.service.search.RecordedLectureSearchIndex;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 통합 테스트에서 Elasticsearch 없이 검색 색인을 사용하기 위한 설정
+ */
+@TestConfiguration
+public class InMemorySearchIndexConfig {
+
+    @Bean
+    @Primary
+    public RecordedLectureSearchIndex inMemoryRecordedLectureSearchIndex() {
+        return new InMemoryRecordedLectureSearchIndex();
+    }
+}
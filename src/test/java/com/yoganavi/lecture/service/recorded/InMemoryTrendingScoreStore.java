@@ -0,0 +1,73 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingScore;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingScoreStore;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 인기 급상승 점수 저장소, RedisTrendingScoreStore와 같이 점수 계산은 TrendingScore에 맡긴다.
+ */
+public class InMemoryTrendingScoreStore implements TrendingScoreStore {
+
+    private final Map<Long, TrendingScore> scoreByLectureId = new HashMap<>();
+    private Long epoch;
+
+    @Override
+    public synchronized void add(Map<Long, Long> likeDeltaByLectureId, long nowMillis,
+        long halfLifeMillis, double minScore) {
+        if (epoch == null) {
+            epoch = nowMillis;
+        }
+        double weight = TrendingScore.weight(epoch, nowMillis, halfLifeMillis);
+        likeDeltaByLectureId.forEach((lectureId, delta) -> {
+            TrendingScore updated = scoreByLectureId
+                .getOrDefault(lectureId, new TrendingScore(0, 0))
+                .apply(delta, weight);
+            if (updated.isRanked(minScore)) {
+                scoreByLectureId.put(lectureId, updated);
+            } else {
+                scoreByLectureId.remove(lectureId);
+            }
+        });
+    }
+
+    @Override
+    public synchronized List<Long> top(long offset, long count) {
+        return scoreByLectureId.entrySet().stream()
+            .sorted(Map.Entry.<Long, TrendingScore>comparingByValue(
+                (a, b) -> Double.compare(b.getScore(), a.getScore())))
+            .skip(offset)
+            .limit(count)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    @Override
+    public synchronized void remove(Collection<Long> lectureIds) {
+        lectureIds.forEach(scoreByLectureId::remove);
+    }
+
+    @Override
+    public synchronized long rescale(long nowMillis, long halfLifeMillis, double minScore) {
+        if (epoch != null && nowMillis > epoch) {
+            double factor = TrendingScore.decayFactor(epoch, nowMillis, halfLifeMillis);
+            scoreByLectureId.replaceAll((lectureId, score) -> score.decay(factor));
+            scoreByLectureId.values().removeIf(score -> !score.isRanked(minScore));
+            epoch = nowMillis;
+        }
+        return scoreByLectureId.size();
+    }
+
+    public synchronized Double getScore(Long lectureId) {
+        TrendingScore score = scoreByLectureId.get(lectureId);
+        return score == null ? null : score.getScore();
+    }
+
+    public synchronized void clear() {
+        scoreByLectureId.clear();
+        epoch = null;
+    }
+}
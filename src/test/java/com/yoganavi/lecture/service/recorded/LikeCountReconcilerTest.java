@@ -0,0 +1,145 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.RecordedLectureLike;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeCountReconciler;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 좋아요 수가 like_count에 모아서 반영되고, 어긋난 값은 보정 작업으로 맞춰지는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import(InMemoryLikedLectureConfig.class)
+class LikeCountReconcilerTest {
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private RecordedLectureSearchOutboxRepository searchOutboxRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Users teacher;
+    private List<Users> students;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        teacher = createUser(1L, "김강사");
+        students = new ArrayList<>();
+        for (long userId = 2; userId <= 4; userId++) {
+            students.add(createUser(userId, "학생" + userId));
+        }
+
+        RecordedLecture lecture = new RecordedLecture();
+        lecture.setUser(teacher);
+        lecture.setTitle("녹화 강의");
+        lecture.setContent("녹화 강의입니다");
+        lectureId = recordedLectureRepository.save(lecture).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        likeEventWriteBehind.flush();
+        searchOutboxRepository.deleteAllInBatch();
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    private long likeCount() {
+        return recordedLectureRepository.findById(lectureId).orElseThrow().getLikeCount();
+    }
+
+    @Test
+    void 좋아요_토글은_모아서_반영() {
+        for (Users student : students) {
+            likeRecordedLecture.toggleLike(lectureId, student.getUserId());
+        }
+        assertThat(likeCount()).isZero();
+
+        likeEventWriteBehind.flush();
+        assertThat(likeCount()).isEqualTo(3);
+
+        likeRecordedLecture.toggleLike(lectureId, students.get(0).getUserId());
+        likeEventWriteBehind.flush();
+        assertThat(likeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 강의_수정은_좋아요_수를_덮어쓰지_않음() {
+        likeRecordedLecture.toggleLike(lectureId, students.get(0).getUserId());
+        RecordedLecture stale = recordedLectureRepository.findById(lectureId).orElseThrow();
+        likeEventWriteBehind.flush();
+
+        stale.setTitle("수정된 강의");
+        recordedLectureRepository.save(stale);
+
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 어긋난_좋아요_수_보정() {
+        // 버퍼를 거치지 않고 저장된 좋아요 (반영 전에 종료된 인스턴스와 같은 상황)
+        RecordedLecture lecture = recordedLectureRepository.findById(lectureId).orElseThrow();
+        for (Users student : students.subList(0, 2)) {
+            RecordedLectureLike like = new RecordedLectureLike();
+            like.setLecture(lecture);
+            like.setUser(student);
+            recordedLectureLikeRepository.save(like);
+        }
+        assertThat(likeCount()).isZero();
+        searchOutboxRepository.deleteAllInBatch();
+
+        likeCountReconciler.reconcile();
+
+        assertThat(likeCount()).isEqualTo(2);
+        // 검색 문서의 좋아요 수도 다시 색인
+        assertThat(searchOutboxRepository.findAll()).singleElement()
+            .satisfies(entry -> assertThat(entry.getLectureId()).isEqualTo(lectureId));
+
+        // 이미 맞는 값은 다시 기록하지 않는다
+        likeCountReconciler.reconcile();
+        assertThat(searchOutboxRepository.count()).isEqualTo(1);
+    }
+}
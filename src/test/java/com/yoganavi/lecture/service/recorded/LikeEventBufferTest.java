@@ -0,0 +1,190 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEvent;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventBuffer;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 좋아요 버퍼가 (강의, 사용자)별 마지막 요청만 남기고, 반영 중에도 요청 결과를 보여 주는지 확인
+ */
+class LikeEventBufferTest {
+
+    private RecordingLog likeEventLog;
+    private LikeEventBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        likeEventLog = new RecordingLog();
+        buffer = new LikeEventBuffer(likeEventLog);
+    }
+
+    @Test
+    void 마지막_요청만_남김() {
+        assertThat(buffer.toggle(1L, 2L, () -> false)).isTrue();
+        assertThat(buffer.toggle(1L, 2L, () -> false)).isFalse();
+        assertThat(buffer.toggle(1L, 2L, () -> false)).isTrue();
+        assertThat(buffer.set(1L, 3L, false, () -> false)).isFalse();
+
+        List<LikeEvent> events = buffer.drain();
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLectureId()).isEqualTo(1L);
+        assertThat(events.get(0).getUserId()).isEqualTo(2L);
+        assertThat(events.get(0).isLiked()).isTrue();
+        assertThat(likeEventLog.appended).hasSize(3);
+        assertThat(likeEventLog.rotated).isEqualTo(1);
+    }
+
+    @Test
+    void 반영_중에도_요청_결과가_보임() {
+        buffer.set(1L, 2L, true, () -> false);
+        List<LikeEvent> events = buffer.drain();
+
+        assertThat(buffer.find(1L, 2L)).isTrue();
+        // 반영 중인 상태를 기준으로 다음 요청을 판단한다
+        assertThat(buffer.set(1L, 2L, true, () -> false)).isFalse();
+
+        buffer.complete(events);
+        assertThat(buffer.find(1L, 2L)).isNull();
+    }
+
+    @Test
+    void 버퍼에_없을_때만_DB_상태를_읽음() {
+        AtomicInteger reads = new AtomicInteger();
+        buffer.set(1L, 2L, true, () -> {
+            reads.incrementAndGet();
+            return false;
+        });
+        buffer.set(1L, 2L, false, () -> {
+            reads.incrementAndGet();
+            return false;
+        });
+
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    void DB를_읽는_사이_반영이_끝나면_다시_읽음() {
+        buffer.set(1L, 2L, true, () -> false);
+        List<LikeEvent> events = buffer.drain();
+        buffer.complete(events);
+
+        // 첫 조회는 커밋 전 값을 읽고, 그 사이 다른 요청의 반영이 끝났다
+        AtomicInteger reads = new AtomicInteger();
+        boolean changed = buffer.set(1L, 2L, true, () -> {
+            if (reads.incrementAndGet() == 1) {
+                buffer.set(1L, 2L, false, () -> true);
+                buffer.complete(buffer.drain());
+                buffer.set(1L, 2L, true, () -> false);
+                buffer.complete(buffer.drain());
+                return false;
+            }
+            return true;
+        });
+
+        assertThat(reads).hasValue(2);
+        assertThat(changed).isFalse();
+    }
+
+    @Test
+    void 실패한_반영은_되돌리고_그_사이_요청을_유지() {
+        buffer.set(1L, 2L, true, () -> false);
+        buffer.set(1L, 3L, true, () -> false);
+        List<LikeEvent> events = buffer.drain();
+
+        buffer.set(1L, 2L, false, () -> false);
+        buffer.restore(events);
+
+        List<LikeEvent> retried = buffer.drain();
+        assertThat(retried).hasSize(2);
+        assertThat(retried).anySatisfy(event -> {
+            assertThat(event.getUserId()).isEqualTo(2L);
+            assertThat(event.isLiked()).isFalse();
+        });
+        assertThat(retried).anySatisfy(event -> {
+            assertThat(event.getUserId()).isEqualTo(3L);
+            assertThat(event.isLiked()).isTrue();
+        });
+    }
+
+    @Test
+    void 동시_토글() throws InterruptedException {
+        int threads = 8;
+        int togglesPerThread = 1_001;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<LikeEvent> drained = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            long userId = t;
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    for (int i = 0; i < togglesPerThread; i++) {
+                        buffer.toggle(1L, userId, () -> false);
+                        if (i % 100 == 0) {
+                            synchronized (drained) {
+                                drained.addAll(buffer.drain());
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+
+        // 홀수 번 토글했으므로 모든 사용자가 좋아요 상태로 끝난다
+        for (long userId = 0; userId < threads; userId++) {
+            assertThat(buffer.find(1L, userId)).isTrue();
+        }
+        assertThat(likeEventLog.appended).hasSize(threads * togglesPerThread);
+    }
+
+    private static class RecordingLog implements LikeEventLog {
+
+        private final List<LikeEvent> appended = new ArrayList<>();
+        private int rotated;
+
+        @Override
+        public synchronized long append(LikeEvent event) {
+            appended.add(event);
+            return appended.size();
+        }
+
+        @Override
+        public void awaitDurable(long position) {
+        }
+
+        @Override
+        public synchronized void rotate() {
+            rotated++;
+        }
+
+        @Override
+        public void commit() {
+        }
+
+        @Override
+        public List<LikeEvent> recover() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 같은 좋아요/취소 요청이 동시에 여러 번 와도 행과 좋아요 수가 한 번만 바뀌는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import(InMemoryLikedLectureConfig.class)
+class LikeIdempotencyTest {
+
+    private static final int REQUESTS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ExecutorService executor;
+    private Long studentId;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        Users teacher = createUser(1L, "김강사");
+        studentId = createUser(2L, "이학생").getUserId();
+
+        RecordedLecture lecture = new RecordedLecture();
+        lecture.setUser(teacher);
+        lecture.setTitle("녹화 강의");
+        lecture.setContent("녹화 강의입니다");
+        lectureId = recordedLectureRepository.save(lecture).getId();
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        likeEventWriteBehind.flush();
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    /**
+     * 같은 요청을 동시에 실행하고 상태가 바뀐 요청 수를 반환
+     */
+    private int runConcurrently(BiPredicate<Long, Long> request) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger changed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    ready.await();
+                    if (request.test(lectureId, studentId)) {
+                        changed.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(failed.get()).isZero();
+        return changed.get();
+    }
+
+    private long likeCount() {
+        likeEventWriteBehind.flush();
+        return recordedLectureRepository.findById(lectureId).orElseThrow().getLikeCount();
+    }
+
+    @Test
+    void 동시_좋아요는_한_번만_반영() throws InterruptedException {
+        int changed = runConcurrently(likeRecordedLecture::like);
+
+        assertThat(changed).isEqualTo(1);
+        assertThat(recordedLectureLikeRepository.count()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_좋아요_취소는_한_번만_반영() throws InterruptedException {
+        likeRecordedLecture.like(lectureId, studentId);
+
+        int changed = runConcurrently(likeRecordedLecture::unlike);
+
+        assertThat(changed).isEqualTo(1);
+        assertThat(recordedLectureLikeRepository.count()).isZero();
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    void 상태가_같으면_변경_없음() {
+        assertThat(likeRecordedLecture.unlike(lectureId, studentId)).isFalse();
+        assertThat(likeRecordedLecture.like(lectureId, studentId)).isTrue();
+        assertThat(likeRecordedLecture.like(lectureId, studentId)).isFalse();
+        assertThat(likeRecordedLecture.toggleLike(lectureId, studentId)).isFalse();
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    void 없는_강의() {
+        assertThatThrownBy(() -> likeRecordedLecture.like(lectureId + 1, studentId))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void 없는_사용자() {
+        assertThatThrownBy(() -> likeRecordedLecture.like(lectureId, studentId + 100))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,174 @@
+package com.yoganavi.lecture.service.recorded;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeCountRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 요청 처리량 비교 (이전 방식: 요청마다 트랜잭션 vs 버퍼에 모아서 일괄 반영)
+ * <p>
+ * 강의 LECTURES개에 사용자 USERS명이 THREADS개 스레드로 동시에 좋아요를 누른다. ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "scheduling.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@Import(InMemoryLikedLectureConfig.class)
+class LikeThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeThroughputBenchmark.class);
+
+    private static final int LECTURES = 20;
+    private static final int USERS = 500;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private RecordedLectureLikeCountRepository likeCountRepository;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> lectureIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        List<Users> users = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            Users user = new Users();
+            user.setUserId(userId);
+            user.setNickname("사용자" + userId);
+            user.setIsActive(true);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        lectureIds = new ArrayList<>();
+        for (int i = 0; i < LECTURES; i++) {
+            RecordedLecture lecture = new RecordedLecture();
+            lecture.setUser(users.get(0));
+            lecture.setTitle("벤치마크 강의 " + i);
+            lecture.setContent("벤치마크");
+            lectureIds.add(recordedLectureRepository.save(lecture).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        likeEventWriteBehind.flush();
+        recordedLectureLikeRepository.deleteAllInBatch();
+        recordedLectureRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 좋아요_처리량() throws InterruptedException {
+        // 이전 방식: 요청마다 트랜잭션 하나로 INSERT IGNORE (바뀐 행이 없으면 강의/사용자 존재 확인),
+        // 좋아요 수는 커밋 후 메모리에 모았다가 한 번에 반영
+        Map<Long, LongAdder> likeCounts = new ConcurrentHashMap<>();
+        long direct = run(() -> transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            likeCounts.forEach((lectureId, count) -> deltas.put(lectureId, count.sum()));
+            likeCountRepository.addLikeCounts(deltas);
+        }), (lectureId, userId) -> {
+            Boolean changed = transactionTemplate.execute(status -> {
+                if (recordedLectureLikeRepository.insertLike(lectureId, userId) == 1) {
+                    return true;
+                }
+                recordedLectureRepository.existsById(lectureId);
+                userRepository.existsById(userId);
+                return false;
+            });
+            if (Boolean.TRUE.equals(changed)) {
+                likeCounts.computeIfAbsent(lectureId, id -> new LongAdder()).increment();
+            }
+        });
+        log.info("요청마다 트랜잭션: {}건/초", perSecond(direct));
+
+        recordedLectureLikeRepository.deleteAllInBatch();
+
+        // 버퍼에 기록하고 마지막에 한 번 반영 (반영 시간 포함)
+        long buffered = run(likeEventWriteBehind::flush,
+            (lectureId, userId) -> likeRecordedLecture.like(lectureId, userId));
+        log.info("버퍼 후 일괄 반영: {}건/초", perSecond(buffered));
+    }
+
+    /**
+     * @return 모든 좋아요를 처리하고 afterAll까지 끝내는 데 걸린 시간(ns)
+     */
+    private long run(Runnable afterAll, LikeRequest request) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch done = new CountDownLatch(LECTURES * USERS);
+
+        long start = System.nanoTime();
+        for (Long lectureId : lectureIds) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                long user = userId;
+                executor.execute(() -> {
+                    try {
+                        request.like(lectureId, user);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+        done.await(10, TimeUnit.MINUTES);
+        afterAll.run();
+        long elapsed = System.nanoTime() - start;
+
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private long perSecond(long elapsedNanos) {
+        return (long) LECTURES * USERS * 1_000_000_000L / elapsedNanos;
+    }
+
+    private interface LikeRequest {
+
+        void like(Long lectureId, Long userId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikedLectureStore;
+import com.yoganavi.lecture.recorded_lecture.service.show.ShowRecordedLecture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 목록의 myLike가 사용자의 좋아요 강의 집합 한 번 조회로 채워지고, 반영 전 좋아요와 반영된 좋아요가 모두 보이는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import(InMemoryLikedLectureConfig.class)
+class LikedLectureCacheTest {
+
+    @Autowired
+    private ShowRecordedLecture showRecordedLecture;
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private LikedLectureStore likedLectureStore;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Users student;
+    private List<Long> lectureIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        ((InMemoryLikedLectureStore) likedLectureStore).clear();
+
+        Users teacher = createUser(1L, "김강사");
+        student = createUser(2L, "이학생");
+
+        lectureIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RecordedLecture lecture = new RecordedLecture();
+            lecture.setUser(teacher);
+            lecture.setTitle("녹화 강의 " + i);
+            lecture.setContent("녹화 강의입니다");
+            lectureIds.add(recordedLectureRepository.save(lecture).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        likeEventWriteBehind.flush();
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    private Map<Long, Boolean> myLikes() {
+        return showRecordedLecture.getAllLectures(student.getUserId(), 0, 10, "latest").stream()
+            .collect(Collectors.toMap(LectureDto::getRecordedId, LectureDto::getMyLike));
+    }
+
+    @Test
+    void 목록의_myLike() {
+        likeRecordedLecture.toggleLike(lectureIds.get(0), student.getUserId());
+
+        Map<Long, Boolean> myLikes = myLikes();
+
+        assertThat(myLikes).containsEntry(lectureIds.get(0), true)
+            .containsEntry(lectureIds.get(1), false)
+            .containsEntry(lectureIds.get(2), false);
+    }
+
+    @Test
+    void 좋아요_토글은_DB를_다시_읽지_않고_집합에_반영() {
+        myLikes();
+        assertThat(((InMemoryLikedLectureStore) likedLectureStore).getPutCount()).isEqualTo(1);
+
+        likeRecordedLecture.toggleLike(lectureIds.get(1), student.getUserId());
+        assertThat(myLikes()).containsEntry(lectureIds.get(1), true);
+        likeEventWriteBehind.flush();
+        assertThat(myLikes()).containsEntry(lectureIds.get(1), true);
+
+        likeRecordedLecture.toggleLike(lectureIds.get(1), student.getUserId());
+        assertThat(myLikes()).containsEntry(lectureIds.get(1), false);
+        likeEventWriteBehind.flush();
+        assertThat(myLikes()).containsEntry(lectureIds.get(1), false);
+
+        assertThat(((InMemoryLikedLectureStore) likedLectureStore).getPutCount()).isEqualTo(1);
+    }
+}
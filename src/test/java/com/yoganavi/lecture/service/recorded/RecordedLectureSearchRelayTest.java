@@ -0,0 +1,279 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import com.yoganavi.lecture.common.entity.RecordedLectureSearchOutbox;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureSearchOutboxRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.dto.ChapterDto;
+import com.yoganavi.lecture.recorded_lecture.dto.DeleteDto;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.create.CreateRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.delete.DeleteRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.search.RecordedLectureSearchIndex;
+import com.yoganavi.lecture.recorded_lecture.service.search.RecordedLectureSearchRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강의 변경이 검색 아웃박스를 거쳐 순서대로 검색 색인에 반영되는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import({InMemoryLikedLectureConfig.class, InMemorySearchIndexConfig.class})
+class RecordedLectureSearchRelayTest {
+
+    @Autowired
+    private CreateRecordedLecture createRecordedLecture;
+
+    @Autowired
+    private DeleteRecordedLecture deleteRecordedLecture;
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private RecordedLectureSearchRelay searchRelay;
+
+    @Autowired
+    private RecordedLectureSearchIndex searchIndex;
+
+    @Autowired
+    private RecordedLectureSearchOutboxRepository outboxRepository;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long teacherId;
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        teacherId = createUser(1L, "김강사").getUserId();
+        studentId = createUser(2L, "이학생").getUserId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        likeEventWriteBehind.flush();
+        outboxRepository.deleteAllInBatch();
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+        index().clear();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    private InMemoryRecordedLectureSearchIndex index() {
+        return (InMemoryRecordedLectureSearchIndex) searchIndex;
+    }
+
+    private Long createLecture(String title) {
+        ChapterDto chapter = new ChapterDto();
+        chapter.setChapterTitle("1강");
+        chapter.setChapterDescription("호흡");
+        chapter.setRecordVideo("video-1");
+
+        LectureDto lectureDto = new LectureDto();
+        lectureDto.setUserId(teacherId);
+        lectureDto.setRecordTitle(title);
+        lectureDto.setRecordContent("요가 강의입니다");
+        lectureDto.setRecordThumbnail("thumbnail");
+        lectureDto.setRecordThumbnailSmall("thumbnail-small");
+        lectureDto.setRecordedLectureChapters(List.of(chapter));
+        createRecordedLecture.saveLecture(lectureDto);
+
+        return recordedLectureRepository.findAll().stream()
+            .filter(lecture -> lecture.getTitle().equals(title))
+            .findFirst().orElseThrow().getId();
+    }
+
+    private double lagSeconds() {
+        return meterRegistry.get("recorded.search.outbox.lag.seconds").gauge().value();
+    }
+
+    @Test
+    void 생성과_삭제가_색인에_반영() {
+        Long lectureId = createLecture("아침 요가");
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        assertThat(index().find(lectureId)).isNull();
+
+        searchRelay.relay();
+
+        RecordedLectureDocument document = index().find(lectureId);
+        assertThat(document.getTitle()).isEqualTo("아침 요가");
+        assertThat(document.toLectureDto().getNickname()).isEqualTo("김강사");
+        assertThat(document.getThumbnailSmall()).isEqualTo("thumbnail-small");
+        assertThat(document.getChapters()).hasSize(1);
+        assertThat(outboxRepository.count()).isZero();
+        assertThat(lagSeconds()).isZero();
+        assertThat(index().isWrittenInTransaction()).isFalse();
+
+        DeleteDto deleteDto = new DeleteDto();
+        deleteDto.setLectureIds(List.of(lectureId));
+        deleteRecordedLecture.deleteLectures(deleteDto, teacherId);
+        searchRelay.relay();
+
+        assertThat(index().find(lectureId)).isNull();
+    }
+
+    @Test
+    void 좋아요_수가_색인에_반영() {
+        Long lectureId = createLecture("저녁 요가");
+        searchRelay.relay();
+
+        likeRecordedLecture.like(lectureId, studentId);
+        likeEventWriteBehind.flush();
+        searchRelay.relay();
+
+        assertThat(index().find(lectureId).getLikeCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 이전_버전은_최신_문서를_덮어쓰지_않음() {
+        Long lectureId = createLecture("주말 요가");
+
+        // 더 나중 변경이 먼저 색인된 상황
+        RecordedLectureDocument newer = new RecordedLectureDocument();
+        newer.setId(lectureId);
+        newer.setTitle("더 최신 제목");
+        newer.setVersion(Long.MAX_VALUE);
+        index().put(newer);
+
+        searchRelay.relay();
+
+        assertThat(index().find(lectureId).getTitle()).isEqualTo("더 최신 제목");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 실패하면_재시도() {
+        Long lectureId = createLecture("명상");
+
+        // 재시도 횟수 안에서 실패하면 이번 실행에서 반영
+        index().failNext(2);
+        searchRelay.relay();
+        assertThat(index().find(lectureId)).isNotNull();
+
+        // 재시도를 모두 실패하면 아웃박스를 남겨 다음 실행에서 반영
+        Long nextLectureId = createLecture("명상 2");
+        index().failNext(3);
+        searchRelay.relay();
+        assertThat(index().find(nextLectureId)).isNull();
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        searchRelay.relay();
+        assertThat(index().find(nextLectureId)).isNotNull();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 색인되지_않는_문서는_다른_강의를_막지_않고_재시도를_멈춤() {
+        Long poisonedId = createLecture("요가 기초");
+        Long lectureId = createLecture("요가 심화");
+        index().failAlways(poisonedId);
+
+        // 배치가 실패하면 다음 실행부터 강의별로 따로 반영
+        searchRelay.relay();
+        assertThat(index().find(lectureId)).isNull();
+        searchRelay.relay();
+        assertThat(index().find(lectureId)).isNotNull();
+        assertThat(outboxRepository.findAll()).singleElement()
+            .satisfies(entry -> assertThat(entry.getLectureId()).isEqualTo(poisonedId));
+
+        // 재시도를 기다리는 동안에도 새 변경은 반영
+        Long nextLectureId = createLecture("요가 응용");
+        searchRelay.relay();
+        assertThat(index().find(nextLectureId)).isNotNull();
+
+        // 마지막 재시도까지 실패하면 남겨 두고 더 읽지 않는다
+        jdbcTemplate.update("UPDATE recorded_lecture_search_outbox "
+            + "SET attempts = 11, claimed_until = NULL WHERE lecture_id = ?", poisonedId);
+        searchRelay.relay();
+        RecordedLectureSearchOutbox parked = outboxRepository.findAll().get(0);
+        assertThat(parked.getParkedAt()).isNotNull();
+        assertThat(parked.getAttempts()).isEqualTo(12);
+        assertThat(lagSeconds()).isZero();
+        assertThat(meterRegistry.counter("recorded.search.outbox.parked").count())
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void 다른_인스턴스가_선점한_아웃박스는_만료_전까지_건너뜀() {
+        Long lectureId = createLecture("요가 니드라");
+        List<Long> outboxIds = outboxRepository.findAll().stream()
+            .map(RecordedLectureSearchOutbox::getId)
+            .toList();
+        claim(outboxIds, LocalDateTime.now().plusMinutes(1));
+
+        searchRelay.relay();
+        assertThat(index().find(lectureId)).isNull();
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        // 선점한 인스턴스가 멈춰 선점이 만료되면 가져간다
+        claim(outboxIds, LocalDateTime.now().minusSeconds(1));
+        searchRelay.relay();
+        assertThat(index().find(lectureId)).isNotNull();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 늦게_도착한_이전_버전은_삭제된_문서를_되살리지_않음() {
+        Long lectureId = createLecture("빈야사");
+
+        // 더 나중 변경(삭제)이 먼저 반영된 상황
+        index().delete(Map.of(lectureId, Long.MAX_VALUE));
+
+        searchRelay.relay();
+
+        assertThat(index().find(lectureId)).isNull();
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    private void claim(List<Long> outboxIds, LocalDateTime until) {
+        transactionTemplate.executeWithoutResult(
+            status -> outboxRepository.claim(outboxIds, "other-instance", until));
+    }
+}
@@ -0,0 +1,114 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.lecture.common.document.RecordedLectureDocument;
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.recordedLectureServiceUtil.RecordedLectureServiceUtil;
+import com.yoganavi.lecture.recorded_lecture.service.search.SearchRecordedLectureImpl;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+/**
+ * 검색 결과가 검색 문서만으로 검색 순서대로 만들어지고, myLike는 한 번에 채워지는지 확인
+ */
+class SearchRecordedLectureTest {
+
+    private ElasticsearchOperations elasticsearchOperations;
+    private RecordedLectureServiceUtil recordedLectureServiceUtil;
+    private SearchRecordedLectureImpl searchRecordedLecture;
+
+    @BeforeEach
+    void setUp() {
+        elasticsearchOperations = mock(ElasticsearchOperations.class);
+        recordedLectureServiceUtil = mock(RecordedLectureServiceUtil.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.existsById(2L)).thenReturn(true);
+
+        searchRecordedLecture = new SearchRecordedLectureImpl(recordedLectureServiceUtil,
+            userRepository, elasticsearchOperations);
+    }
+
+    private RecordedLectureDocument document(long id, long likeCount) {
+        Users teacher = new Users();
+        teacher.setUserId(1L);
+        teacher.setNickname("김강사");
+
+        RecordedLecture lecture = new RecordedLecture();
+        lecture.setId(id);
+        lecture.setUser(teacher);
+        lecture.setTitle("요가 강의 " + id);
+        lecture.setContent("요가 강의입니다");
+        lecture.setThumbnail("thumbnail-" + id);
+        lecture.setThumbnailSmall("thumbnail-small-" + id);
+        lecture.setLikeCount(likeCount);
+        lecture.setCreatedDate(LocalDateTime.of(2024, 1, 1, 10, 0));
+        return RecordedLectureDocument.from(lecture);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenHits(RecordedLectureDocument... documents) {
+        List<SearchHit<RecordedLectureDocument>> hits = new ArrayList<>();
+        for (RecordedLectureDocument document : documents) {
+            SearchHit<RecordedLectureDocument> hit = mock(SearchHit.class);
+            when(hit.getContent()).thenReturn(document);
+            hits.add(hit);
+        }
+        SearchHits<RecordedLectureDocument> searchHits = mock(SearchHits.class);
+        when(searchHits.iterator()).thenAnswer(invocation -> hits.iterator());
+        when(elasticsearchOperations.search(any(Query.class), eq(RecordedLectureDocument.class)))
+            .thenReturn(searchHits);
+    }
+
+    @Test
+    void 검색_순서대로_문서로_결과_생성() {
+        givenHits(document(3L, 7L), document(1L, 2L), document(2L, 0L));
+        doAnswer(invocation -> {
+            List<LectureDto> lectures = invocation.getArgument(0);
+            lectures.get(1).setMyLike(true);
+            return null;
+        }).when(recordedLectureServiceUtil).applyMyLike(anyList(), eq(2L));
+
+        List<LectureDto> results = searchRecordedLecture.searchLectures(2L, "요가", "relevance",
+            0, 10, true, true);
+
+        assertThat(results).extracting(LectureDto::getRecordedId).containsExactly(3L, 1L, 2L);
+        assertThat(results).extracting(LectureDto::getMyLike).containsExactly(false, true, false);
+
+        LectureDto first = results.get(0);
+        assertThat(first.getNickname()).isEqualTo("김강사");
+        assertThat(first.getRecordThumbnail()).isEqualTo("thumbnail-3");
+        assertThat(first.getRecordThumbnailSmall()).isEqualTo("thumbnail-small-3");
+        assertThat(first.getLikeCount()).isEqualTo(7L);
+
+        verify(recordedLectureServiceUtil, times(1)).applyMyLike(anyList(), eq(2L));
+    }
+
+    @Test
+    void 결과가_없으면_좋아요_조회_안_함() {
+        givenHits();
+
+        assertThat(searchRecordedLecture.searchLectures(2L, "요가", "latest", 0, 10, true,
+            false)).isEmpty();
+
+        verify(recordedLectureServiceUtil, times(0)).applyMyLike(anyList(), eq(2L));
+    }
+}
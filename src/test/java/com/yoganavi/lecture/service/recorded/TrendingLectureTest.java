@@ -0,0 +1,180 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.yoganavi.lecture.common.entity.RecordedLecture;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.RecordedLectureLikeRepository;
+import com.yoganavi.lecture.common.repository.RecordedLectureRepository;
+import com.yoganavi.lecture.common.repository.UserRepository;
+import com.yoganavi.lecture.recorded_lecture.dto.LectureDto;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEvent;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeEventWriteBehind;
+import com.yoganavi.lecture.recorded_lecture.service.like.LikeRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.show.ShowRecordedLecture;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingLectureRanking;
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingScoreStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 인기 급상승 순이 최근 좋아요를 더 크게 반영하고, 재조정 후에도 순서를 유지하는지 확인
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Import(InMemoryLikedLectureConfig.class)
+class TrendingLectureTest {
+
+    private static final long HALF_LIFE_MILLIS = 24L * 60 * 60 * 1000;
+
+    @Autowired
+    private ShowRecordedLecture showRecordedLecture;
+
+    @Autowired
+    private LikeRecordedLecture likeRecordedLecture;
+
+    @Autowired
+    private LikeEventWriteBehind likeEventWriteBehind;
+
+    @Autowired
+    private TrendingLectureRanking trendingLectureRanking;
+
+    @Autowired
+    private TrendingScoreStore trendingScoreStore;
+
+    @Autowired
+    private RecordedLectureRepository recordedLectureRepository;
+
+    @Autowired
+    private RecordedLectureLikeRepository recordedLectureLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<Long> studentIds;
+    private List<Long> lectureIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        ((InMemoryTrendingScoreStore) trendingScoreStore).clear();
+
+        Users teacher = createUser(1L, "김강사");
+        studentIds = new ArrayList<>();
+        for (long userId = 2; userId <= 4; userId++) {
+            studentIds.add(createUser(userId, "학생" + userId).getUserId());
+        }
+
+        lectureIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            RecordedLecture lecture = new RecordedLecture();
+            lecture.setUser(teacher);
+            lecture.setTitle("녹화 강의 " + i);
+            lecture.setContent("녹화 강의입니다");
+            lectureIds.add(recordedLectureRepository.save(lecture).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        likeEventWriteBehind.flush();
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Users createUser(Long userId, String nickname) {
+        Users user = new Users();
+        user.setUserId(userId);
+        user.setNickname(nickname);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    private void like(int lecture, int students) {
+        for (int i = 0; i < students; i++) {
+            likeRecordedLecture.like(lectureIds.get(lecture), studentIds.get(i));
+        }
+        likeEventWriteBehind.flush();
+    }
+
+    private List<Long> trending() {
+        return showRecordedLecture.getAllLectures(studentIds.get(0), 0, 10, "trending").stream()
+            .map(LectureDto::getRecordedId)
+            .toList();
+    }
+
+    @Test
+    void 최근_좋아요가_많은_순() {
+        like(0, 1);
+        like(1, 3);
+
+        assertThat(trending()).containsExactly(lectureIds.get(1), lectureIds.get(0));
+    }
+
+    @Test
+    void 오래된_좋아요는_감쇠() {
+        // 반감기 3번 전에 받은 좋아요 4개는 지금 좋아요 1개의 절반 가치
+        trendingScoreStore.add(Map.of(lectureIds.get(0), 4L),
+            System.currentTimeMillis() - 3 * HALF_LIFE_MILLIS, HALF_LIFE_MILLIS, 0);
+        like(1, 1);
+
+        assertThat(trending()).containsExactly(lectureIds.get(1), lectureIds.get(0));
+
+        trendingLectureRanking.rescale();
+
+        InMemoryTrendingScoreStore store = (InMemoryTrendingScoreStore) trendingScoreStore;
+        assertThat(store.getScore(lectureIds.get(1))).isCloseTo(1.0, within(0.01));
+        assertThat(store.getScore(lectureIds.get(0))).isCloseTo(0.5, within(0.01));
+        assertThat(trending()).containsExactly(lectureIds.get(1), lectureIds.get(0));
+    }
+
+    @Test
+    void 취소한_좋아요는_순위에서_제거() {
+        like(0, 1);
+        likeRecordedLecture.unlike(lectureIds.get(0), studentIds.get(0));
+        likeEventWriteBehind.flush();
+
+        assertThat(trending()).isEmpty();
+    }
+
+    @Test
+    void 오래된_좋아요를_취소해도_남은_좋아요는_순위에_유지() {
+        // given: 반감기 3번 전에 받은 좋아요 2개, 지금 좋아요 1개
+        trendingScoreStore.add(Map.of(lectureIds.get(0), 2L),
+            System.currentTimeMillis() - 3 * HALF_LIFE_MILLIS, HALF_LIFE_MILLIS, 0);
+        like(1, 1);
+
+        // when: 오래된 좋아요 하나 취소 (지금 가중치 8을 빼면 점수가 음수가 된다)
+        trendingLectureRanking.liked(List.of(
+            new LikeEvent(lectureIds.get(0), studentIds.get(0), false)));
+
+        // then: 남은 좋아요의 평균 가중치만 빠진다
+        InMemoryTrendingScoreStore store = (InMemoryTrendingScoreStore) trendingScoreStore;
+        assertThat(store.getScore(lectureIds.get(0))).isCloseTo(1.0, within(0.01));
+        assertThat(trending()).containsExactly(lectureIds.get(1), lectureIds.get(0));
+
+        trendingLectureRanking.liked(List.of(
+            new LikeEvent(lectureIds.get(0), studentIds.get(1), false)));
+        assertThat(trending()).containsExactly(lectureIds.get(1));
+    }
+
+    @Test
+    void 삭제된_강의는_순위에서_제거() {
+        like(0, 1);
+        like(1, 2);
+        recordedLectureLikeRepository.deleteAll();
+        recordedLectureRepository.deleteById(lectureIds.get(1));
+
+        assertThat(trending()).containsExactly(lectureIds.get(0));
+        assertThat(((InMemoryTrendingScoreStore) trendingScoreStore).getScore(lectureIds.get(1)))
+            .isNull();
+    }
+}
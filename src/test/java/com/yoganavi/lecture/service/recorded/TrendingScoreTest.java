@@ -0,0 +1,66 @@
+package com.yoganavi.lecture.service.recorded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.yoganavi.lecture.recorded_lecture.service.trending.TrendingScore;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Redis 저장소와 테스트용 저장소가 함께 쓰는 인기 급상승 점수 계산 확인
+ */
+class TrendingScoreTest {
+
+    private static final long HALF_LIFE_MILLIS = 24L * 60 * 60 * 1000;
+    private static final double MIN_SCORE = 1.0 / 128;
+
+    @Test
+    void 반감기마다_좋아요_가중치가_두_배() {
+        assertThat(TrendingScore.weight(0, 0, HALF_LIFE_MILLIS)).isEqualTo(1.0);
+        assertThat(TrendingScore.weight(0, 2 * HALF_LIFE_MILLIS, HALF_LIFE_MILLIS))
+            .isEqualTo(4.0);
+        assertThat(TrendingScore.decayFactor(0, HALF_LIFE_MILLIS, HALF_LIFE_MILLIS))
+            .isEqualTo(0.5);
+    }
+
+    @Test
+    void 취소는_남은_좋아요의_평균_가중치만큼_뺌() {
+        // 가중치 1인 좋아요와 가중치 4인 좋아요, 어느 쪽이 취소되었는지는 알 수 없다
+        TrendingScore score = new TrendingScore(0, 0).apply(1, 1.0).apply(1, 4.0);
+
+        TrendingScore unliked = score.apply(-1, 4.0);
+
+        assertThat(unliked.getLikes()).isEqualTo(1);
+        assertThat(unliked.getScore()).isCloseTo(2.5, within(1e-9));
+        assertThat(unliked.isRanked(MIN_SCORE)).isTrue();
+    }
+
+    @Test
+    void 점수에_없는_좋아요의_취소는_무시() {
+        TrendingScore score = new TrendingScore(0, 0).apply(-1, 1.0);
+
+        assertThat(score.getLikes()).isZero();
+        assertThat(score.getScore()).isZero();
+        assertThat(score.isRanked(MIN_SCORE)).isFalse();
+    }
+
+    @Test
+    void 좋아요보다_많은_취소는_남은_좋아요까지만_뺌() {
+        TrendingScore score = new TrendingScore(0, 0).apply(2, 1.0).apply(-3, 1.0);
+
+        assertThat(score.getLikes()).isZero();
+        assertThat(score.getScore()).isZero();
+        assertThat(score.isRanked(MIN_SCORE)).isFalse();
+    }
+
+    @Test
+    void 재조정으로_최소_점수_미만이_되면_순위에서_뺌() {
+        TrendingScore score = new TrendingScore(0, 0).apply(1, 1.0);
+
+        double factor = TrendingScore.decayFactor(0, 8 * HALF_LIFE_MILLIS, HALF_LIFE_MILLIS);
+
+        assertThat(score.decay(factor).getLikes()).isEqualTo(1);
+        assertThat(score.decay(factor).isRanked(MIN_SCORE)).isFalse();
+        assertThat(score.decay(factor * 2).isRanked(MIN_SCORE)).isTrue();
+    }
+}
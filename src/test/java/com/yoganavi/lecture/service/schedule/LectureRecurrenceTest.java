@@ -0,0 +1,92 @@
+package com.yoganavi.lecture.service.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.yoganavi.lecture.common.entity.LectureRecurrence;
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LectureRecurrenceTest {
+
+    private LocalDate monday;
+    private LiveLectures lecture;
+
+    @BeforeEach
+    void setUp() {
+        monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        // 1년짜리 월/수/금 강의
+        lecture = new LiveLectures();
+        lecture.setRecurrence(LectureRecurrence.of(monday, monday.plusYears(1).minusDays(1),
+            LocalTime.of(10, 0), LocalTime.of(11, 0),
+            List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)));
+    }
+
+    @Test
+    void 요청한_구간의_일정만_생성() {
+        List<LectureSchedule> created = lecture.materializeUntil(monday.plusWeeks(2).minusDays(1),
+            LocalDateTime.now());
+
+        assertThat(created).hasSize(6);
+        assertThat(lecture.getSchedules()).hasSize(6);
+        assertThat(lecture.getRecurrence().getMaterializedUntil())
+            .isEqualTo(monday.plusWeeks(2).minusDays(1));
+    }
+
+    @Test
+    void 이어서_생성하면_중복_없이_다음_구간만_추가() {
+        lecture.materializeUntil(monday.plusWeeks(1).minusDays(1), LocalDateTime.now());
+        List<LectureSchedule> created = lecture.materializeUntil(monday.plusWeeks(2).minusDays(1),
+            LocalDateTime.now());
+
+        assertThat(created).hasSize(3);
+        assertThat(created.get(0).getLectureDate()).isEqualTo(monday.plusWeeks(1));
+        assertThat(lecture.getSchedules()).hasSize(6);
+    }
+
+    @Test
+    void 취소된_날짜는_건너뜀() {
+        lecture.cancelOccurrence(monday.plusDays(2));
+
+        List<LectureSchedule> created = lecture.materializeUntil(monday.plusWeeks(1).minusDays(1),
+            LocalDateTime.now());
+
+        assertThat(created).extracting(LectureSchedule::getLectureDate)
+            .containsExactly(monday, monday.plusDays(4));
+    }
+
+    @Test
+    void 생성_범위_밖의_일정도_수강_신청_시_생성() {
+        lecture.materializeUntil(monday.plusWeeks(1).minusDays(1), LocalDateTime.now());
+        LocalDate later = monday.plusWeeks(20);
+
+        LectureSchedule schedule = lecture.materializeOccurrence(later);
+
+        assertThat(schedule.getStartTime()).isEqualTo(later.atTime(10, 0));
+        assertThat(lecture.materializeOccurrence(later)).isSameAs(schedule);
+        // 이후 범위를 늘려도 같은 날짜의 일정은 다시 만들지 않는다
+        lecture.materializeUntil(later, LocalDateTime.now());
+        assertThat(lecture.getSchedules()).filteredOn(s -> s.getLectureDate().equals(later))
+            .hasSize(1);
+    }
+
+    @Test
+    void 강의_요일이_아닌_날짜는_생성_불가() {
+        assertThrows(IllegalArgumentException.class,
+            () -> lecture.materializeOccurrence(monday.plusDays(1)));
+    }
+
+    @Test
+    void 요일_코드_변환() {
+        assertThat(lecture.getRecurrence().getAvailableDay()).isEqualTo("MON,WED,FRI");
+    }
+}
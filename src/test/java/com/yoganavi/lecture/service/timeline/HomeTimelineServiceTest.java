@@ -0,0 +1,222 @@
+package com.yoganavi.lecture.service.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.yoganavi.lecture.common.entity.LectureSchedule;
+import com.yoganavi.lecture.common.entity.LiveLectures;
+import com.yoganavi.lecture.common.entity.Users;
+import com.yoganavi.lecture.common.repository.HomeFeedRepository;
+import com.yoganavi.lecture.common.repository.MyLiveLectureRepository;
+import com.yoganavi.lecture.live_lecture.dto.HomeResponseDto;
+import com.yoganavi.lecture.live_lecture.service.push.LivePushService;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineConsistencyChecker;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineServiceImpl;
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineStore;
+import com.yoganavi.lecture.live_lecture.service.timeline.TimelineDiff;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HomeTimelineServiceTest {
+
+    private static final Long TEACHER_ID = 1L;
+    private static final Long STUDENT_ID = 2L;
+
+    @Mock
+    private HomeFeedRepository homeFeedRepository;
+    @Mock
+    private MyLiveLectureRepository myLiveLectureRepository;
+    @Mock
+    private LivePushService livePushService;
+
+    private InMemoryHomeTimelineStore timelineStore;
+    private HomeTimelineServiceImpl homeTimelineService;
+
+    private LocalDateTime now;
+    // MySQL에 있는 일정 (scheduleId -> 홈 응답)
+    private Map<Long, HomeResponseDto> schedules;
+
+    @BeforeEach
+    void setUp() {
+        timelineStore = new InMemoryHomeTimelineStore();
+        homeTimelineService = new HomeTimelineServiceImpl(timelineStore, homeFeedRepository,
+            myLiveLectureRepository, livePushService);
+
+        now = LocalDateTime.of(2025, 3, 10, 12, 0);
+        schedules = new HashMap<>();
+        addSchedule(1L, now.minusHours(5), now.minusHours(4)); // 종료
+        addSchedule(2L, now.minusHours(1), now.plusHours(1));  // 진행 중
+        addSchedule(3L, now.plusHours(1), now.plusHours(2));
+        addSchedule(4L, now.plusHours(2), now.plusHours(3));
+        addSchedule(5L, now.plusHours(3), now.plusHours(4));
+        addSchedule(6L, now.plusDays(1), now.plusDays(1).plusHours(1));
+
+        when(homeFeedRepository.findByScheduleIds(anyLong(), anyCollection(), any()))
+            .thenAnswer(invocation -> {
+                Collection<Long> ids = invocation.getArgument(1);
+                LocalDateTime at = invocation.getArgument(2);
+                return ids.stream()
+                    .map(schedules::get)
+                    .filter(row -> row != null && row.getEndTime() > HomeTimelineStore.score(at))
+                    .toList();
+            });
+        when(homeFeedRepository.findUpcomingScheduleStarts(anyLong(), any()))
+            .thenAnswer(invocation -> upcomingStarts());
+    }
+
+    @Test
+    @DisplayName("타임라인이 없으면 MySQL에서 재구성한 뒤 조회한다")
+    void rebuildWhenMissing() {
+        List<HomeResponseDto> result = homeTimelineService.getHomeData(TEACHER_ID, now, 0, 10);
+
+        assertThat(timelineStore.isBuilt(TEACHER_ID)).isTrue();
+        assertThat(scheduleIds(result)).containsExactly(2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 일정과 시작 전 일정이 페이지 경계를 넘어도 순서대로 나뉜다")
+    void pagesAcrossActiveAndUpcoming() {
+        timelineStore.replace(TEACHER_ID, scores(1L, 2L, 3L, 4L, 5L, 6L), null);
+
+        List<Long> first = scheduleIds(homeTimelineService.getHomeData(TEACHER_ID, now, 0, 2));
+        List<Long> second = scheduleIds(homeTimelineService.getHomeData(TEACHER_ID, now, 2, 2));
+        List<Long> third = scheduleIds(homeTimelineService.getHomeData(TEACHER_ID, now, 4, 2));
+
+        assertThat(first).containsExactly(2L, 3L);
+        assertThat(second).containsExactly(4L, 5L);
+        assertThat(third).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 시작하는 일정은 MySQL과 같은 (startTime, scheduleId) 순서로 나뉜다")
+    void tiesFollowDatabaseOrder() {
+        schedules.clear();
+        LocalDateTime start = now.plusHours(1);
+        for (long scheduleId : new long[]{9L, 10L, 100L, 11L, 2L}) {
+            addSchedule(scheduleId, start, start.plusHours(1));
+        }
+        addSchedule(1L, start.plusHours(1), start.plusHours(2));
+        timelineStore.replace(TEACHER_ID, scores(schedules.keySet().toArray(Long[]::new)), null);
+
+        // MySQL의 ORDER BY start_time, schedule_id 순서
+        List<Long> databaseOrder = schedules.values().stream()
+            .sorted(Comparator.comparing(HomeResponseDto::getScheduleStartTime)
+                .thenComparing(HomeResponseDto::getScheduleId))
+            .map(HomeResponseDto::getScheduleId)
+            .toList();
+
+        List<Long> paged = new ArrayList<>();
+        for (int offset = 0; offset < schedules.size(); offset += 2) {
+            paged.addAll(scheduleIds(homeTimelineService.getHomeData(TEACHER_ID, now, offset, 2)));
+        }
+
+        assertThat(databaseOrder).containsExactly(2L, 9L, 10L, 11L, 100L, 1L);
+        assertThat(paged).isEqualTo(databaseOrder);
+        assertThat(timelineStore.range(TEACHER_ID, 0, Long.MAX_VALUE, 0, -1))
+            .isEqualTo(databaseOrder);
+    }
+
+    @Test
+    @DisplayName("MySQL에서 사라진 일정은 조회 중 타임라인에서 제거된다")
+    void removeDeletedSchedule() {
+        timelineStore.replace(TEACHER_ID, scores(3L, 4L, 5L), null);
+        schedules.remove(4L);
+
+        List<HomeResponseDto> result = homeTimelineService.getHomeData(TEACHER_ID, now, 0, 10);
+
+        assertThat(scheduleIds(result)).containsExactly(3L, 5L);
+        assertThat(timelineStore.range(TEACHER_ID, 0, Long.MAX_VALUE, 0, -1))
+            .containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("강의 일정 변경은 강사와 수강생 타임라인에 반영된다")
+    void fanOutScheduleChange() {
+        timelineStore.replace(TEACHER_ID, scores(3L), null);
+        timelineStore.replace(STUDENT_ID, scores(3L), null);
+        when(myLiveLectureRepository.findActiveUserIdsByLiveId(10L))
+            .thenReturn(List.of(STUDENT_ID));
+
+        Users teacher = new Users();
+        teacher.setUserId(TEACHER_ID);
+        LiveLectures lecture = new LiveLectures();
+        lecture.setLiveId(10L);
+        lecture.setUser(teacher);
+        LectureSchedule schedule = new LectureSchedule();
+        schedule.setScheduleId(7L);
+        schedule.setStartTime(LocalDateTime.now().plusDays(1));
+        schedule.setEndTime(LocalDateTime.now().plusDays(1).plusHours(1));
+        lecture.getSchedules().add(schedule);
+
+        homeTimelineService.onSchedulesChanged(lecture, List.of(3L));
+
+        assertThat(timelineStore.range(TEACHER_ID, 0, Long.MAX_VALUE, 0, -1)).containsExactly(7L);
+        assertThat(timelineStore.range(STUDENT_ID, 0, Long.MAX_VALUE, 0, -1)).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 누락/잔존 일정을 찾고 재구성한다")
+    void consistencyCheckAndRepair() {
+        // 검사는 현재 시각 기준이므로 미래 일정으로 구성
+        schedules.clear();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        addSchedule(11L, base, base.plusHours(1));
+        addSchedule(12L, base.plusHours(2), base.plusHours(3));
+        timelineStore.replace(TEACHER_ID, Map.of(11L, HomeTimelineStore.score(base),
+            99L, HomeTimelineStore.score(base)), null);
+
+        HomeTimelineConsistencyChecker checker = new HomeTimelineConsistencyChecker(
+            timelineStore, homeTimelineService, homeFeedRepository);
+        TimelineDiff diff = checker.check(TEACHER_ID);
+
+        assertThat(diff.getMissing()).containsExactly(12L);
+        assertThat(diff.getStale()).containsExactly(99L);
+        assertThat(checker.repair(TEACHER_ID)).isTrue();
+        assertThat(checker.check(TEACHER_ID).isConsistent()).isTrue();
+    }
+
+    private void addSchedule(Long scheduleId, LocalDateTime start, LocalDateTime end) {
+        schedules.put(scheduleId, new HomeResponseDto(scheduleId, 10L, "김강사", null, null,
+            "테스트 강의", "테스트", start, end, "Mon", 10, true, false));
+    }
+
+    private Map<Long, LocalDateTime> upcomingStarts() {
+        Map<Long, LocalDateTime> starts = new HashMap<>();
+        schedules.forEach((scheduleId, row) -> {
+            if (row.getEndTime() > HomeTimelineStore.score(now)) {
+                starts.put(scheduleId, row.getScheduleStartTime());
+            }
+        });
+        return starts;
+    }
+
+    private Map<Long, Long> scores(Long... scheduleIds) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (Long scheduleId : scheduleIds) {
+            scores.put(scheduleId, schedules.get(scheduleId).getStartTime());
+        }
+        return scores;
+    }
+
+    private List<Long> scheduleIds(List<HomeResponseDto> rows) {
+        return rows.stream().map(HomeResponseDto::getScheduleId).toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.yoganavi.lecture.service.timeline;
+
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineStore;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 통합 테스트에서 Redis 없이 홈 타임라인을 사용하기 위한 설정
+ */
+@TestConfiguration
+public class InMemoryHomeTimelineConfig {
+
+    @Bean
+    @Primary
+    public HomeTimelineStore inMemoryHomeTimelineStore() {
+        return new InMemoryHomeTimelineStore();
+    }
+}
@@ -0,0 +1,88 @@
+package com.yoganavi.lecture.service.timeline;
+
+import com.yoganavi.lecture.live_lecture.service.timeline.HomeTimelineStore;
+import com.yoganavi.lecture.live_lecture.service.timeline.RedisHomeTimelineStore;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 홈 타임라인 저장소, Redis ZSET과 같은 순서(점수, 멤버 문자열)로 정렬한다.
+ */
+public class InMemoryHomeTimelineStore implements HomeTimelineStore {
+
+    private static final Comparator<Entry<Long, Long>> ZSET_ORDER = Comparator
+        .comparing((Entry<Long, Long> entry) -> entry.getValue())
+        .thenComparing(entry -> RedisHomeTimelineStore.member(entry.getKey()));
+
+    private final Map<Long, Map<Long, Long>> timelines = new ConcurrentHashMap<>();
+    private final Set<Long> built = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isBuilt(Long userId) {
+        return built.contains(userId);
+    }
+
+    @Override
+    public void replace(Long userId, Map<Long, Long> entries, Duration ttl) {
+        timelines.put(userId, new ConcurrentHashMap<>(entries));
+        built.add(userId);
+    }
+
+    @Override
+    public void add(Collection<Long> userIds, Map<Long, Long> entries) {
+        for (Long userId : userIds) {
+            timeline(userId).putAll(entries);
+        }
+    }
+
+    @Override
+    public void remove(Collection<Long> userIds, Collection<Long> scheduleIds) {
+        for (Long userId : userIds) {
+            timeline(userId).keySet().removeAll(new HashSet<>(scheduleIds));
+        }
+    }
+
+    @Override
+    public void trim(Long userId, long maxScore) {
+        timeline(userId).values().removeIf(score -> score <= maxScore);
+    }
+
+    @Override
+    public List<Long> range(Long userId, long minScore, long maxScore, long offset, long count) {
+        return timeline(userId).entrySet().stream()
+            .filter(entry -> entry.getValue() >= minScore && entry.getValue() <= maxScore)
+            .sorted(ZSET_ORDER)
+            .skip(offset)
+            .limit(count < 0 ? Long.MAX_VALUE : count)
+            .map(Entry::getKey)
+            .toList();
+    }
+
+    @Override
+    public Map<Long, Long> entries(Long userId, long minScore, long maxScore) {
+        Map<Long, Long> entries = new HashMap<>();
+        timeline(userId).forEach((scheduleId, score) -> {
+            if (score >= minScore && score <= maxScore) {
+                entries.put(scheduleId, score);
+            }
+        });
+        return entries;
+    }
+
+    public void clear() {
+        timelines.clear();
+        built.clear();
+    }
+
+    private Map<Long, Long> timeline(Long userId) {
+        return timelines.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+    }
+}